@@ -0,0 +1,109 @@
+package clofi.runningplanet.auth.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 폐기된 토큰 패밀리를 블룸 필터로 먼저 걸러내고, 필터를 통과한 경우에만 정확한 집합을 확인한다.
+// 폐기된 패밀리의 액세스 토큰은 액세스 토큰 유효 기간이 지나면 모두 만료되므로 그때까지만 보관한다.
+@Component
+public class TokenRevocationFilter {
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+
+	private final Duration accessTokenTtl;
+	private final Clock clock;
+	private final int bitSize;
+	private final int hashCount;
+	private final Map<String, Instant> revokedUntil = new ConcurrentHashMap<>();
+
+	private volatile AtomicLongArray bits;
+
+	@Autowired
+	public TokenRevocationFilter(@Value("${auth.revocation.expected-insertions:10000}") int expectedInsertions,
+		@Value("${custom.jwt.access-token-ttl:30m}") Duration accessTokenTtl) {
+		this(expectedInsertions, accessTokenTtl, Clock.systemDefaultZone());
+	}
+
+	TokenRevocationFilter(int expectedInsertions, Duration accessTokenTtl, Clock clock) {
+		this.accessTokenTtl = accessTokenTtl;
+		this.clock = clock;
+		this.bitSize = Math.max(64,
+			(int)Math.ceil(-expectedInsertions * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2))));
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+		this.bits = new AtomicLongArray((bitSize + 63) / 64);
+	}
+
+	public void revoke(String familyId) {
+		Instant until = clock.instant().plus(accessTokenTtl);
+		revokedUntil.merge(familyId, until, (prev, next) -> next.isAfter(prev) ? next : prev);
+		setBits(bits, familyId);
+	}
+
+	public boolean isRevoked(String familyId) {
+		if (familyId == null || !mightContain(familyId)) {
+			return false;
+		}
+		Instant until = revokedUntil.get(familyId);
+		return until != null && until.isAfter(clock.instant());
+	}
+
+	// 다른 노드에서 폐기된 패밀리를 반영하고, 만료된 항목을 정리하면서 블룸 필터를 다시 만든다.
+	public synchronized void rebuild(Collection<String> revokedFamilyIds) {
+		revokedFamilyIds.forEach(this::revoke);
+		Instant now = clock.instant();
+		revokedUntil.values().removeIf(until -> !until.isAfter(now));
+
+		AtomicLongArray rebuilt = new AtomicLongArray(bits.length());
+		revokedUntil.keySet().forEach(familyId -> setBits(rebuilt, familyId));
+		bits = rebuilt;
+		// 교체 중에 추가된 항목이 빠지지 않도록 다시 반영한다.
+		revokedUntil.keySet().forEach(familyId -> setBits(bits, familyId));
+	}
+
+	public int size() {
+		return revokedUntil.size();
+	}
+
+	private boolean mightContain(String familyId) {
+		AtomicLongArray current = bits;
+		long hash = hash(familyId);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		for (int i = 0; i < hashCount; i++) {
+			int index = Math.floorMod(h1 + i * h2, bitSize);
+			if ((current.get(index >>> 6) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void setBits(AtomicLongArray target, String familyId) {
+		long hash = hash(familyId);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		for (int i = 0; i < hashCount; i++) {
+			int index = Math.floorMod(h1 + i * h2, bitSize);
+			long mask = 1L << index;
+			target.getAndUpdate(index >>> 6, word -> word | mask);
+		}
+	}
+
+	// FNV-1a 64비트 해시
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,76 @@
+package clofi.runningplanet.auth.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import clofi.runningplanet.auth.cookie.RefreshTokenCookieManager;
+import clofi.runningplanet.auth.dto.request.RefreshTokenRequest;
+import clofi.runningplanet.auth.dto.response.TokenResponse;
+import clofi.runningplanet.auth.service.RefreshTokenService;
+import clofi.runningplanet.common.exception.ForbiddenException;
+import clofi.runningplanet.common.exception.UnauthorizedException;
+import clofi.runningplanet.security.jwt.JwtToken;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+// 브라우저는 쿠키로 리프레시 토큰을 보내고, 쿠키가 없으면 기존처럼 요청 본문의 토큰을 사용한다.
+// 쿠키를 쓰는 요청은 다른 사이트의 폼 전송과 구분되도록 CORS 사전 요청이 필요한 커스텀 헤더를 요구한다.
+@RestController
+@RequiredArgsConstructor
+public class AuthController {
+	private static final String REQUESTED_WITH_HEADER = "X-Requested-With";
+
+	private final RefreshTokenService refreshTokenService;
+	private final RefreshTokenCookieManager refreshTokenCookieManager;
+
+	@PostMapping("/api/auth/refresh")
+	public ResponseEntity<TokenResponse> refresh(
+		@CookieValue(name = RefreshTokenCookieManager.COOKIE_NAME, required = false) String cookieToken,
+		@RequestHeader(name = REQUESTED_WITH_HEADER, required = false) String requestedWith,
+		@RequestBody(required = false) @Valid RefreshTokenRequest refreshTokenRequest,
+		HttpServletResponse response
+	) {
+		if (cookieToken == null) {
+			return ResponseEntity.ok(new TokenResponse(refreshTokenService.rotate(bodyToken(refreshTokenRequest))));
+		}
+		validateRequestedWith(requestedWith);
+		JwtToken jwt = refreshTokenService.rotate(cookieToken);
+		refreshTokenCookieManager.write(response, jwt.getRefreshToken());
+		return ResponseEntity.ok(new TokenResponse(jwt.getAccessToken(), null));
+	}
+
+	@PostMapping("/api/auth/logout")
+	public ResponseEntity<Void> logout(
+		@CookieValue(name = RefreshTokenCookieManager.COOKIE_NAME, required = false) String cookieToken,
+		@RequestHeader(name = REQUESTED_WITH_HEADER, required = false) String requestedWith,
+		@RequestBody(required = false) @Valid RefreshTokenRequest refreshTokenRequest,
+		HttpServletResponse response
+	) {
+		if (cookieToken == null) {
+			refreshTokenService.revoke(bodyToken(refreshTokenRequest));
+		} else {
+			validateRequestedWith(requestedWith);
+			refreshTokenService.revoke(cookieToken);
+		}
+		refreshTokenCookieManager.expire(response);
+		return ResponseEntity.ok().build();
+	}
+
+	private static void validateRequestedWith(String requestedWith) {
+		if (requestedWith == null || requestedWith.isBlank()) {
+			throw new ForbiddenException("쿠키로 인증하는 요청에는 " + REQUESTED_WITH_HEADER + " 헤더가 필요합니다.");
+		}
+	}
+
+	private static String bodyToken(RefreshTokenRequest refreshTokenRequest) {
+		if (refreshTokenRequest == null) {
+			throw new UnauthorizedException("리프레시 토큰이 없습니다.");
+		}
+		return refreshTokenRequest.refreshToken();
+	}
+}
@@ -0,0 +1,44 @@
+package clofi.runningplanet.auth.cookie;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// 리프레시 토큰은 스크립트와 URL에 노출되지 않도록 인증 API 경로로 제한한 HttpOnly 쿠키로만 전달한다.
+@Component
+public class RefreshTokenCookieManager {
+	public static final String COOKIE_NAME = "refreshToken";
+	private static final String COOKIE_PATH = "/api/auth";
+
+	private final Duration refreshTokenTtl;
+	private final String sameSite;
+
+	public RefreshTokenCookieManager(@Value("${custom.jwt.refresh-token-ttl:14d}") Duration refreshTokenTtl,
+		@Value("${custom.jwt.refresh-cookie.same-site:Lax}") String sameSite) {
+		this.refreshTokenTtl = refreshTokenTtl;
+		this.sameSite = sameSite;
+	}
+
+	public void write(HttpServletResponse response, String refreshToken) {
+		response.addHeader(HttpHeaders.SET_COOKIE, create(refreshToken, refreshTokenTtl).toString());
+	}
+
+	public void expire(HttpServletResponse response) {
+		response.addHeader(HttpHeaders.SET_COOKIE, create("", Duration.ZERO).toString());
+	}
+
+	private ResponseCookie create(String value, Duration maxAge) {
+		return ResponseCookie.from(COOKIE_NAME, value)
+			.httpOnly(true)
+			.secure(true)
+			.sameSite(sameSite)
+			.path(COOKIE_PATH)
+			.maxAge(maxAge)
+			.build();
+	}
+}
@@ -0,0 +1,55 @@
+package clofi.runningplanet.auth.domain;
+
+import java.time.LocalDateTime;
+
+import clofi.runningplanet.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_refresh_token_family_id", columnList = "family_id"))
+public class RefreshToken extends BaseEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "refresh_token_id", nullable = false)
+	private Long id;
+
+	@Column(name = "token_hash", nullable = false, unique = true, length = 64)
+	private String tokenHash;
+
+	@Column(name = "member_id", nullable = false)
+	private Long memberId;
+
+	@Column(name = "family_id", nullable = false, length = 36)
+	private String familyId;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Column(name = "used", nullable = false)
+	private boolean used;
+
+	@Column(name = "revoked_at")
+	private LocalDateTime revokedAt;
+
+	public RefreshToken(String tokenHash, Long memberId, String familyId, LocalDateTime expiresAt) {
+		this.tokenHash = tokenHash;
+		this.memberId = memberId;
+		this.familyId = familyId;
+		this.expiresAt = expiresAt;
+	}
+
+	public boolean isActive(LocalDateTime now) {
+		return revokedAt == null && expiresAt.isAfter(now);
+	}
+}
@@ -0,0 +1,9 @@
+package clofi.runningplanet.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+	@NotBlank
+	String refreshToken
+) {
+}
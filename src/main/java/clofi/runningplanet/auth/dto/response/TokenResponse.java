@@ -0,0 +1,12 @@
+package clofi.runningplanet.auth.dto.response;
+
+import clofi.runningplanet.security.jwt.JwtToken;
+
+public record TokenResponse(
+	String accessToken,
+	String refreshToken
+) {
+	public TokenResponse(JwtToken jwtToken) {
+		this(jwtToken.getAccessToken(), jwtToken.getRefreshToken());
+	}
+}
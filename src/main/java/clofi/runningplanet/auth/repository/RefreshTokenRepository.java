@@ -0,0 +1,32 @@
+package clofi.runningplanet.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import clofi.runningplanet.auth.domain.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+	Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update RefreshToken rt set rt.used = true where rt.id = :id and rt.used = false")
+	int markUsed(@Param("id") Long id);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update RefreshToken rt set rt.revokedAt = :now where rt.familyId = :familyId and rt.revokedAt is null")
+	int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+	@Query("select distinct rt.familyId from RefreshToken rt where rt.revokedAt > :since")
+	List<String> findFamilyIdsRevokedAfter(@Param("since") LocalDateTime since);
+
+	@Modifying
+	@Query("delete from RefreshToken rt where rt.expiresAt < :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,114 @@
+package clofi.runningplanet.auth.service;
+
+import static clofi.runningplanet.common.utils.HashUtils.*;
+import static clofi.runningplanet.common.utils.TransactionUtils.*;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import clofi.runningplanet.auth.cache.TokenRevocationFilter;
+import clofi.runningplanet.auth.domain.RefreshToken;
+import clofi.runningplanet.auth.repository.RefreshTokenRepository;
+import clofi.runningplanet.common.exception.UnauthorizedException;
+import clofi.runningplanet.security.jwt.JWTUtil;
+import clofi.runningplanet.security.jwt.JwtToken;
+import lombok.extern.slf4j.Slf4j;
+
+// 리프레시 토큰은 해시만 저장하고, 사용할 때마다 같은 패밀리의 새 토큰으로 교체한다.
+// 이미 사용된 토큰이 다시 들어오면 탈취로 보고 패밀리 전체를 폐기한다.
+@Slf4j
+@Service
+public class RefreshTokenService {
+	private static final int TOKEN_BYTES = 32;
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final TokenRevocationFilter tokenRevocationFilter;
+	private final JWTUtil jwtUtil;
+	private final Duration accessTokenTtl;
+	private final Duration refreshTokenTtl;
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+		TokenRevocationFilter tokenRevocationFilter, JWTUtil jwtUtil,
+		@Value("${custom.jwt.access-token-ttl:30m}") Duration accessTokenTtl,
+		@Value("${custom.jwt.refresh-token-ttl:14d}") Duration refreshTokenTtl) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.tokenRevocationFilter = tokenRevocationFilter;
+		this.jwtUtil = jwtUtil;
+		this.accessTokenTtl = accessTokenTtl;
+		this.refreshTokenTtl = refreshTokenTtl;
+	}
+
+	@Transactional
+	public JwtToken issue(Long memberId) {
+		return issue(memberId, UUID.randomUUID().toString());
+	}
+
+	@Transactional(noRollbackFor = UnauthorizedException.class)
+	public JwtToken rotate(String refreshToken) {
+		RefreshToken stored = refreshTokenRepository.findByTokenHash(sha256Hex(refreshToken))
+			.orElseThrow(() -> new UnauthorizedException("유효하지 않은 리프레시 토큰입니다."));
+		if (!stored.isActive(LocalDateTime.now())) {
+			throw new UnauthorizedException("만료된 리프레시 토큰입니다.");
+		}
+		if (refreshTokenRepository.markUsed(stored.getId()) == 0) {
+			log.warn("refresh token reuse detected. memberId={}, familyId={}", stored.getMemberId(),
+				stored.getFamilyId());
+			revokeFamily(stored.getFamilyId());
+			throw new UnauthorizedException("이미 사용된 리프레시 토큰입니다.");
+		}
+		return issue(stored.getMemberId(), stored.getFamilyId());
+	}
+
+	@Transactional
+	public void revoke(String refreshToken) {
+		refreshTokenRepository.findByTokenHash(sha256Hex(refreshToken))
+			.ifPresent(stored -> revokeFamily(stored.getFamilyId()));
+	}
+
+	// 다른 노드에서 폐기한 패밀리도 주기적으로 반영한다.
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${auth.revocation.refresh-interval-ms:30000}",
+		initialDelayString = "${auth.revocation.refresh-interval-ms:30000}")
+	@Transactional(readOnly = true)
+	public void refreshRevocations() {
+		LocalDateTime since = LocalDateTime.now().minus(accessTokenTtl);
+		tokenRevocationFilter.rebuild(refreshTokenRepository.findFamilyIdsRevokedAfter(since));
+	}
+
+	@Scheduled(cron = "${auth.refresh-token.cleanup-cron:0 30 4 * * *}")
+	@Transactional
+	public void deleteExpiredTokens() {
+		int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now().minus(accessTokenTtl));
+		log.info("expired refresh tokens deleted. count={}", deleted);
+	}
+
+	private JwtToken issue(Long memberId, String familyId) {
+		byte[] randomBytes = new byte[TOKEN_BYTES];
+		secureRandom.nextBytes(randomBytes);
+		String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+		refreshTokenRepository.save(new RefreshToken(sha256Hex(refreshToken), memberId, familyId,
+			LocalDateTime.now().plus(refreshTokenTtl)));
+
+		return JwtToken.builder()
+			.accessToken(jwtUtil.createAccessToken(memberId, familyId, accessTokenTtl))
+			.refreshToken(refreshToken)
+			.build();
+	}
+
+	private void revokeFamily(String familyId) {
+		refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+		afterCommit(() -> tokenRevocationFilter.revoke(familyId));
+	}
+}
@@ -39,9 +39,7 @@ public class BoardFactory {
 	public void update(Crew crew, Board board, UpdateBoardRequest updateBoardRequest, List<MultipartFile> imageFile) {
 		board.updateBoard(updateBoardRequest.getTitle(), updateBoardRequest.getContent());
 		List<BoardImage> imgList = boardImageRepository.findAllByBoard(board);
-		for (BoardImage boardImage : imgList) {
-			s3StorageManagerUseCase.deleteImages(boardImage.getImageUrl());
-		}
+		s3StorageManagerUseCase.deleteImages(imgList.stream().map(BoardImage::getImageUrl).toList());
 		boardImageRepository.deleteAllByBoard(board);
 		List<String> imageUrl = s3StorageManagerUseCase.uploadImages(imageFile);
 		insertImage(board, imageUrl);
@@ -58,9 +56,7 @@ public class BoardFactory {
 
 	public void delete(Board board) {
 		List<BoardImage> imgList = boardImageRepository.findAllByBoard(board);
-		for (BoardImage boardImage : imgList) {
-			s3StorageManagerUseCase.deleteImages(boardImage.getImageUrl());
-		}
+		s3StorageManagerUseCase.deleteImages(imgList.stream().map(BoardImage::getImageUrl).toList());
 		boardImageRepository.deleteAllByBoard(board);
 		commentRepository.deleteAllByBoard(board);
 		thumbsUpRepository.deleteAllByBoard(board);
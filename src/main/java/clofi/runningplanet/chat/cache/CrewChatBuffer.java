@@ -0,0 +1,64 @@
+package clofi.runningplanet.chat.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import clofi.runningplanet.chat.dto.response.ChatListResponse;
+import clofi.runningplanet.chat.dto.response.ChatMessageResponse;
+
+// 크루의 최근 채팅을 chatId 오름차순으로 보관하는 고정 크기 링 버퍼
+class CrewChatBuffer {
+	private final ChatMessageResponse[] messages;
+	private int head;
+	private int count;
+	private boolean complete;
+
+	CrewChatBuffer(int capacity, boolean complete) {
+		this.messages = new ChatMessageResponse[capacity];
+		this.complete = complete;
+	}
+
+	// 순서가 어긋난 채팅이 들어오면 false 를 반환해 버퍼를 다시 적재하도록 한다.
+	synchronized boolean append(ChatMessageResponse message) {
+		if (count > 0 && message.chatId() <= get(count - 1).chatId()) {
+			return contains(message.chatId());
+		}
+		if (count == messages.length) {
+			complete = false;
+		} else {
+			count++;
+		}
+		messages[head] = message;
+		head = (head + 1) % messages.length;
+		return true;
+	}
+
+	// 버퍼에 없는 이전 채팅이 필요하면 빈 값을 반환한다.
+	synchronized Optional<ChatListResponse> latest(int size) {
+		if (size > count && !complete) {
+			return Optional.empty();
+		}
+
+		int resultSize = Math.min(size, count);
+		List<ChatMessageResponse> chatList = new ArrayList<>(resultSize);
+		for (int i = count - 1; i >= count - resultSize; i--) {
+			chatList.add(get(i));
+		}
+		return Optional.of(new ChatListResponse(chatList, size < count || !complete));
+	}
+
+	private ChatMessageResponse get(int index) {
+		int oldest = (head - count + messages.length) % messages.length;
+		return messages[(oldest + index) % messages.length];
+	}
+
+	private boolean contains(Long chatId) {
+		for (int i = count - 1; i >= 0; i--) {
+			if (get(i).chatId().equals(chatId)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
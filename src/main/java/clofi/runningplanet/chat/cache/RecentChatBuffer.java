@@ -0,0 +1,64 @@
+package clofi.runningplanet.chat.cache;
+
+import static clofi.runningplanet.common.utils.TransactionUtils.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import clofi.runningplanet.chat.domain.Chat;
+import clofi.runningplanet.chat.dto.response.ChatListResponse;
+import clofi.runningplanet.chat.dto.response.ChatMessageResponse;
+import clofi.runningplanet.chat.repository.ChatRepository;
+
+@Component
+public class RecentChatBuffer {
+	private static final int MAXIMUM_SIZE = 10_000;
+
+	private final ChatRepository chatRepository;
+	private final int capacity;
+	private final Cache<Long, CrewChatBuffer> buffers;
+
+	public RecentChatBuffer(ChatRepository chatRepository, @Value("${chat.recent.capacity:50}") int capacity,
+		@Value("${chat.recent.idle-ttl:30m}") Duration idleTtl) {
+		this.chatRepository = chatRepository;
+		this.capacity = capacity;
+		this.buffers = Caffeine.newBuilder()
+			.expireAfterAccess(idleTtl)
+			.maximumSize(MAXIMUM_SIZE)
+			.build();
+	}
+
+	public Optional<ChatListResponse> findLatest(Long crewId, int size) {
+		if (size > capacity) {
+			return Optional.empty();
+		}
+		return buffers.get(crewId, this::load).latest(size);
+	}
+
+	// 아직 적재되지 않은 크루는 첫 조회 시 DB 에서 적재하므로 건너뛴다.
+	public void append(Long crewId, ChatMessageResponse message) {
+		afterCommit(() -> buffers.asMap().computeIfPresent(crewId,
+			(key, buffer) -> buffer.append(message) ? buffer : null));
+	}
+
+	private CrewChatBuffer load(Long crewId) {
+		Slice<Chat> chatSlice = chatRepository.findByCrewIdOrderByIdDesc(crewId, PageRequest.of(0, capacity));
+		CrewChatBuffer buffer = new CrewChatBuffer(capacity, !chatSlice.hasNext());
+
+		List<Chat> chats = chatSlice.getContent();
+		for (int i = chats.size() - 1; i >= 0; i--) {
+			buffer.append(ChatMessageResponse.of(chats.get(i)));
+		}
+		return buffer;
+	}
+
+}
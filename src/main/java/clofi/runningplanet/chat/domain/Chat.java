@@ -12,8 +12,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +25,7 @@ import lombok.NoArgsConstructor;
 @SQLDelete(sql = "update chat set deleted_at = now() where chat_id = ?")
 @SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_chat_crew_id_chat_id", columnList = "crew_id, chat_id"))
 @Entity
 public class Chat extends BaseSoftDeleteEntity {
 	@Id
@@ -41,6 +44,9 @@ public class Chat extends BaseSoftDeleteEntity {
 	@Column(name = "content", nullable = false, length = 255)
 	private String content;
 
+	@Column(name = "message_key", unique = true, length = 36)
+	private String messageKey;
+
 	@Builder
 	public Chat(Long id, Member member, Crew crew, String content) {
 		this.id = id;
@@ -0,0 +1,13 @@
+package clofi.runningplanet.chat.domain;
+
+import java.time.LocalDateTime;
+
+public record PendingChat(
+	String messageKey,
+	Long crewId,
+	Long memberId,
+	String nickname,
+	String content,
+	LocalDateTime createdAt
+) {
+}
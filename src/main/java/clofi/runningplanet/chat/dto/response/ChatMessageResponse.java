@@ -2,9 +2,28 @@ package clofi.runningplanet.chat.dto.response;
 
 import java.time.LocalDateTime;
 
+import clofi.runningplanet.chat.domain.Chat;
+import clofi.runningplanet.chat.domain.PendingChat;
+
+// 실시간으로 전송되는 채팅은 아직 저장 전이라 chatId가 없으므로, 목록 조회 결과와는 messageKey로 맞춘다.
 public record ChatMessageResponse(
+	Long chatId,
 	String from,
 	String message,
-	LocalDateTime time
+	LocalDateTime time,
+	String messageKey
 ) {
+
+	public static ChatMessageResponse of(Chat chat) {
+		return new ChatMessageResponse(chat.getId(), chat.getMember().getNickname(), chat.getContent(),
+			chat.getCreatedAt(), chat.getMessageKey());
+	}
+
+	public static ChatMessageResponse of(PendingChat chat) {
+		return of(null, chat);
+	}
+
+	public static ChatMessageResponse of(Long chatId, PendingChat chat) {
+		return new ChatMessageResponse(chatId, chat.nickname(), chat.content(), chat.createdAt(), chat.messageKey());
+	}
 }
@@ -0,0 +1,70 @@
+package clofi.runningplanet.chat.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import clofi.runningplanet.chat.domain.PendingChat;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class ChatJdbcRepository {
+
+	private static final String INSERT_CHAT = "INSERT INTO chat "
+		+ "(member_id, crew_id, content, message_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Transactional
+	public List<Long> batchInsert(List<PendingChat> chats) {
+		if (chats.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return jdbcTemplate.execute((ConnectionCallback<List<Long>>)connection -> {
+			try (PreparedStatement ps = connection.prepareStatement(INSERT_CHAT, Statement.RETURN_GENERATED_KEYS)) {
+				for (PendingChat chat : chats) {
+					Timestamp createdAt = Timestamp.valueOf(chat.createdAt());
+					ps.setLong(1, chat.memberId());
+					ps.setLong(2, chat.crewId());
+					ps.setString(3, chat.content());
+					ps.setString(4, chat.messageKey());
+					ps.setTimestamp(5, createdAt);
+					ps.setTimestamp(6, createdAt);
+					ps.addBatch();
+				}
+				ps.executeBatch();
+
+				List<Long> ids = new ArrayList<>(chats.size());
+				try (ResultSet keys = ps.getGeneratedKeys()) {
+					while (keys.next()) {
+						ids.add(keys.getLong(1));
+					}
+				}
+				return ids;
+			}
+		});
+	}
+
+	public Set<String> findExistingMessageKeys(List<String> messageKeys) {
+		if (messageKeys.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return new HashSet<>(new NamedParameterJdbcTemplate(jdbcTemplate).queryForList(
+			"SELECT message_key FROM chat WHERE message_key IN (:messageKeys)",
+			new MapSqlParameterSource("messageKeys", messageKeys), String.class));
+	}
+}
@@ -1,26 +1,30 @@
 package clofi.runningplanet.chat.service;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import clofi.runningplanet.chat.cache.RecentChatBuffer;
 import clofi.runningplanet.chat.domain.Chat;
+import clofi.runningplanet.chat.domain.PendingChat;
 import clofi.runningplanet.chat.dto.request.ChatMessageRequest;
 import clofi.runningplanet.chat.dto.response.ChatListResponse;
 import clofi.runningplanet.chat.dto.response.ChatMessageResponse;
+import clofi.runningplanet.chat.dto.response.DataResponse;
 import clofi.runningplanet.chat.repository.ChatRepository;
-import clofi.runningplanet.crew.domain.Crew;
-import clofi.runningplanet.crew.repository.CrewMemberRepository;
-import clofi.runningplanet.crew.repository.CrewRepository;
-import clofi.runningplanet.member.domain.Member;
-import clofi.runningplanet.member.repository.MemberRepository;
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
+import clofi.runningplanet.member.cache.MemberNicknameCache;
+import clofi.runningplanet.socket.CrewDestination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,58 +35,78 @@ import lombok.extern.slf4j.Slf4j;
 public class ChatService {
 
 	private final ChatRepository chatRepository;
-	private final MemberRepository memberRepository;
-	private final CrewRepository crewRepository;
-	private final CrewMemberRepository crewMemberRepository;
+	private final MemberNicknameCache memberNicknameCache;
+	private final CrewMembershipCache crewMembershipCache;
+	private final RecentChatBuffer recentChatBuffer;
+	private final ChatWriteBehindQueue chatWriteBehindQueue;
+	private final SimpMessageSendingOperations messagingTemplate;
 
-	public ChatMessageResponse saveChatMessage(Long memberId, Long crewId, ChatMessageRequest chatMessageRequest) {
+	// 채팅은 스필 파일에 기록한 뒤 바로 크루 채널로 전송하고, DB 저장은 ChatWriteBehindQueue가 나중에 묶어서 한다.
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public void saveChatMessage(Long memberId, Long crewId, ChatMessageRequest chatMessageRequest) {
 
-		Member member = getMember(memberId, chatMessageRequest);
-		Crew crew = getCrew(crewId);
 		validateMemberIsInCrew(memberId, crewId);
+		validateSender(memberId, chatMessageRequest);
 
-		Chat chat = Chat.builder()
-			.member(member)
-			.crew(crew)
-			.content(chatMessageRequest.message())
-			.build();
-
-		Chat saveChat = chatRepository.save(chat);
-
-		return new ChatMessageResponse(chatMessageRequest.from(), chatMessageRequest.message(), saveChat.getCreatedAt());
+		PendingChat chat = new PendingChat(UUID.randomUUID().toString(), crewId, memberId, chatMessageRequest.from(),
+			chatMessageRequest.message(), LocalDateTime.now());
+		chatWriteBehindQueue.enqueue(chat);
+		broadcast(chat);
 	}
 
-	public ChatListResponse getChatMessages(Long memberId, Long crewId, String lastChatTimestamp, int size) {
+	@Transactional(readOnly = true)
+	public ChatListResponse getChatMessages(Long memberId, Long crewId, Long lastChatId, int size) {
 
 		validateMemberIsInCrew(memberId, crewId);
 		validateSizeIsPositive(size);
 
-		Pageable pageable = PageRequest.of(0, size, Sort.by("createdAt").descending());
-		Page<Chat> chatPage;
+		if (lastChatId == null) {
+			Optional<ChatListResponse> latestChats = recentChatBuffer.findLatest(crewId, size);
+			if (latestChats.isPresent()) {
+				return latestChats.get();
+			}
+		}
 
-		chatPage = getChatPageByCrewIdAndLastChatTimestamp(crewId, lastChatTimestamp, pageable);
+		Pageable pageable = PageRequest.of(0, size);
+		Slice<Chat> chatSlice = getChatSliceByCrewIdAndLastChatId(crewId, lastChatId, pageable);
 
-		List<ChatMessageResponse> chatList = getChatList(chatPage);
+		List<ChatMessageResponse> chatList = getChatList(chatSlice);
 
-		boolean existsNextPage = chatPage.hasNext();
+		boolean existsNextPage = chatSlice.hasNext();
 
 		return new ChatListResponse(chatList, existsNextPage);
 	}
 
 
-	private Member getMember(Long memberId, ChatMessageRequest chatMessageRequest) {
-		return memberRepository.findByIdAndNickname(memberId, chatMessageRequest.from())
-			.orElseThrow(() -> new RuntimeException("일치하는 사용자가 없습니다."));
+	private void validateSender(Long memberId, ChatMessageRequest chatMessageRequest) {
+		if (isSender(memberId, chatMessageRequest)) {
+			return;
+		}
+		// 다른 노드에서 닉네임이 바뀌었을 수 있으므로 캐시를 비우고 한 번 더 확인한다.
+		memberNicknameCache.evict(memberId);
+		if (!isSender(memberId, chatMessageRequest)) {
+			throw new RuntimeException("일치하는 사용자가 없습니다.");
+		}
 	}
 
-	private Crew getCrew(Long crewId) {
-		return crewRepository.findById(crewId)
-			.orElseThrow(() -> new RuntimeException("일치하는 크루가 없습니다."));
+	private boolean isSender(Long memberId, ChatMessageRequest chatMessageRequest) {
+		return memberNicknameCache.find(memberId)
+			.filter(nickname -> nickname.equals(chatMessageRequest.from()))
+			.isPresent();
+	}
+
+	// 채팅은 이미 저장 대기열에 들어갔으므로 전송에 실패해도 요청을 실패시키지 않는다.
+	private void broadcast(PendingChat chat) {
+		try {
+			messagingTemplate.convertAndSend(CrewDestination.CHAT.of(chat.crewId()),
+				new DataResponse<>(ChatMessageResponse.of(chat)));
+		} catch (MessagingException e) {
+			log.warn("failed to broadcast chat. crewId={}, messageKey={}", chat.crewId(), chat.messageKey(), e);
+		}
 	}
 
 	private void validateMemberIsInCrew(Long memberId, Long crewId) {
-		boolean memberInCrew = crewMemberRepository.findByCrewIdAndMemberId(crewId, memberId).isPresent();
-		if(!memberInCrew) {
+		if (!crewMembershipCache.isMember(crewId, memberId)) {
 			throw new RuntimeException("해당 사용자는 크루에 속해 있지 않습니다.");
 		}
 	}
@@ -93,21 +117,16 @@ public class ChatService {
 		}
 	}
 
-	private Page<Chat> getChatPageByCrewIdAndLastChatTimestamp(Long crewId, String lastChatTimestamp, Pageable pageable) {
-		Page<Chat> chatPage;
-		if (lastChatTimestamp == null) {
-			chatPage = chatRepository.findByCrewId(crewId, pageable);
-		} else {
-			LocalDateTime lastChatDateTime = LocalDateTime.parse(lastChatTimestamp);
-
-			chatPage = chatRepository.findByCrewIdAndCreatedAtLessThan(crewId, lastChatDateTime, pageable);
+	private Slice<Chat> getChatSliceByCrewIdAndLastChatId(Long crewId, Long lastChatId, Pageable pageable) {
+		if (lastChatId == null) {
+			return chatRepository.findByCrewIdOrderByIdDesc(crewId, pageable);
 		}
-		return chatPage;
+		return chatRepository.findByCrewIdAndIdLessThanOrderByIdDesc(crewId, lastChatId, pageable);
 	}
 
-	private static List<ChatMessageResponse> getChatList(Page<Chat> chatPage) {
-		return chatPage.stream()
-			.map(chat -> new ChatMessageResponse(chat.getMember().getNickname(), chat.getContent(), chat.getCreatedAt()))
+	private static List<ChatMessageResponse> getChatList(Slice<Chat> chatSlice) {
+		return chatSlice.stream()
+			.map(ChatMessageResponse::of)
 			.toList();
 	}
 }
@@ -0,0 +1,380 @@
+package clofi.runningplanet.chat.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import clofi.runningplanet.chat.cache.RecentChatBuffer;
+import clofi.runningplanet.chat.domain.PendingChat;
+import clofi.runningplanet.chat.dto.response.ChatMessageResponse;
+import clofi.runningplanet.chat.repository.ChatJdbcRepository;
+import clofi.runningplanet.common.exception.InternalServerException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 채팅은 로컬 스필 파일에 기록한 뒤 바로 응답하고, 주기적으로 묶어서 저장한다.
+// 인스턴스마다 잠금 파일을 가진 디렉토리를 사용하고, 잠금이 풀린 디렉토리는 비정상 종료로 보고 다시 저장한다.
+@Slf4j
+@Component
+public class ChatWriteBehindQueue {
+	private static final String OWNER_LOCK = "owner.lock";
+	private static final String SEGMENT_PREFIX = "chat-";
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private final ChatJdbcRepository chatJdbcRepository;
+	private final RecentChatBuffer recentChatBuffer;
+	private final ObjectMapper objectMapper;
+	private final Path spillDir;
+	private final Path ownDir;
+	private final Duration flushInterval;
+	private final Duration enqueueTimeout;
+	private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+		runnable -> new Thread(runnable, "chat-write-behind"));
+
+	// 저장되지 않은 채팅 수를 제한해 DB 장애 시 메모리와 디스크가 무한히 늘어나지 않게 한다.
+	private final Semaphore capacity;
+	// 크루별로 스필 파일을 나눠 기록해 모든 채팅이 하나의 잠금을 기다리지 않게 한다.
+	private final List<Stripe> stripes;
+	private final AtomicLong segmentSeq = new AtomicLong();
+	// flush는 JDBC 저장이 끝날 때까지 잠금을 잡고 있으므로 synchronized 대신 ReentrantLock을 쓴다.
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final Deque<SpilledBatch> unflushed = new ArrayDeque<>();
+	private FileChannel ownerChannel;
+
+	public ChatWriteBehindQueue(ChatJdbcRepository chatJdbcRepository, RecentChatBuffer recentChatBuffer,
+		ObjectMapper objectMapper,
+		@Value("${chat.write-behind.spill-dir:${java.io.tmpdir}/running-planet/chat-spill}") String spillDir,
+		@Value("${chat.write-behind.flush-interval:20ms}") Duration flushInterval,
+		@Value("${chat.write-behind.capacity:10000}") int capacity,
+		@Value("${chat.write-behind.enqueue-timeout:200ms}") Duration enqueueTimeout,
+		@Value("${chat.write-behind.stripes:8}") int stripes) {
+		this.chatJdbcRepository = chatJdbcRepository;
+		this.recentChatBuffer = recentChatBuffer;
+		this.objectMapper = objectMapper;
+		this.spillDir = Paths.get(spillDir);
+		this.ownDir = this.spillDir.resolve(UUID.randomUUID().toString());
+		this.flushInterval = flushInterval;
+		this.enqueueTimeout = enqueueTimeout;
+		this.capacity = new Semaphore(capacity);
+		this.stripes = IntStream.range(0, stripes).mapToObj(i -> new Stripe()).toList();
+	}
+
+	@PostConstruct
+	public void start() throws IOException {
+		Files.createDirectories(ownDir);
+		ownerChannel = FileChannel.open(ownDir.resolve(OWNER_LOCK), StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE);
+		ownerChannel.lock();
+		recoverAbandoned();
+		for (Stripe stripe : stripes) {
+			stripe.open();
+		}
+		flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+			TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException, IOException {
+		flusher.shutdown();
+		flusher.awaitTermination(5, TimeUnit.SECONDS);
+		flush();
+		for (Stripe stripe : stripes) {
+			stripe.close();
+		}
+		// 저장하지 못한 채팅이 남아 있으면 디렉토리를 남겨 다음 기동 시 다시 저장한다.
+		ownerChannel.close();
+		if (unflushed.isEmpty()) {
+			Files.deleteIfExists(ownDir.resolve(OWNER_LOCK));
+			deleteIfEmpty(ownDir);
+		}
+	}
+
+	// 대기열이 가득 차면 잠시 기다리고, 그래도 자리가 나지 않으면 채팅을 받지 않는다.
+	public void enqueue(PendingChat chat) {
+		acquireCapacity();
+		try {
+			stripeOf(chat).append(chat, toLine(chat));
+		} catch (RuntimeException e) {
+			capacity.release();
+			throw e;
+		}
+	}
+
+	// 저장에 실패한 묶음은 스필 파일과 함께 남겨 두고 다음 주기에 순서대로 다시 저장한다.
+	public void flush() {
+		flushLock.lock();
+		try {
+			rotate();
+			while (!unflushed.isEmpty()) {
+				SpilledBatch batch = unflushed.peekFirst();
+				save(batch.chats());
+				for (Path segment : batch.segments()) {
+					Files.deleteIfExists(segment);
+				}
+				unflushed.pollFirst();
+				capacity.release(batch.chats().size());
+			}
+		} catch (IOException | RuntimeException e) {
+			log.error("chat write-behind flush failed. pendingBatches={}", unflushed.size(), e);
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void rotate() throws IOException {
+		List<Path> segments = new ArrayList<>();
+		List<PendingChat> chats = new ArrayList<>();
+		try {
+			for (Stripe stripe : stripes) {
+				stripe.rotate(segments, chats);
+			}
+		} finally {
+			if (!chats.isEmpty()) {
+				unflushed.addLast(new SpilledBatch(segments, chats));
+			}
+		}
+	}
+
+	private void save(List<PendingChat> chats) {
+		List<Long> chatIds = insert(chats);
+		for (int i = 0; i < chats.size(); i++) {
+			PendingChat chat = chats.get(i);
+			if (chatIds.get(i) != null) {
+				recentChatBuffer.append(chat.crewId(), ChatMessageResponse.of(chatIds.get(i), chat));
+			}
+		}
+	}
+
+	// 탈퇴한 크루원 등으로 저장할 수 없는 채팅이 섞여 있으면 한 건씩 저장하고 해당 채팅만 버린다.
+	private List<Long> insert(List<PendingChat> chats) {
+		try {
+			return chatJdbcRepository.batchInsert(chats);
+		} catch (DataIntegrityViolationException e) {
+			List<Long> chatIds = new ArrayList<>(chats.size());
+			for (PendingChat chat : chats) {
+				chatIds.add(insertOne(chat));
+			}
+			return chatIds;
+		}
+	}
+
+	private Long insertOne(PendingChat chat) {
+		try {
+			return chatJdbcRepository.batchInsert(List.of(chat)).get(0);
+		} catch (DataIntegrityViolationException e) {
+			log.warn("drop chat that cannot be saved. crewId={}, memberId={}, messageKey={}", chat.crewId(),
+				chat.memberId(), chat.messageKey());
+			return null;
+		}
+	}
+
+	private void recoverAbandoned() throws IOException {
+		List<Path> dirs;
+		try (Stream<Path> files = Files.list(spillDir)) {
+			dirs = files.filter(Files::isDirectory).filter(dir -> !dir.equals(ownDir)).toList();
+		}
+		for (Path dir : dirs) {
+			Path ownerLock = dir.resolve(OWNER_LOCK);
+			if (!Files.exists(ownerLock)) {
+				continue;
+			}
+			try (FileChannel channel = FileChannel.open(ownerLock, StandardOpenOption.WRITE);
+				 FileLock acquired = tryLock(channel)) {
+				if (acquired != null) {
+					recover(dir);
+				}
+			}
+			deleteIfEmpty(dir);
+		}
+	}
+
+	private void recover(Path dir) throws IOException {
+		List<Path> segments;
+		try (Stream<Path> files = Files.list(dir)) {
+			segments = files.filter(this::isSegment).sorted().toList();
+		}
+		for (Path spilled : segments) {
+			try {
+				List<PendingChat> chats = readSegment(spilled);
+				Set<String> savedKeys = chatJdbcRepository.findExistingMessageKeys(
+					chats.stream().map(PendingChat::messageKey).toList());
+				insert(chats.stream()
+					.filter(chat -> !savedKeys.contains(chat.messageKey()))
+					.toList());
+				Files.delete(spilled);
+				log.info("recovered spilled chats. file={}, chats={}", spilled, chats.size());
+			} catch (IOException e) {
+				Files.move(spilled, spilled.resolveSibling(spilled.getFileName() + ".failed"),
+					StandardCopyOption.REPLACE_EXISTING);
+				log.error("failed to read spilled chats. file={}", spilled, e);
+			} catch (RuntimeException e) {
+				log.error("failed to recover spilled chats. retry on next start. dir={}", dir, e);
+				return;
+			}
+		}
+		Files.deleteIfExists(dir.resolve(OWNER_LOCK));
+	}
+
+	private List<PendingChat> readSegment(Path spilled) throws IOException {
+		List<PendingChat> chats = new ArrayList<>();
+		for (String line : Files.readAllLines(spilled, StandardCharsets.UTF_8)) {
+			if (line.isBlank()) {
+				continue;
+			}
+			try {
+				chats.add(objectMapper.readValue(line, PendingChat.class));
+			} catch (JsonProcessingException e) {
+				// 기록 도중 종료되어 잘린 마지막 줄은 응답하지 않은 채팅이므로 버린다.
+				log.warn("skip broken spilled chat. file={}", spilled);
+			}
+		}
+		return chats;
+	}
+
+	private void acquireCapacity() {
+		try {
+			if (!capacity.tryAcquire(enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				log.warn("chat write-behind queue is full. pendingBatches={}", unflushed.size());
+				throw new InternalServerException();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InternalServerException();
+		}
+	}
+
+	// 같은 크루의 채팅은 항상 같은 파일에 기록되어 순서가 유지된다.
+	private Stripe stripeOf(PendingChat chat) {
+		return stripes.get(Math.floorMod(chat.crewId().hashCode(), stripes.size()));
+	}
+
+	private boolean isSegment(Path path) {
+		String fileName = path.getFileName().toString();
+		return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+	}
+
+	private byte[] toLine(PendingChat chat) {
+		try {
+			return (objectMapper.writeValueAsString(chat) + "\n").getBytes(StandardCharsets.UTF_8);
+		} catch (JsonProcessingException e) {
+			throw new InternalServerException();
+		}
+	}
+
+	private static FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		} catch (OverlappingFileLockException e) {
+			return null;
+		}
+	}
+
+	private static void deleteIfEmpty(Path dir) {
+		try (Stream<Path> files = Files.list(dir)) {
+			if (files.findAny().isEmpty()) {
+				Files.delete(dir);
+			}
+		} catch (IOException e) {
+			log.warn("failed to clean up chat spill directory. dir={}", dir, e);
+		}
+	}
+
+	private record SpilledBatch(List<Path> segments, List<PendingChat> chats) {
+	}
+
+	// 가상 스레드에서 파일 쓰기 중 캐리어 스레드가 고정되지 않도록 ReentrantLock을 쓴다.
+	private class Stripe {
+		private final ReentrantLock lock = new ReentrantLock();
+		private List<PendingChat> pending = new ArrayList<>();
+		private Path segment;
+		private FileChannel channel;
+
+		private void append(PendingChat chat, byte[] line) {
+			ByteBuffer buffer = ByteBuffer.wrap(line);
+			lock.lock();
+			try {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				pending.add(chat);
+			} catch (IOException e) {
+				throw new InternalServerException();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void rotate(List<Path> segments, List<PendingChat> chats) throws IOException {
+			lock.lock();
+			try {
+				if (pending.isEmpty()) {
+					return;
+				}
+				channel.close();
+				segments.add(segment);
+				chats.addAll(pending);
+				pending = new ArrayList<>();
+				open();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void open() {
+			lock.lock();
+			try {
+				segment = ownDir.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentSeq.getAndIncrement(),
+					SEGMENT_SUFFIX));
+				channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.APPEND);
+			} catch (IOException e) {
+				throw new InternalServerException();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void close() throws IOException {
+			lock.lock();
+			try {
+				channel.close();
+				if (pending.isEmpty()) {
+					Files.deleteIfExists(segment);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -1,8 +1,13 @@
 package clofi.runningplanet.common.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
@@ -17,6 +22,10 @@ public class S3Config {
 	private String secretKey;
 	@Value("${cloud.aws.region.static}")
 	private String region;
+	@Value("${cloud.aws.s3.upload.concurrency:8}")
+	private int uploadConcurrency;
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreads;
 
 	@Bean
 	public AmazonS3 amazonS3Client() {
@@ -26,4 +35,22 @@ public class S3Config {
 			.withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
 			.build();
 	}
+
+	// 업로드는 요청 스레드에서 결과를 기다리므로 큐 없이 동시 업로드 수만 제한한다.
+	@Bean
+	public TaskExecutor s3TaskExecutor() {
+		if (virtualThreads) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("s3-");
+			executor.setVirtualThreads(true);
+			executor.setConcurrencyLimit(uploadConcurrency);
+			return executor;
+		}
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("s3-");
+		executor.setCorePoolSize(uploadConcurrency);
+		executor.setMaxPoolSize(uploadConcurrency);
+		executor.setQueueCapacity(0);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		return executor;
+	}
 }
@@ -0,0 +1,110 @@
+package clofi.runningplanet.common.service;
+
+import static clofi.runningplanet.common.utils.TransactionUtils.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 이미지 삭제는 트랜잭션 커밋 후 큐에 넣고 모아서 한 번에 삭제한다.
+// 삭제에 실패해도 사용자 요청은 롤백되지 않으며, 실패한 키는 정해진 횟수만큼 다시 시도한다.
+@Slf4j
+@Component
+public class S3DeletionQueue {
+	private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+	private final AmazonS3 amazonS3Client;
+	private final String bucket;
+	private final int maxAttempts;
+	private final ConcurrentLinkedQueue<PendingDeletion> queue = new ConcurrentLinkedQueue<>();
+
+	public S3DeletionQueue(AmazonS3 amazonS3Client, @Value("${cloud.aws.s3.bucket}") String bucket,
+		@Value("${cloud.aws.s3.delete.max-attempts:3}") int maxAttempts) {
+		this.amazonS3Client = amazonS3Client;
+		this.bucket = bucket;
+		this.maxAttempts = maxAttempts;
+	}
+
+	public void enqueue(Collection<String> keys) {
+		List<PendingDeletion> deletions = toDeletions(keys);
+		if (deletions.isEmpty()) {
+			return;
+		}
+		afterCommit(() -> queue.addAll(deletions));
+	}
+
+	// 업로드 실패를 되돌리는 삭제는 호출한 트랜잭션이 롤백되어도 실행되어야 하므로 바로 큐에 넣는다.
+	public void enqueueNow(Collection<String> keys) {
+		queue.addAll(toDeletions(keys));
+	}
+
+	@Scheduled(fixedDelayString = "${cloud.aws.s3.delete.flush-interval-ms:1000}")
+	@PreDestroy
+	public void flush() {
+		List<PendingDeletion> batch = new ArrayList<>();
+		PendingDeletion deletion;
+		while ((deletion = queue.poll()) != null) {
+			batch.add(deletion);
+			if (batch.size() == MAX_KEYS_PER_REQUEST) {
+				delete(batch);
+				batch = new ArrayList<>();
+			}
+		}
+		if (!batch.isEmpty()) {
+			delete(batch);
+		}
+	}
+
+	int size() {
+		return queue.size();
+	}
+
+	private List<PendingDeletion> toDeletions(Collection<String> keys) {
+		return keys.stream()
+			.map(key -> new PendingDeletion(key, 1))
+			.toList();
+	}
+
+	private void delete(List<PendingDeletion> batch) {
+		try {
+			amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+				.withKeys(batch.stream().map(PendingDeletion::key).distinct().toArray(String[]::new))
+				.withQuiet(true));
+		} catch (MultiObjectDeleteException e) {
+			Set<String> failedKeys = e.getErrors().stream()
+				.map(MultiObjectDeleteException.DeleteError::getKey)
+				.collect(Collectors.toSet());
+			retry(batch.stream().filter(pending -> failedKeys.contains(pending.key())).toList(), e);
+		} catch (SdkClientException e) {
+			retry(batch, e);
+		}
+	}
+
+	private void retry(List<PendingDeletion> failed, Exception cause) {
+		for (PendingDeletion pending : failed) {
+			if (pending.attempt() < maxAttempts) {
+				queue.add(new PendingDeletion(pending.key(), pending.attempt() + 1));
+			} else {
+				log.warn("s3 image deletion failed. key={}", pending.key(), cause);
+			}
+		}
+	}
+
+	private record PendingDeletion(String key, int attempt) {
+	}
+}
@@ -1,11 +1,17 @@
 package clofi.runningplanet.common.service;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -13,24 +19,46 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class S3StorageManagerService implements S3StorageManagerUseCase {
 	private final AmazonS3 amazonS3Client;
+	private final TaskExecutor s3TaskExecutor;
+	private final S3DeletionQueue s3DeletionQueue;
+	private final String bucket;
+	private final String imageUrlPrefix;
+
+	public S3StorageManagerService(AmazonS3 amazonS3Client, @Qualifier("s3TaskExecutor") TaskExecutor s3TaskExecutor,
+		S3DeletionQueue s3DeletionQueue, @Value("${cloud.aws.s3.bucket}") String bucket,
+		@Value("${default.imageUrlPrefix}") String imageUrlPrefix) {
+		this.amazonS3Client = amazonS3Client;
+		this.s3TaskExecutor = s3TaskExecutor;
+		this.s3DeletionQueue = s3DeletionQueue;
+		this.bucket = bucket;
+		this.imageUrlPrefix = imageUrlPrefix;
+	}
 
-	@Value("${cloud.aws.s3.bucket}")
-	private String bucket;
-
-	@Value("${default.imageUrlPrefix}")
-	private String imageUrlPrefix;
-
+	// 이미지를 동시에 업로드하고, 하나라도 실패하면 업로드된 이미지를 삭제한 뒤 예외를 던진다.
 	@Override
 	public List<String> uploadImages(List<MultipartFile> images) {
-		return images.stream()
+		List<CompletableFuture<String>> uploads = images.stream()
 			.filter(this::isValidImage)
-			.map(this::uploadImageToS3)
+			.map(image -> CompletableFuture.supplyAsync(() -> uploadImageToS3(image), s3TaskExecutor))
+			.toList();
+
+		try {
+			CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			s3DeletionQueue.enqueueNow(toKeys(uploads.stream()
+				.filter(upload -> !upload.isCompletedExceptionally())
+				.map(CompletableFuture::join)
+				.toList()));
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+		return uploads.stream()
+			.map(CompletableFuture::join)
 			.collect(Collectors.toList());
 	}
 
@@ -44,7 +72,20 @@ public class S3StorageManagerService implements S3StorageManagerUseCase {
 
 	@Override
 	public void deleteImages(String image) {
-		amazonS3Client.deleteObject(bucket, image);
+		deleteImages(Collections.singletonList(image));
+	}
+
+	// 저장된 값은 접두사가 붙은 이미지 URL이므로 버킷에 올린 이미지만 골라 S3 키로 바꾼다.
+	@Override
+	public void deleteImages(Collection<String> images) {
+		s3DeletionQueue.enqueue(toKeys(images));
+	}
+
+	private List<String> toKeys(Collection<String> images) {
+		return images.stream()
+			.filter(image -> image != null && image.startsWith(imageUrlPrefix))
+			.map(image -> image.substring(imageUrlPrefix.length()))
+			.toList();
 	}
 
 	private boolean isValidImage(MultipartFile image) {
@@ -1,5 +1,6 @@
 package clofi.runningplanet.common.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.web.multipart.MultipartFile;
@@ -10,4 +11,6 @@ public interface S3StorageManagerUseCase {
 	String uploadImage(MultipartFile image);
 
 	void deleteImages(String image);
+
+	void deleteImages(Collection<String> images);
 }
@@ -0,0 +1,102 @@
+package clofi.runningplanet.common.thread;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+// 가상 스레드가 캐리어 스레드에 고정(pinning)되는 구간을 JFR 이벤트로 수집한다.
+// synchronized 블록 안에서 JDBC, S3 I/O를 기다리면 캐리어 스레드를 점유하므로 부하 상황에서 원인 위치를 찾는 데 쓴다.
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "threads.virtual.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements DisposableBean {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 8;
+
+	private final Duration threshold;
+	private final long logIntervalMs;
+	private final Counter pinnedCount;
+	private final Timer pinnedDuration;
+	private final AtomicLong lastLoggedAt = new AtomicLong();
+
+	private RecordingStream recordingStream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+		@Value("${threads.virtual.pinning-monitor.threshold:20ms}") Duration threshold,
+		@Value("${threads.virtual.pinning-monitor.log-interval:10s}") Duration logInterval) {
+		this.threshold = threshold;
+		this.logIntervalMs = logInterval.toMillis();
+		this.pinnedCount = Counter.builder("jvm.threads.virtual.pinned").register(meterRegistry);
+		this.pinnedDuration = Timer.builder("jvm.threads.virtual.pinned.duration").register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		if (recordingStream != null) {
+			return;
+		}
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::record);
+		recordingStream.startAsync();
+		log.info("virtual thread pinning monitor started. threshold={}", threshold);
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (recordingStream != null) {
+			recordingStream.close();
+			recordingStream = null;
+		}
+	}
+
+	void record(RecordedEvent event) {
+		pinnedCount.increment();
+		pinnedDuration.record(event.getDuration());
+
+		long now = System.currentTimeMillis();
+		long last = lastLoggedAt.get();
+		if (now - last >= logIntervalMs && lastLoggedAt.compareAndSet(last, now)) {
+			log.warn("virtual thread pinned for {}ms\n{}", event.getDuration().toMillis(),
+				format(event.getStackTrace()));
+		}
+	}
+
+	private static String format(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return "\t(no stack trace)";
+		}
+		List<RecordedFrame> frames = stackTrace.getFrames();
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+			RecordedFrame frame = frames.get(i);
+			sb.append("\tat ")
+				.append(frame.getMethod().getType().getName())
+				.append('.')
+				.append(frame.getMethod().getName())
+				.append(':')
+				.append(frame.getLineNumber())
+				.append('\n');
+		}
+		return sb.toString();
+	}
+}
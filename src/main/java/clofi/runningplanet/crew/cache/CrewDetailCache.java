@@ -0,0 +1,72 @@
+package clofi.runningplanet.crew.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import clofi.runningplanet.crew.domain.CrewChangedEvent;
+import clofi.runningplanet.crew.dto.response.FindCrewResDto;
+import clofi.runningplanet.crew.dto.response.FindCrewWithMissionResDto;
+import clofi.runningplanet.member.domain.MemberProfileUpdatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class CrewDetailCache {
+	private static final int MAXIMUM_SIZE = 10_000;
+
+	private final Cache<Long, FindCrewResDto> crewDetails;
+	private final Cache<Long, CrewPage> crewPages;
+
+	public CrewDetailCache(MeterRegistry meterRegistry, @Value("${crew.cache.ttl:5m}") Duration ttl) {
+		this.crewDetails = createCache(ttl);
+		this.crewPages = createCache(ttl);
+		CaffeineCacheMetrics.monitor(meterRegistry, crewDetails, "crew.detail");
+		CaffeineCacheMetrics.monitor(meterRegistry, crewPages, "crew.page");
+	}
+
+	public FindCrewResDto getCrewDetail(Long crewId, Supplier<FindCrewResDto> loader) {
+		return crewDetails.get(crewId, key -> loader.get());
+	}
+
+	public CrewPage getCrewPage(Long crewId, LocalDate startOfWeek, Supplier<CrewPage> loader) {
+		CrewPage crewPage = crewPages.get(crewId, key -> loader.get());
+		if (crewPage.startOfWeek().equals(startOfWeek)) {
+			return crewPage;
+		}
+		crewPages.invalidate(crewId);
+		return crewPages.get(crewId, key -> loader.get());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(CrewChangedEvent event) {
+		crewDetails.invalidate(event.crewId());
+		crewPages.invalidate(event.crewId());
+	}
+
+	// 크루 상세에는 크루장 닉네임이 포함되므로 크루장의 프로필이 바뀌면 해당 크루를 무효화한다.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evictLeader(MemberProfileUpdatedEvent event) {
+		crewDetails.asMap().values()
+			.removeIf(crewDetail -> event.memberId().equals(crewDetail.crewLeader().memberId()));
+	}
+
+	private <V> Cache<Long, V> createCache(Duration ttl) {
+		return Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.maximumSize(MAXIMUM_SIZE)
+			.recordStats()
+			.build();
+	}
+
+	public record CrewPage(FindCrewWithMissionResDto crewPage, Long leaderId, LocalDate startOfWeek) {
+	}
+}
@@ -0,0 +1,62 @@
+package clofi.runningplanet.crew.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import clofi.runningplanet.crew.domain.CrewMembership;
+import clofi.runningplanet.crew.domain.CrewMembershipChangedEvent;
+import clofi.runningplanet.crew.repository.CrewMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 회원은 최대 하나의 크루에만 속하므로 회원 id로 소속 크루와 역할을 캐싱한다.
+@Component
+public class CrewMembershipCache {
+	private static final int MAXIMUM_SIZE = 100_000;
+	private static final CrewMembership NONE = new CrewMembership(null, null);
+
+	private final CrewMemberRepository crewMemberRepository;
+	private final Cache<Long, CrewMembership> memberships;
+
+	public CrewMembershipCache(CrewMemberRepository crewMemberRepository, MeterRegistry meterRegistry,
+		@Value("${crew.membership.cache-ttl:1m}") Duration ttl) {
+		this.crewMemberRepository = crewMemberRepository;
+		this.memberships = Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.maximumSize(MAXIMUM_SIZE)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, memberships, "crew.membership");
+	}
+
+	public Optional<CrewMembership> find(Long memberId) {
+		CrewMembership membership = memberships.get(memberId,
+			key -> crewMemberRepository.findMembershipByMemberId(memberId).orElse(NONE));
+		return membership == NONE ? Optional.empty() : Optional.of(membership);
+	}
+
+	public Optional<CrewMembership> find(Long crewId, Long memberId) {
+		return find(memberId).filter(membership -> membership.belongsTo(crewId));
+	}
+
+	public boolean isMember(Long crewId, Long memberId) {
+		return find(crewId, memberId).isPresent();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(CrewMembershipChangedEvent event) {
+		memberships.invalidate(event.memberId());
+	}
+
+	public void invalidateAll() {
+		memberships.invalidateAll();
+	}
+}
@@ -24,6 +24,7 @@ import clofi.runningplanet.crew.dto.request.ProceedApplyReqDto;
 import clofi.runningplanet.crew.dto.request.UpdateCrewReqDto;
 import clofi.runningplanet.crew.dto.response.ApplyCrewResDto;
 import clofi.runningplanet.crew.dto.response.ApprovalMemberResDto;
+import clofi.runningplanet.crew.dto.response.CrewPresenceResDto;
 import clofi.runningplanet.crew.dto.response.FindAllCrewResDto;
 import clofi.runningplanet.crew.dto.response.FindCrewMemberResDto;
 import clofi.runningplanet.crew.dto.response.FindCrewResDto;
@@ -50,8 +51,10 @@ public class CrewController {
 	@GetMapping("/api/crew")
 	public ResponseEntity<List<FindAllCrewResDto>> findAllCrews(
 		@RequestParam(name = "crewName", required = false) String crewName,
-		@RequestParam(name = "category", required = false) String category) {
-		SearchParamDto searchParamDto = new SearchParamDto(crewName, category);
+		@RequestParam(name = "category", required = false) String category,
+		@RequestParam(name = "lastCrewId", required = false) Long lastCrewId,
+		@RequestParam(name = "size", defaultValue = "20") int size) {
+		SearchParamDto searchParamDto = new SearchParamDto(crewName, category, lastCrewId, size);
 		return ResponseEntity.ok(crewService.findAllCrew(searchParamDto));
 	}
 
@@ -119,4 +122,10 @@ public class CrewController {
 		@AuthenticationPrincipal CustomOAuth2User principal) {
 		return ResponseEntity.ok(crewService.findCrewMemberList(crewId, principal.getId()));
 	}
+
+	@GetMapping("/api/crew/{crewId}/presence")
+	public ResponseEntity<CrewPresenceResDto> findCrewPresence(@PathVariable("crewId") Long crewId,
+		@AuthenticationPrincipal CustomOAuth2User principal) {
+		return ResponseEntity.ok(crewService.findCrewPresence(crewId, principal.getId()));
+	}
 }
@@ -5,7 +5,6 @@ import org.hibernate.annotations.SQLRestriction;
 
 import clofi.runningplanet.common.domain.BaseSoftDeleteEntity;
 import clofi.runningplanet.crew.dto.RuleDto;
-import clofi.runningplanet.mission.domain.MissionType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -26,6 +25,8 @@ public class Crew extends BaseSoftDeleteEntity {
 
 	private static final int EXP_MULTIPLIER = 10;
 	private static final int MEMBER_INCREMENT = 5;
+	// 설정한 미션 수가 바뀌어도 레벨업 기준은 유지한다.
+	private static final int DAILY_MISSION_CNT = 2;
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -70,6 +71,9 @@ public class Crew extends BaseSoftDeleteEntity {
 	@Column(name = "crew_level", nullable = false)
 	private int crewLevel;
 
+	@Column(name = "member_cnt", nullable = false, updatable = false)
+	private int memberCnt;
+
 	public Crew(Long leaderId, String crewName, int limitMemberCnt, Category category,
 		ApprovalType approvalType,
 		String introduction, int ruleRunCnt, int ruleDistance) {
@@ -114,7 +118,7 @@ public class Crew extends BaseSoftDeleteEntity {
 	}
 
 	public int getRequiredExp() {
-		return limitMemberCnt * MissionType.values().length * EXP_MULTIPLIER * crewLevel;
+		return limitMemberCnt * DAILY_MISSION_CNT * EXP_MULTIPLIER * crewLevel;
 	}
 
 	private void levelUp() {
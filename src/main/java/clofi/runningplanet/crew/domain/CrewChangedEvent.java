@@ -0,0 +1,6 @@
+package clofi.runningplanet.crew.domain;
+
+public record CrewChangedEvent(
+	Long crewId
+) {
+}
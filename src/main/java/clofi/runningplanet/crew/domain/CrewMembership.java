@@ -0,0 +1,12 @@
+package clofi.runningplanet.crew.domain;
+
+public record CrewMembership(Long crewId, Role role) {
+
+	public boolean isLeader() {
+		return role == Role.LEADER;
+	}
+
+	public boolean belongsTo(Long crewId) {
+		return this.crewId.equals(crewId);
+	}
+}
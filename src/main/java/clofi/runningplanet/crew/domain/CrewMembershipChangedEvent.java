@@ -0,0 +1,4 @@
+package clofi.runningplanet.crew.domain;
+
+public record CrewMembershipChangedEvent(Long memberId) {
+}
@@ -1,5 +1,6 @@
 package clofi.runningplanet.crew.dto;
 
+import clofi.runningplanet.common.exception.BadRequestException;
 import clofi.runningplanet.crew.domain.Category;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -8,13 +9,27 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class SearchParamDto {
+	public static final int DEFAULT_SIZE = 20;
+	private static final int MAX_SIZE = 100;
 
 	private String crewName;
 	private Category category;
+	private Long lastCrewId;
+	private int size;
 
 	public SearchParamDto(String crewName, String category) {
+		this(crewName, category, null, DEFAULT_SIZE);
+	}
+
+	public SearchParamDto(String crewName, String category, Long lastCrewId, int size) {
 		this.crewName = crewName;
 		this.category = parseCategory(category);
+		this.lastCrewId = lastCrewId;
+		this.size = validateSize(size);
+	}
+
+	public boolean hasCrewName() {
+		return crewName != null && !crewName.isBlank();
 	}
 
 	private Category parseCategory(String category) {
@@ -27,4 +42,11 @@ public class SearchParamDto {
 		}
 		return null;
 	}
+
+	private int validateSize(int size) {
+		if (size <= 0) {
+			throw new BadRequestException("조회 개수는 1 이상이어야 합니다.");
+		}
+		return Math.min(size, MAX_SIZE);
+	}
 }
@@ -0,0 +1,9 @@
+package clofi.runningplanet.crew.dto.response;
+
+import java.util.List;
+
+public record CrewPresenceResDto(
+	int onlineCnt,
+	List<Long> onlineMemberIds
+) {
+}
@@ -28,4 +28,9 @@ public record FindCrewWithMissionResDto(
 			crew.getCategory(), new RuleDto(crew.getRuleRunCnt(), crew.getRuleDistance()), crew.getTotalDistance(),
 			missionProgress, isCrewLeader, imgPath);
 	}
+
+	public FindCrewWithMissionResDto withCrewLeader(boolean isCrewLeader) {
+		return new FindCrewWithMissionResDto(crewId, crewLevel, crewName, introduction, memberCnt, limitMemberCnt,
+			tags, category, rule, crewTotalDistance, missionProgress, isCrewLeader, imgFile);
+	}
 }
@@ -1,5 +1,7 @@
 package clofi.runningplanet.crew.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,4 +12,6 @@ import clofi.runningplanet.crew.domain.CrewImage;
 @Repository
 public interface CrewImageRepository extends JpaRepository<CrewImage, Long> {
 	Optional<CrewImage> findByCrewId(Long crewId);
+
+	List<CrewImage> findAllByCrewIdInOrderByIdAsc(Collection<Long> crewIds);
 }
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import clofi.runningplanet.crew.domain.CrewMember;
+import clofi.runningplanet.crew.domain.CrewMembership;
 import clofi.runningplanet.member.domain.Member;
 
 @Repository
@@ -18,7 +19,9 @@ public interface CrewMemberRepository extends JpaRepository<CrewMember, Long> {
 
 	boolean existsByMemberId(Long memberId);
 
-	int countByCrewId(Long id);
+	@Query("SELECT new clofi.runningplanet.crew.domain.CrewMembership(cm.crew.id, cm.role) "
+		+ "FROM CrewMember cm WHERE cm.member.id = :memberId")
+	Optional<CrewMembership> findMembershipByMemberId(@Param("memberId") Long memberId);
 
 	Optional<CrewMember> findByCrewIdAndMemberId(Long crewId, Long memberId);
 
@@ -1,10 +1,33 @@
 package clofi.runningplanet.crew.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import clofi.runningplanet.crew.domain.Crew;
 
 @Repository
 public interface CrewRepository extends JpaRepository<Crew, Long>, CrewRepositoryCustom {
+	List<Crew> findAllByIdInOrderByIdDesc(Collection<Long> crewIds);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE Crew c SET c.memberCnt = c.memberCnt + 1 WHERE c.id = :crewId AND c.memberCnt < c.limitMemberCnt")
+	int increaseMemberCnt(@Param("crewId") Long crewId);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE Crew c SET c.memberCnt = c.memberCnt - 1 WHERE c.id = :crewId AND c.memberCnt > 0")
+	int decreaseMemberCnt(@Param("crewId") Long crewId);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE Crew c SET c.memberCnt = 0 WHERE c.id = :crewId AND c.memberCnt = 1")
+	int decreaseLastMemberCnt(@Param("crewId") Long crewId);
 }
@@ -2,7 +2,6 @@ package clofi.runningplanet.crew.repository;
 
 import static clofi.runningplanet.crew.domain.QCrew.*;
 import static java.util.Objects.*;
-import static org.springframework.util.ObjectUtils.*;
 
 import java.util.List;
 
@@ -27,8 +26,10 @@ public class CrewRepositoryImpl implements CrewRepositoryCustom {
 		return queryFactory
 			.select(crew)
 			.from(crew)
-			.where(crewNameContains(searchParamDto.getCrewName())
-				, categoryEq(searchParamDto.getCategory()))
+			.where(categoryEq(searchParamDto.getCategory())
+				, crewIdLt(searchParamDto.getLastCrewId()))
+			.orderBy(crew.id.desc())
+			.limit(searchParamDto.getSize())
 			.fetch();
 	}
 
@@ -36,7 +37,7 @@ public class CrewRepositoryImpl implements CrewRepositoryCustom {
 		return isNull(category) ? null : crew.category.eq(category);
 	}
 
-	private BooleanExpression crewNameContains(String crewName) {
-		return isEmpty(crewName) ? null : crew.crewName.containsIgnoreCase(crewName);
+	private BooleanExpression crewIdLt(Long lastCrewId) {
+		return isNull(lastCrewId) ? null : crew.id.lt(lastCrewId);
 	}
 }
@@ -1,5 +1,6 @@
 package clofi.runningplanet.crew.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,5 +10,7 @@ import clofi.runningplanet.crew.domain.Tag;
 public interface TagRepository extends JpaRepository<Tag, Long> {
 	List<Tag> findAllByCrewId(Long id);
 
+	List<Tag> findAllByCrewIdIn(Collection<Long> crewIds);
+
 	void deleteAllByCrewId(Long crewId);
 }
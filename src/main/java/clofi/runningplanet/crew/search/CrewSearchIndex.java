@@ -0,0 +1,205 @@
+package clofi.runningplanet.crew.search;
+
+import static clofi.runningplanet.common.utils.TransactionUtils.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import clofi.runningplanet.crew.domain.Category;
+import clofi.runningplanet.crew.domain.Crew;
+import clofi.runningplanet.crew.domain.Tag;
+import clofi.runningplanet.crew.repository.CrewRepository;
+import clofi.runningplanet.crew.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 크루명, 태그의 1-gram/2-gram 역색인. 한글은 음절 단위로 분리된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrewSearchIndex {
+	private static final int GRAM_SIZE = 2;
+
+	private final CrewRepository crewRepository;
+	private final TagRepository tagRepository;
+	private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+	private final Object mutationLock = new Object();
+	// 재구축 중에 반영된 변경. 교체된 색인에 다시 적용한다.
+	private final List<Consumer<Index>> pendingMutations = new ArrayList<>();
+
+	private volatile Index index = new Index();
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${crew.search.refresh-interval-ms:300000}",
+		initialDelayString = "${crew.search.refresh-interval-ms:300000}")
+	public void rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			Map<Long, List<String>> tags = tagRepository.findAll().stream()
+				.collect(Collectors.groupingBy(tag -> tag.getCrew().getId(),
+					Collectors.mapping(Tag::getContent, Collectors.toList())));
+
+			Index rebuilt = new Index();
+			for (Crew crew : crewRepository.findAll()) {
+				rebuilt.put(new Document(crew.getId(), crew.getCategory(), normalize(crew.getCrewName()),
+					normalize(tags.getOrDefault(crew.getId(), List.of()))));
+			}
+			synchronized (mutationLock) {
+				pendingMutations.forEach(mutation -> mutation.accept(rebuilt));
+				index = rebuilt;
+			}
+			log.info("crew search index rebuilt. crews={}", rebuilt.documents.size());
+		} finally {
+			synchronized (mutationLock) {
+				pendingMutations.clear();
+				rebuilding.set(false);
+			}
+		}
+	}
+
+	public void index(Crew crew, List<String> tags) {
+		Document document = new Document(crew.getId(), crew.getCategory(), normalize(crew.getCrewName()),
+			normalize(tags == null ? List.of() : tags));
+		afterCommit(() -> apply(current -> current.put(document)));
+	}
+
+	public void remove(Long crewId) {
+		afterCommit(() -> apply(current -> current.remove(crewId)));
+	}
+
+	public List<Long> search(String keyword, Category category, Long lastCrewId, int size) {
+		String normalized = normalize(keyword);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+
+		Index current = index;
+		return current.candidates(normalized).stream()
+			.filter(crewId -> lastCrewId == null || crewId < lastCrewId)
+			.sorted(Comparator.reverseOrder())
+			.map(current.documents::get)
+			.filter(document -> document != null && document.matches(normalized, category))
+			.limit(size)
+			.map(Document::crewId)
+			.toList();
+	}
+
+	private void apply(Consumer<Index> mutation) {
+		synchronized (mutationLock) {
+			mutation.accept(index);
+			if (rebuilding.get()) {
+				pendingMutations.add(mutation);
+			}
+		}
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+	}
+
+	private static List<String> normalize(Collection<String> texts) {
+		return texts.stream()
+			.map(CrewSearchIndex::normalize)
+			.filter(text -> !text.isEmpty())
+			.toList();
+	}
+
+	private static Set<String> grams(String text) {
+		Set<String> grams = new HashSet<>();
+		int[] codePoints = text.codePoints().toArray();
+		for (int i = 0; i < codePoints.length; i++) {
+			for (int n = 1; n <= GRAM_SIZE && i + n <= codePoints.length; n++) {
+				grams.add(new String(codePoints, i, n));
+			}
+		}
+		return grams;
+	}
+
+	private static Set<String> queryGrams(String keyword) {
+		int[] codePoints = keyword.codePoints().toArray();
+		if (codePoints.length < GRAM_SIZE) {
+			return Set.of(keyword);
+		}
+		Set<String> grams = new HashSet<>();
+		for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+			grams.add(new String(codePoints, i, GRAM_SIZE));
+		}
+		return grams;
+	}
+
+	private record Document(Long crewId, Category category, String crewName, List<String> tags) {
+
+		private Set<String> grams() {
+			Set<String> grams = new HashSet<>(CrewSearchIndex.grams(crewName));
+			tags.forEach(tag -> grams.addAll(CrewSearchIndex.grams(tag)));
+			return grams;
+		}
+
+		private boolean matches(String keyword, Category category) {
+			if (category != null && this.category != category) {
+				return false;
+			}
+			return crewName.contains(keyword) || tags.stream().anyMatch(tag -> tag.contains(keyword));
+		}
+	}
+
+	private static class Index {
+		private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+		private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+		private synchronized void put(Document document) {
+			remove(document.crewId());
+			documents.put(document.crewId(), document);
+			document.grams().forEach(gram ->
+				postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.crewId()));
+		}
+
+		private synchronized void remove(Long crewId) {
+			Document removed = documents.remove(crewId);
+			if (removed == null) {
+				return;
+			}
+			removed.grams().forEach(gram -> {
+				Set<Long> crewIds = postings.get(gram);
+				if (crewIds != null) {
+					crewIds.remove(crewId);
+				}
+			});
+		}
+
+		private Set<Long> candidates(String keyword) {
+			List<Set<Long>> matched = new ArrayList<>();
+			for (String gram : queryGrams(keyword)) {
+				Set<Long> crewIds = postings.get(gram);
+				if (crewIds == null || crewIds.isEmpty()) {
+					return Set.of();
+				}
+				matched.add(crewIds);
+			}
+			matched.sort(Comparator.comparingInt(Set::size));
+
+			Set<Long> candidates = new HashSet<>(matched.get(0));
+			for (int i = 1; i < matched.size() && !candidates.isEmpty(); i++) {
+				candidates.retainAll(matched.get(i));
+			}
+			return candidates;
+		}
+	}
+}
@@ -2,26 +2,37 @@ package clofi.runningplanet.crew.service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import clofi.runningplanet.common.exception.ConflictException;
 import clofi.runningplanet.common.exception.NotFoundException;
 import clofi.runningplanet.common.exception.UnauthorizedException;
 import clofi.runningplanet.common.service.S3StorageManagerUseCase;
+import clofi.runningplanet.crew.cache.CrewDetailCache;
+import clofi.runningplanet.crew.cache.CrewDetailCache.CrewPage;
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
 import clofi.runningplanet.crew.domain.ApprovalType;
 import clofi.runningplanet.crew.domain.Crew;
 import clofi.runningplanet.crew.domain.CrewApplication;
+import clofi.runningplanet.crew.domain.CrewChangedEvent;
 import clofi.runningplanet.crew.domain.CrewImage;
 import clofi.runningplanet.crew.domain.CrewMember;
+import clofi.runningplanet.crew.domain.CrewMembership;
+import clofi.runningplanet.crew.domain.CrewMembershipChangedEvent;
 import clofi.runningplanet.crew.domain.Tag;
 import clofi.runningplanet.crew.dto.CrewLeaderDto;
 import clofi.runningplanet.crew.dto.SearchParamDto;
@@ -31,6 +42,7 @@ import clofi.runningplanet.crew.dto.request.ProceedApplyReqDto;
 import clofi.runningplanet.crew.dto.request.UpdateCrewReqDto;
 import clofi.runningplanet.crew.dto.response.ApplyCrewResDto;
 import clofi.runningplanet.crew.dto.response.ApprovalMemberResDto;
+import clofi.runningplanet.crew.dto.response.CrewPresenceResDto;
 import clofi.runningplanet.crew.dto.response.FindAllCrewResDto;
 import clofi.runningplanet.crew.dto.response.FindCrewMemberResDto;
 import clofi.runningplanet.crew.dto.response.FindCrewResDto;
@@ -41,11 +53,15 @@ import clofi.runningplanet.crew.repository.CrewImageRepository;
 import clofi.runningplanet.crew.repository.CrewMemberRepository;
 import clofi.runningplanet.crew.repository.CrewRepository;
 import clofi.runningplanet.crew.repository.TagRepository;
+import clofi.runningplanet.crew.search.CrewSearchIndex;
 import clofi.runningplanet.member.domain.Member;
 import clofi.runningplanet.member.repository.MemberRepository;
 import clofi.runningplanet.mission.domain.CrewMission;
-import clofi.runningplanet.mission.domain.MissionType;
+import clofi.runningplanet.mission.domain.CrewMissionDailyCount;
+import clofi.runningplanet.mission.repository.CrewMissionDailyCountRepository;
+import clofi.runningplanet.mission.repository.CrewMissionJdbcRepository;
 import clofi.runningplanet.mission.repository.CrewMissionRepository;
+import clofi.runningplanet.socket.presence.CrewPresenceRegistry;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -60,6 +76,14 @@ public class CrewService {
 	private final S3StorageManagerUseCase storageManagerUseCase;
 	private final CrewImageRepository crewImageRepository;
 	private final CrewMissionRepository crewMissionRepository;
+	private final CrewMissionJdbcRepository crewMissionJdbcRepository;
+	private final CrewMissionDailyCountRepository crewMissionDailyCountRepository;
+	private final CrewSearchIndex crewSearchIndex;
+	private final CrewDetailCache crewDetailCache;
+	private final CrewMembershipCache crewMembershipCache;
+	private final CrewPresenceRegistry crewPresenceRegistry;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PlatformTransactionManager transactionManager;
 
 	@Transactional
 	public Long createCrew(CreateCrewReqDto reqDto, MultipartFile imageFile, Long memberId) {
@@ -71,28 +95,46 @@ public class CrewService {
 		saveCrewImage(imageFile, savedCrew);
 		createAndSaveCrewMember(savedCrew, findMember);
 		saveInitialCrewMission(savedCrew, findMember);
+		crewSearchIndex.index(savedCrew, reqDto.tags());
 		return savedCrew.getId();
 	}
 
 	@Transactional(readOnly = true)
 	public List<FindAllCrewResDto> findAllCrew(SearchParamDto searchParamDto) {
-		List<Crew> crewSearchList = crewRepository.search(searchParamDto);
+		List<Crew> crewSearchList = searchCrews(searchParamDto);
+		if (crewSearchList.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> crewIds = crewSearchList.stream()
+			.map(Crew::getId)
+			.toList();
+		Map<Long, List<String>> tags = findTagsToStringsByCrewIds(crewIds);
+		Map<Long, CrewLeaderDto> crewLeaders = convertCrewLeaderDtos(crewSearchList);
+		Map<Long, String> imagePaths = findImagePaths(crewIds);
 
 		return crewSearchList.stream()
-			.map(this::convertToFindAllCrewResDto)
+			.map(crew -> FindAllCrewResDto.of(
+				crew,
+				crew.getMemberCnt(),
+				tags.getOrDefault(crew.getId(), List.of()),
+				getCrewLeaderDto(crewLeaders, crew.getLeaderId()),
+				getImagePath(imagePaths, crew.getId())))
 			.toList();
 	}
 
-	@Transactional(readOnly = true)
 	public FindCrewResDto findCrew(Long crewId) {
+		return crewDetailCache.getCrewDetail(crewId, () -> readOnly(() -> loadCrewDetail(crewId)));
+	}
+
+	private FindCrewResDto loadCrewDetail(Long crewId) {
 		Crew findCrew = getCrewByCrewId(crewId);
-		int memberCnt = getCrewMemberCnt(crewId);
 
 		List<String> tags = findTagsToStrings(findCrew.getId());
 		CrewLeaderDto crewLeader = convertCrewLeaderDto(findCrew.getLeaderId());
 		CrewImage crewImage = findImage(crewId);
 
-		return FindCrewResDto.of(findCrew, memberCnt, crewLeader, tags, crewImage.getFilepath());
+		return FindCrewResDto.of(findCrew, findCrew.getMemberCnt(), crewLeader, tags, crewImage.getFilepath());
 	}
 
 	@Transactional
@@ -147,6 +189,8 @@ public class CrewService {
 
 		CrewMember crewMember = findCrewMember(crewId, memberId);
 		deleteCrewMember(crewMember);
+		crewRepository.decreaseMemberCnt(crewId);
+		publishCrewChanged(crewId);
 	}
 
 	@Transactional
@@ -156,6 +200,7 @@ public class CrewService {
 
 		CrewMember crewMember = findCrewMember(crewId, memberId);
 		validateLeaderLeaveCrew(crewId, crewMember);
+		publishCrewChanged(crewId);
 	}
 
 	@Transactional
@@ -177,39 +222,61 @@ public class CrewService {
 		findCrew.update(reqDto.approvalType(), reqDto.introduction(), reqDto.rule());
 
 		updateTags(reqDto, findCrew);
+		crewSearchIndex.index(findCrew, reqDto.tags());
 
 		if (imgFile != null && !imgFile.isEmpty()) {
 			updateCrewImage(imgFile, crewId);
 		}
+		publishCrewChanged(crewId);
 	}
 
-	@Transactional(readOnly = true)
 	public FindCrewWithMissionResDto findCrewWithMission(Long crewId, Long memberId) {
-		Crew findCrew = getCrewByCrewId(crewId);
-		int memberCnt = getCrewMemberCnt(crewId);
+		LocalDate startOfWeek = getStartOfWeek();
+		CrewPage crewPage = crewDetailCache.getCrewPage(crewId, startOfWeek,
+			() -> readOnly(() -> loadCrewPage(crewId, startOfWeek)));
 
-		CrewMember crewMember = getCrewMember(crewId, memberId);
-		boolean isCrewLeader = isCrewLeader(memberId, crewMember, findCrew);
+		CrewMembership crewMembership = getCrewMembership(crewId, memberId);
+		boolean isCrewLeader = isCrewLeader(memberId, crewMembership, crewPage.leaderId());
+
+		return crewPage.crewPage().withCrewLeader(isCrewLeader);
+	}
+
+	private CrewPage loadCrewPage(Long crewId, LocalDate startOfWeek) {
+		Crew findCrew = getCrewByCrewId(crewId);
+		int memberCnt = findCrew.getMemberCnt();
 
 		List<String> tags = findTagsToStrings(findCrew.getId());
 		CrewImage crewImage = findImage(crewId);
 
-		List<Double> crewMissionProgressUntilWeek = calculateCrewMissionProgressUntilWeek(crewId, memberCnt);
+		List<Double> crewMissionProgressUntilWeek = calculateCrewMissionProgressUntilWeek(crewId, memberCnt,
+			startOfWeek);
 
-		return new FindCrewWithMissionResDto(findCrew, tags, crewImage.getFilepath(), crewMissionProgressUntilWeek,
-			memberCnt, isCrewLeader);
+		FindCrewWithMissionResDto crewPage = new FindCrewWithMissionResDto(findCrew, tags, crewImage.getFilepath(),
+			crewMissionProgressUntilWeek, memberCnt, false);
+		return new CrewPage(crewPage, findCrew.getLeaderId(), startOfWeek);
 	}
 
 	@Transactional(readOnly = true)
 	public List<FindCrewMemberResDto> findCrewMemberList(Long crewId, Long memberId) {
 		checkCrewExistById(crewId);
-		getCrewMember(crewId, memberId);
+		getCrewMembership(crewId, memberId);
 
 		List<CrewMember> crewMemberList = crewMemberRepository.findAllByCrewId(crewId);
 		Map<Long, Long> missionCounts = getMissionCounts(crewId, crewMemberList);
 		return convertToResDtos(crewMemberList, missionCounts);
 	}
 
+	public CrewPresenceResDto findCrewPresence(Long crewId, Long memberId) {
+		getCrewMembership(crewId, memberId);
+
+		// 구독 이후 크루를 떠난 회원은 제외한다.
+		List<Long> onlineMemberIds = crewPresenceRegistry.findOnlineMembers(crewId).stream()
+			.filter(onlineMemberId -> crewMembershipCache.isMember(crewId, onlineMemberId))
+			.sorted()
+			.toList();
+		return new CrewPresenceResDto(onlineMemberIds.size(), onlineMemberIds);
+	}
+
 	private List<FindCrewMemberResDto> convertToResDtos(List<CrewMember> crewMemberList,
 		Map<Long, Long> missionCounts) {
 		return crewMemberList.stream()
@@ -235,6 +302,13 @@ public class CrewService {
 			));
 	}
 
+	// 캐시 적중 시에는 트랜잭션을 열지 않고, 캐시 미스로 조회할 때만 읽기 전용 트랜잭션을 사용한다.
+	private <T> T readOnly(Supplier<T> loader) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		return transactionTemplate.execute(status -> loader.get());
+	}
+
 	private void saveCrewImage(MultipartFile imageFile, Crew crew) {
 		try {
 			String originalFilename = imageFile.getOriginalFilename();
@@ -252,49 +326,34 @@ public class CrewService {
 	}
 
 	private void handleAutoApproval(Crew findCrew, Member findMember) {
-		validateCrewMemberLimit(findCrew);
+		increaseMemberCntWithinLimit(findCrew);
 
 		CrewMember crewMember = CrewMember.createMember(findCrew, findMember);
-		crewMemberRepository.save(crewMember);
+		saveCrewMember(crewMember);
 
 		saveInitialCrewMission(findCrew, findMember);
 	}
 
 	private void saveInitialCrewMission(Crew findCrew, Member findMember) {
-		List<CrewMission> firstCrewMissionList = Arrays.stream(MissionType.values())
-			.map(value -> new CrewMission(findMember, findCrew, value))
-			.collect(Collectors.toList());
-
-		crewMissionRepository.saveAll(firstCrewMissionList);
+		crewMissionJdbcRepository.insertMissionsIfAbsent(findCrew.getId(), findMember.getId(), LocalDate.now(),
+			LocalDateTime.now());
 	}
 
-	private List<Double> calculateCrewMissionProgressUntilWeek(Long crewId, int memberCnt) {
-		LocalDate startOfWeek = getStartOfWeek();
+	private List<Double> calculateCrewMissionProgressUntilWeek(Long crewId, int memberCnt, LocalDate startOfWeek) {
 		LocalDate endOfWeek = startOfWeek.plusDays(6);
 
-		List<CrewMission> crewMissionList = crewMissionRepository.findAllByCrewIdAndWeek(crewId,
-			startOfWeek.atStartOfDay(),
-			endOfWeek.atTime(23, 59, 59));
+		Map<LocalDate, Integer> completedCnts = crewMissionDailyCountRepository
+			.findAllByCrewIdAndMissionDateBetween(crewId, startOfWeek, endOfWeek).stream()
+			.collect(Collectors.toMap(CrewMissionDailyCount::getMissionDate, CrewMissionDailyCount::getCompletedCnt));
 
-		Map<DayOfWeek, Double> result = calculateDayOfWeekSuccessRate(crewMissionList, memberCnt);
-
-		return Arrays.stream(DayOfWeek.values())
-			.map(result::get)
+		return startOfWeek.datesUntil(endOfWeek.plusDays(1))
+			.map(date -> calculateSuccessRate(completedCnts.getOrDefault(date, 0), memberCnt))
 			.collect(Collectors.toList());
 	}
 
-	private Map<DayOfWeek, Double> calculateDayOfWeekSuccessRate(List<CrewMission> crewMissionList, int memberCnt) {
-		return Arrays.stream(DayOfWeek.values())
-			.collect(Collectors.toMap(
-				day -> day,
-				day -> {
-					long completedCount = crewMissionList.stream()
-						.filter(mission -> mission.getCreatedAt().getDayOfWeek() == day && mission.isCompleted())
-						.count();
-					double totalPossible = memberCnt * 2;
-					return totalPossible == 0 ? 0.0 : (completedCount / totalPossible) * 100;
-				}
-			));
+	private double calculateSuccessRate(int completedCnt, int memberCnt) {
+		double totalPossible = memberCnt * 2;
+		return totalPossible == 0 ? 0.0 : (completedCnt / totalPossible) * 100;
 	}
 
 	private LocalDate getStartOfWeek() {
@@ -302,12 +361,12 @@ public class CrewService {
 		return now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 	}
 
-	private boolean isCrewLeader(Long memberId, CrewMember crewMember, Crew findCrew) {
-		return crewMember.isLeader() && findCrew.getLeaderId().equals(memberId);
+	private boolean isCrewLeader(Long memberId, CrewMembership crewMembership, Long leaderId) {
+		return crewMembership.isLeader() && leaderId.equals(memberId);
 	}
 
-	private CrewMember getCrewMember(Long crewId, Long memberId) {
-		return crewMemberRepository.findByCrewIdAndMemberId(crewId, memberId).orElseThrow(
+	private CrewMembership getCrewMembership(Long crewId, Long memberId) {
+		return crewMembershipCache.find(crewId, memberId).orElseThrow(
 			() -> new UnauthorizedException("크루에 소속된 크루원이 아닙니다.")
 		);
 	}
@@ -338,11 +397,12 @@ public class CrewService {
 
 	private void validateLeaderLeaveCrew(Long crewId, CrewMember crewMember) {
 		if (!crewMember.isLeader()) {
+			deleteCrewMember(crewMember);
+			crewRepository.decreaseMemberCnt(crewId);
 			return;
 		}
 
-		int memberCnt = getCrewMemberCnt(crewId);
-		if (memberCnt > 1) {
+		if (crewRepository.decreaseLastMemberCnt(crewId) == 0) {
 			throw new ConflictException("크루장은 크루원 수가 1인 일 경우에 탈퇴할 수 있습니다.");
 		}
 		deleteCrewMember(crewMember);
@@ -351,10 +411,7 @@ public class CrewService {
 
 	private void deleteCrew(Long crewId) {
 		crewRepository.deleteById(crewId);
-	}
-
-	private int getCrewMemberCnt(Long crewId) {
-		return crewMemberRepository.countByCrewId(crewId);
+		crewSearchIndex.remove(crewId);
 	}
 
 	private void checkMemberExist(Long memberId) {
@@ -363,8 +420,14 @@ public class CrewService {
 		}
 	}
 
+	private void saveCrewMember(CrewMember crewMember) {
+		crewMemberRepository.save(crewMember);
+		publishCrewMembershipChanged(crewMember.getMember().getId());
+	}
+
 	private void deleteCrewMember(CrewMember crewMember) {
 		crewMemberRepository.deleteById(crewMember.getId());
+		publishCrewMembershipChanged(crewMember.getMember().getId());
 	}
 
 	private CrewMember findCrewMember(Long crewId, Long memberId) {
@@ -374,12 +437,12 @@ public class CrewService {
 	}
 
 	private void processApproval(ProceedApplyReqDto reqDto, Crew findCrew, CrewApplication crewApplication) {
-		validateCrewMemberLimit(findCrew);
+		increaseMemberCntWithinLimit(findCrew);
 
 		Member applyMember = getMemberByMemberId(reqDto.memberId());
 		crewApplication.approve();
 		CrewMember crewMember = CrewMember.createMember(findCrew, applyMember);
-		crewMemberRepository.save(crewMember);
+		saveCrewMember(crewMember);
 
 		saveInitialCrewMission(findCrew, applyMember);
 	}
@@ -390,11 +453,20 @@ public class CrewService {
 		findCrewMember.checkLeaderPrivilege();
 	}
 
-	private void validateCrewMemberLimit(Crew crew) {
-		int memberCnt = getCrewMemberCnt(crew.getId());
-		if (crew.checkReachedMemberLimit(memberCnt)) {
+	private void increaseMemberCntWithinLimit(Crew crew) {
+		if (crew.checkReachedMemberLimit(crew.getMemberCnt())
+			|| crewRepository.increaseMemberCnt(crew.getId()) == 0) {
 			throw new ConflictException("최대 인원수를 초과해서 크루원을 받을 수 없습니다.");
 		}
+		publishCrewChanged(crew.getId());
+	}
+
+	private void publishCrewChanged(Long crewId) {
+		eventPublisher.publishEvent(new CrewChangedEvent(crewId));
+	}
+
+	private void publishCrewMembershipChanged(Long memberId) {
+		eventPublisher.publishEvent(new CrewMembershipChangedEvent(memberId));
 	}
 
 	private CrewApplication getCrewApplicationByCrewIdAndMemberId(Long crewId, Long memberId) {
@@ -441,7 +513,8 @@ public class CrewService {
 
 	private void createAndSaveCrewMember(Crew savedCrew, Member findMember) {
 		CrewMember crewLeader = CrewMember.createLeader(savedCrew, findMember);
-		crewMemberRepository.save(crewLeader);
+		saveCrewMember(crewLeader);
+		increaseMemberCntWithinLimit(savedCrew);
 	}
 
 	private void checkSubscribedCrew(Long memberId) {
@@ -470,12 +543,57 @@ public class CrewService {
 		}
 	}
 
-	private FindAllCrewResDto convertToFindAllCrewResDto(Crew crew) {
-		int memberCnt = getCrewMemberCnt(crew.getId());
-		List<String> tags = findTagsToStrings(crew.getId());
-		CrewLeaderDto crewLeaderDto = convertCrewLeaderDto(crew.getLeaderId());
-		CrewImage crewImage = findImage(crew.getId());
-		return FindAllCrewResDto.of(crew, memberCnt, tags, crewLeaderDto, crewImage.getFilepath());
+	private List<Crew> searchCrews(SearchParamDto searchParamDto) {
+		if (!searchParamDto.hasCrewName()) {
+			return crewRepository.search(searchParamDto);
+		}
+
+		List<Long> crewIds = crewSearchIndex.search(searchParamDto.getCrewName(), searchParamDto.getCategory(),
+			searchParamDto.getLastCrewId(), searchParamDto.getSize());
+		if (crewIds.isEmpty()) {
+			return List.of();
+		}
+		return crewRepository.findAllByIdInOrderByIdDesc(crewIds);
+	}
+
+	private Map<Long, List<String>> findTagsToStringsByCrewIds(List<Long> crewIds) {
+		return tagRepository.findAllByCrewIdIn(crewIds).stream()
+			.collect(Collectors.groupingBy(
+				tag -> tag.getCrew().getId(),
+				Collectors.mapping(Tag::getContent, Collectors.toList())
+			));
+	}
+
+	private Map<Long, CrewLeaderDto> convertCrewLeaderDtos(List<Crew> crewList) {
+		Set<Long> leaderIds = crewList.stream()
+			.map(Crew::getLeaderId)
+			.collect(Collectors.toSet());
+
+		return memberRepository.findAllById(leaderIds).stream()
+			.collect(Collectors.toMap(Member::getId, leader -> new CrewLeaderDto(leader.getId(), leader.getNickname())));
+	}
+
+	private CrewLeaderDto getCrewLeaderDto(Map<Long, CrewLeaderDto> crewLeaders, Long leaderId) {
+		CrewLeaderDto crewLeaderDto = crewLeaders.get(leaderId);
+		if (crewLeaderDto == null) {
+			throw new NotFoundException("존재하지 않는 회원입니다.");
+		}
+		return crewLeaderDto;
+	}
+
+	private Map<Long, String> findImagePaths(List<Long> crewIds) {
+		// 이미지 행이 여러 개인 크루는 가장 최근에 등록된 이미지를 사용한다.
+		return crewImageRepository.findAllByCrewIdInOrderByIdAsc(crewIds).stream()
+			.collect(Collectors.toMap(crewImage -> crewImage.getCrew().getId(), CrewImage::getFilepath,
+				(previous, latest) -> latest));
+	}
+
+	private String getImagePath(Map<Long, String> imagePaths, Long crewId) {
+		String imagePath = imagePaths.get(crewId);
+		if (imagePath == null) {
+			throw new NotFoundException("크루 이미지를 찾을 수 없습니다.");
+		}
+		return imagePath;
 	}
 
 	private CrewLeaderDto convertCrewLeaderDto(Long leaderId) {
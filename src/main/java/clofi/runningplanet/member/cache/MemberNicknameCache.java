@@ -0,0 +1,55 @@
+package clofi.runningplanet.member.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import clofi.runningplanet.member.domain.MemberProfileUpdatedEvent;
+import clofi.runningplanet.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 채팅처럼 프레임마다 보낸 사람을 확인하는 경로에서 회원 닉네임을 캐싱한다.
+@Component
+public class MemberNicknameCache {
+	private static final int MAXIMUM_SIZE = 100_000;
+
+	private final MemberRepository memberRepository;
+	private final Cache<Long, String> nicknames;
+
+	public MemberNicknameCache(MemberRepository memberRepository, MeterRegistry meterRegistry,
+		@Value("${member.nickname.cache-ttl:10m}") Duration ttl) {
+		this.memberRepository = memberRepository;
+		this.nicknames = Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.maximumSize(MAXIMUM_SIZE)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, nicknames, "member.nickname");
+	}
+
+	public Optional<String> find(Long memberId) {
+		return Optional.ofNullable(nicknames.get(memberId,
+			key -> memberRepository.findNicknameById(memberId).orElse(null)));
+	}
+
+	public void evict(Long memberId) {
+		nicknames.invalidate(memberId);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(MemberProfileUpdatedEvent event) {
+		nicknames.invalidate(event.memberId());
+	}
+
+	public void invalidateAll() {
+		nicknames.invalidateAll();
+	}
+}
@@ -0,0 +1,48 @@
+package clofi.runningplanet.member.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import clofi.runningplanet.member.domain.OAuthType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 소셜 로그인 식별자로 회원 id만 캐싱한다. 닉네임처럼 바뀌는 값은 두지 않는다.
+// 조회는 캐시 밖에서 실행해서 DB 조회 동안 캐시 항목을 잠그지 않고, 동시 최초 로그인은 가입 시 유니크 제약으로 합쳐진다.
+@Component
+public class SocialLoginCache {
+	private static final int MAXIMUM_SIZE = 100_000;
+
+	private final Cache<SocialLoginKey, Long> socialLogins;
+
+	public SocialLoginCache(MeterRegistry meterRegistry,
+		@Value("${member.social-login.cache-ttl:10m}") Duration ttl) {
+		this.socialLogins = Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.maximumSize(MAXIMUM_SIZE)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, socialLogins, "member.social-login");
+	}
+
+	public Optional<Long> findMemberId(OAuthType oauthType, String oauthId) {
+		return Optional.ofNullable(socialLogins.getIfPresent(new SocialLoginKey(oauthType, oauthId)));
+	}
+
+	public void put(OAuthType oauthType, String oauthId, Long memberId) {
+		socialLogins.put(new SocialLoginKey(oauthType, oauthId), memberId);
+	}
+
+	public void invalidateAll() {
+		socialLogins.invalidateAll();
+	}
+
+	private record SocialLoginKey(OAuthType oauthType, String oauthId) {
+	}
+}
@@ -0,0 +1,4 @@
+package clofi.runningplanet.member.domain;
+
+public record MemberProfileUpdatedEvent(Long memberId) {
+}
@@ -24,9 +24,10 @@ public class CustomOAuth2User implements OAuth2User {
 		return null;
 	}
 
+	// 인증 주체 이름은 바뀌지 않는 회원 id를 사용한다.
 	@Override
 	public String getName() {
-		return member.getNickname();
+		return String.valueOf(member.getId());
 	}
 
 	public Long getId() {
@@ -3,6 +3,8 @@ package clofi.runningplanet.member.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import clofi.runningplanet.member.domain.Member;
 
@@ -11,4 +13,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 	Optional<Member> findByNickname(String nickName);
 
 	Optional<Member> findByIdAndNickname(Long memberId, String nickName);
+
+	@Query("SELECT m.nickname FROM Member m WHERE m.id = :memberId")
+	Optional<String> findNicknameById(@Param("memberId") Long memberId);
 }
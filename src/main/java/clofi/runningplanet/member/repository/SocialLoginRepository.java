@@ -1,5 +1,7 @@
 package clofi.runningplanet.member.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,9 +11,7 @@ import clofi.runningplanet.member.domain.SocialLogin;
 
 public interface SocialLoginRepository extends JpaRepository<SocialLogin, Long> {
 
-	Boolean existsByOauthTypeAndOauthId(OAuthType oauthType, String oAuthId);
-
 	@Query("SELECT sl FROM SocialLogin sl JOIN FETCH sl.member WHERE sl.oauthType = :oauthType AND sl.oauthId = :oauthId")
-	SocialLogin findByOauthTypeAndOauthIdWithMember(@Param("oauthType") OAuthType oauthType,@Param("oauthId") String oauthId);
+	Optional<SocialLogin> findByOauthTypeAndOauthIdWithMember(@Param("oauthType") OAuthType oauthType,@Param("oauthId") String oauthId);
 
 }
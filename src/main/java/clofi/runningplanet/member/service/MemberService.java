@@ -4,8 +4,11 @@ import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -14,6 +17,7 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
@@ -21,7 +25,9 @@ import org.springframework.web.multipart.MultipartFile;
 import clofi.runningplanet.common.service.S3StorageManagerUseCase;
 import clofi.runningplanet.crew.domain.CrewMember;
 import clofi.runningplanet.crew.repository.CrewMemberRepository;
+import clofi.runningplanet.member.cache.SocialLoginCache;
 import clofi.runningplanet.member.domain.Member;
+import clofi.runningplanet.member.domain.MemberProfileUpdatedEvent;
 import clofi.runningplanet.member.domain.OAuthType;
 import clofi.runningplanet.member.domain.SocialLogin;
 import clofi.runningplanet.member.dto.CustomOAuth2User;
@@ -49,6 +55,9 @@ public class MemberService extends DefaultOAuth2UserService {
 	private final CrewMemberRepository crewMemberRepository;
 	private final SocialLoginRepository socialLoginRepository;
 	private final S3StorageManagerUseCase s3StorageManagerUseCase;
+	private final SocialLoginRegistrar socialLoginRegistrar;
+	private final SocialLoginCache socialLoginCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Value("${spring.profiles.default}")
 	private String activeProfile;
@@ -69,6 +78,7 @@ public class MemberService extends DefaultOAuth2UserService {
 	}
 
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
 
 		OAuth2User oAuth2User = super.loadUser(userRequest);
@@ -97,40 +107,38 @@ public class MemberService extends DefaultOAuth2UserService {
 
 		validateOAuth2Response(oAuth2Response);
 
-		String oAuthType = oAuth2Response.getProvider();
-		String oAuthId = oAuth2Response.getProviderId();
-
-		String profileImage = oAuth2Response.getProfileImage() != null ? oAuth2Response.getProfileImage() : defaultProfileImage;
-
-
-		if (!socialLoginRepository.existsByOauthTypeAndOauthId(OAuthType.valueOf(oAuthType.toUpperCase()), oAuthId)){
-
-			Member member = Member.builder()
-				.nickname(oAuth2Response.getName())
-				.profileImg(profileImage)
-				.build();
-			Member savedMember = memberRepository.save(member);
-
-			SocialLogin socialLogin = SocialLogin.builder()
-				.member(savedMember)
-				.oauthId(oAuth2Response.getProviderId())
-				.oauthType(OAuthType.valueOf(oAuth2Response.getProvider().toUpperCase()))
-				.externalEmail(oAuth2Response.getEmail())
-				.build();
-			socialLoginRepository.save(socialLogin);
-
-			return new CustomOAuth2User(savedMember);
+		return loadSocialLoginMember(oAuth2Response);
+	}
 
-		} else {
+	CustomOAuth2User loadSocialLoginMember(OAuth2Response oAuth2Response) {
+		OAuthType oauthType = OAuthType.valueOf(oAuth2Response.getProvider().toUpperCase());
+		String oauthId = oAuth2Response.getProviderId();
 
-			SocialLogin socialLogin = socialLoginRepository.
-				findByOauthTypeAndOauthIdWithMember(OAuthType.valueOf(oAuthType.toUpperCase()),oAuthId);
-			Member member = socialLogin.getMember();
+		Long memberId = socialLoginCache.findMemberId(oauthType, oauthId).orElse(null);
+		if (memberId == null) {
+			memberId = findOrRegister(oAuth2Response, oauthType, oauthId).getId();
+			socialLoginCache.put(oauthType, oauthId, memberId);
+		}
 
-			return new CustomOAuth2User(member);
+		return new CustomOAuth2User(Member.builder().id(memberId).build());
+	}
 
+	// 가입 여부 확인과 회원 조회를 한 번의 쿼리로 처리하고, 동시 가입으로 충돌하면 먼저 저장된 회원을 사용한다.
+	private Member findOrRegister(OAuth2Response oAuth2Response, OAuthType oauthType, String oauthId) {
+		Optional<SocialLogin> socialLogin = socialLoginRepository.findByOauthTypeAndOauthIdWithMember(oauthType,
+			oauthId);
+		if (socialLogin.isPresent()) {
+			return socialLogin.get().getMember();
 		}
 
+		String profileImage = oAuth2Response.getProfileImage() != null ? oAuth2Response.getProfileImage() : defaultProfileImage;
+		try {
+			return socialLoginRegistrar.register(oAuth2Response, oauthType, profileImage);
+		} catch (DataIntegrityViolationException e) {
+			return socialLoginRepository.findByOauthTypeAndOauthIdWithMember(oauthType, oauthId)
+				.map(SocialLogin::getMember)
+				.orElseThrow(() -> e);
+		}
 	}
 
 	public void createOnboarding(Long memberId, CreateOnboardingRequest request) {
@@ -159,6 +167,7 @@ public class MemberService extends DefaultOAuth2UserService {
 
 		String updatedProfileImgUrl = imageFile != null ? updateProfileWithImage(member, request, imageFile)
 			: updateProfileWithoutImage(member, request);
+		eventPublisher.publishEvent(new MemberProfileUpdatedEvent(memberId));
 
 		return new UpdateProfileResponse(member.getNickname(), member.getWeight(), member.getGender(), member.getAge(),
 			updatedProfileImgUrl);
@@ -183,7 +192,9 @@ public class MemberService extends DefaultOAuth2UserService {
 	}
 
 	private String updateProfileWithImage(Member member, UpdateProfileRequest request, MultipartFile imageFile) {
-		s3StorageManagerUseCase.deleteImages(member.getProfileImg());
+		if (!member.getProfileImg().equals(defaultProfileImage)) {
+			s3StorageManagerUseCase.deleteImages(member.getProfileImg());
+		}
 
 		List<String> updatedProfileImageUrl = s3StorageManagerUseCase.uploadImages(Collections.singletonList(imageFile));
 
@@ -0,0 +1,41 @@
+package clofi.runningplanet.member.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import clofi.runningplanet.member.domain.Member;
+import clofi.runningplanet.member.domain.OAuthType;
+import clofi.runningplanet.member.domain.SocialLogin;
+import clofi.runningplanet.member.dto.response.OAuth2Response;
+import clofi.runningplanet.member.repository.MemberRepository;
+import clofi.runningplanet.member.repository.SocialLoginRepository;
+import lombok.RequiredArgsConstructor;
+
+// 최초 로그인 시 회원과 소셜 로그인을 별도 트랜잭션으로 저장해서,
+// 동시 가입으로 유니크 키 충돌이 나면 이 트랜잭션만 롤백되도록 한다.
+@RequiredArgsConstructor
+@Component
+public class SocialLoginRegistrar {
+	private final MemberRepository memberRepository;
+	private final SocialLoginRepository socialLoginRepository;
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public Member register(OAuth2Response oAuth2Response, OAuthType oauthType, String profileImage) {
+		Member member = Member.builder()
+			.nickname(oAuth2Response.getName())
+			.profileImg(profileImage)
+			.build();
+		Member savedMember = memberRepository.save(member);
+
+		SocialLogin socialLogin = SocialLogin.builder()
+			.member(savedMember)
+			.oauthId(oAuth2Response.getProviderId())
+			.oauthType(oauthType)
+			.externalEmail(oAuth2Response.getEmail())
+			.build();
+		socialLoginRepository.saveAndFlush(socialLogin);
+
+		return savedMember;
+	}
+}
@@ -0,0 +1,61 @@
+package clofi.runningplanet.mission.cache;
+
+import static clofi.runningplanet.common.utils.TransactionUtils.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 완료된 미션은 다시 미완료가 되지 않으므로 회원의 날짜별 완료 미션 식별자를 캐싱한다.
+@Component
+public class CompletedMissionCache {
+	private static final int MAXIMUM_SIZE = 100_000;
+
+	private final Cache<CompletedMissionKey, Set<String>> completedMissions;
+
+	public CompletedMissionCache(MeterRegistry meterRegistry) {
+		this.completedMissions = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofDays(1))
+			.maximumSize(MAXIMUM_SIZE)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, completedMissions, "mission.completed");
+	}
+
+	public boolean isCompleted(Long crewId, Long memberId, LocalDate missionDate, Set<String> missionTypes) {
+		Set<String> completed = completedMissions.getIfPresent(
+			new CompletedMissionKey(crewId, memberId, missionDate));
+		return completed != null && completed.containsAll(missionTypes);
+	}
+
+	// 트랜잭션이 롤백되면 완료로 기록하지 않는다.
+	public void record(Long crewId, Long memberId, LocalDate missionDate, Collection<String> missionTypes) {
+		if (missionTypes.isEmpty()) {
+			return;
+		}
+		Set<String> completed = Set.copyOf(missionTypes);
+		afterCommit(() -> completedMissions.asMap().merge(new CompletedMissionKey(crewId, memberId, missionDate),
+			completed, (previous, current) -> {
+				Set<String> merged = new HashSet<>(previous);
+				merged.addAll(current);
+				return merged;
+			}));
+	}
+
+	public void invalidateAll() {
+		completedMissions.invalidateAll();
+	}
+
+	private record CompletedMissionKey(Long crewId, Long memberId, LocalDate missionDate) {
+	}
+}
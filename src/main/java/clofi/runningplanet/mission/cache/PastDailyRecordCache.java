@@ -0,0 +1,61 @@
+package clofi.runningplanet.mission.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+import clofi.runningplanet.running.domain.DailyRecord;
+import clofi.runningplanet.running.repository.DailyRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 지난 날의 일일 집계는 더 이상 바뀌지 않으므로 회원별로 하루 동안 캐싱한다.
+@Component
+public class PastDailyRecordCache {
+	private static final int MAXIMUM_SIZE = 100_000;
+
+	private final DailyRecordRepository dailyRecordRepository;
+	private final Cache<PastDailyRecordKey, Map<LocalDate, TodayRecords>> pastDailyRecords;
+
+	public PastDailyRecordCache(DailyRecordRepository dailyRecordRepository, MeterRegistry meterRegistry) {
+		this.dailyRecordRepository = dailyRecordRepository;
+		this.pastDailyRecords = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofDays(1))
+			.maximumSize(MAXIMUM_SIZE)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, pastDailyRecords, "mission.past-daily-records");
+	}
+
+	// startDate부터 어제까지의 일일 집계. 조회는 캐시 잠금 밖에서 한다.
+	public Map<LocalDate, TodayRecords> find(Long memberId, LocalDate startDate, LocalDate today) {
+		if (!startDate.isBefore(today)) {
+			return Map.of();
+		}
+		PastDailyRecordKey key = new PastDailyRecordKey(memberId, startDate, today);
+		Map<LocalDate, TodayRecords> cached = pastDailyRecords.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		Map<LocalDate, TodayRecords> loaded = dailyRecordRepository
+			.findAllByMemberIdAndRecordDateBetween(memberId, startDate, today.minusDays(1)).stream()
+			.collect(Collectors.toUnmodifiableMap(DailyRecord::getRecordDate, TodayRecords::new));
+		pastDailyRecords.put(key, loaded);
+		return loaded;
+	}
+
+	public void invalidateAll() {
+		pastDailyRecords.invalidateAll();
+	}
+
+	private record PastDailyRecordKey(Long memberId, LocalDate startDate, LocalDate today) {
+	}
+}
@@ -0,0 +1,20 @@
+package clofi.runningplanet.mission.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import clofi.runningplanet.mission.domain.MissionDefinition;
+
+// mission.definitions[n].id/content/rule.(metric/goal/threshold/window/aggregation/daily-threshold)
+@ConfigurationProperties(prefix = "mission")
+public record MissionDefinitionProperties(
+	List<MissionDefinition> definitions
+) {
+
+	// 설정한 미션이 없으면 기본 미션을 사용한다.
+	public MissionDefinitionProperties {
+		definitions = definitions == null || definitions.isEmpty() ? MissionDefinition.DEFAULTS
+			: List.copyOf(definitions);
+	}
+}
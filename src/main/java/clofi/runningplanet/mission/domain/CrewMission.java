@@ -1,24 +1,28 @@
 package clofi.runningplanet.mission.domain;
 
+import java.time.LocalDate;
+
 import clofi.runningplanet.common.domain.BaseEntity;
 import clofi.runningplanet.crew.domain.Crew;
 import clofi.runningplanet.member.domain.Member;
-import clofi.runningplanet.mission.domain.vo.TodayRecords;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_crew_mission_crew_member_type_date",
+	columnNames = {"crew_id", "member_id", "type", "mission_date"}))
 @Entity
 public class CrewMission extends BaseEntity {
 
@@ -35,14 +39,17 @@ public class CrewMission extends BaseEntity {
 	@JoinColumn(name = "crew_id")
 	private Crew crew;
 
-	@Enumerated(EnumType.STRING)
+	// 설정한 미션 정의의 식별자
 	@Column(name = "type", nullable = false)
-	private MissionType type;
+	private String type;
 
 	@Column(name = "is_complete", nullable = false)
 	private boolean isCompleted = false;
 
-	public CrewMission(Long id, Member member, Crew crew, MissionType type, boolean isCompleted) {
+	@Column(name = "mission_date", nullable = false)
+	private LocalDate missionDate;
+
+	public CrewMission(Long id, Member member, Crew crew, String type, boolean isCompleted) {
 		this.id = id;
 		this.member = member;
 		this.crew = crew;
@@ -50,10 +57,17 @@ public class CrewMission extends BaseEntity {
 		this.isCompleted = isCompleted;
 	}
 
-	public CrewMission(Member member, Crew crew, MissionType type) {
+	public CrewMission(Member member, Crew crew, String type) {
 		this(null, member, crew, type, false);
 	}
 
+	@PrePersist
+	private void initMissionDate() {
+		if (missionDate == null) {
+			missionDate = getCreatedAt().toLocalDate();
+		}
+	}
+
 	public void completeMission() {
 		this.isCompleted = true;
 	}
@@ -63,12 +77,4 @@ public class CrewMission extends BaseEntity {
 			throw new IllegalArgumentException("이미 완료한 미션입니다.");
 		}
 	}
-
-	public boolean isMissionComplete(TodayRecords todayRecords) {
-		return type.isComplete(todayRecords);
-	}
-
-	public double calculateProgress(TodayRecords todayRecords) {
-		return Math.min(type.calculateProgress(todayRecords), 1) * 100;
-	}
 }
@@ -0,0 +1,42 @@
+package clofi.runningplanet.mission.domain;
+
+import java.time.LocalDate;
+
+import clofi.runningplanet.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_crew_mission_daily_count_crew_date",
+	columnNames = {"crew_id", "mission_date"}))
+@Entity
+public class CrewMissionDailyCount extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "crew_mission_daily_count_id", nullable = false)
+	private Long id;
+
+	@Column(name = "crew_id", nullable = false)
+	private Long crewId;
+
+	@Column(name = "mission_date", nullable = false)
+	private LocalDate missionDate;
+
+	@Column(name = "completed_cnt", nullable = false, updatable = false)
+	private int completedCnt;
+
+	public CrewMissionDailyCount(Long crewId, LocalDate missionDate) {
+		this.crewId = crewId;
+		this.missionDate = missionDate;
+	}
+}
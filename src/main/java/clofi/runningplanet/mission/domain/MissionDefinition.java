@@ -0,0 +1,33 @@
+package clofi.runningplanet.mission.domain;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.springframework.util.StringUtils;
+
+import clofi.runningplanet.mission.domain.rule.MissionMetric;
+import clofi.runningplanet.mission.domain.rule.MissionRule;
+
+// 미션 식별자와 화면에 보여줄 내용, 달성 규칙을 한 단위로 정의하므로 규칙을 바꿀 때 내용도 함께 바꾼다.
+public record MissionDefinition(
+	String id,
+	String content,
+	MissionRule rule
+) {
+	private static final Pattern ID_PATTERN = Pattern.compile("[A-Z][A-Z0-9_]*");
+
+	public static final List<MissionDefinition> DEFAULTS = List.of(
+		new MissionDefinition("DISTANCE", "1km 달리기", MissionRule.atLeast(MissionMetric.DISTANCE, 1000)),
+		new MissionDefinition("DURATION", "1시간 달리기", MissionRule.atLeast(MissionMetric.DURATION, 3600)));
+
+	public MissionDefinition {
+		if (id == null || !ID_PATTERN.matcher(id).matches()) {
+			throw new IllegalArgumentException("미션 식별자는 영문 대문자, 숫자, 밑줄로 구성되어야 합니다.");
+		}
+		if (!StringUtils.hasText(content)) {
+			throw new IllegalArgumentException("미션 내용은 필수입니다.");
+		}
+		Objects.requireNonNull(rule, "미션 규칙은 필수입니다.");
+	}
+}
@@ -0,0 +1,10 @@
+package clofi.runningplanet.mission.domain.rule;
+
+public enum MissionAggregation {
+	// 기간 내 기록 전체를 합산한 값
+	TOTAL,
+	// 기간 내 가장 좋은 하루의 값
+	BEST_DAY,
+	// 기간 내 하루 목표를 연속으로 달성한 가장 긴 일수
+	STREAK
+}
@@ -0,0 +1,10 @@
+package clofi.runningplanet.mission.domain.rule;
+
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+
+public interface MissionEvaluator {
+
+	boolean isComplete(MissionRecords missionRecords);
+
+	double calculateProgress(MissionRecords missionRecords);
+}
@@ -0,0 +1,6 @@
+package clofi.runningplanet.mission.domain.rule;
+
+public enum MissionGoal {
+	AT_LEAST,
+	AT_MOST
+}
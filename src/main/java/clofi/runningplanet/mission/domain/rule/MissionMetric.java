@@ -0,0 +1,22 @@
+package clofi.runningplanet.mission.domain.rule;
+
+import java.util.function.ToDoubleFunction;
+
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+
+public enum MissionMetric {
+	DISTANCE(TodayRecords::getTotalDistance),
+	DURATION(TodayRecords::getTotalDuration),
+	RUN_COUNT(TodayRecords::getRunCount),
+	PACE(TodayRecords::getAvgPace);
+
+	private final ToDoubleFunction<TodayRecords> extractor;
+
+	MissionMetric(ToDoubleFunction<TodayRecords> extractor) {
+		this.extractor = extractor;
+	}
+
+	public double extract(TodayRecords todayRecords) {
+		return extractor.applyAsDouble(todayRecords);
+	}
+}
@@ -0,0 +1,124 @@
+package clofi.runningplanet.mission.domain.rule;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+
+public record MissionRule(
+	MissionMetric metric,
+	MissionGoal goal,
+	double threshold,
+	MissionWindow window,
+	MissionAggregation aggregation,
+	Double dailyThreshold
+) {
+
+	public MissionRule {
+		Objects.requireNonNull(metric, "미션 지표는 필수입니다.");
+		Objects.requireNonNull(goal, "미션 목표 방향은 필수입니다.");
+		if (threshold <= 0) {
+			throw new IllegalArgumentException("미션 목표값은 0보다 커야 합니다.");
+		}
+		window = window == null ? MissionWindow.DAY : window;
+		aggregation = aggregation == null ? MissionAggregation.TOTAL : aggregation;
+		if (aggregation == MissionAggregation.STREAK && window == MissionWindow.DAY) {
+			throw new IllegalArgumentException("연속 달성 일수는 하루보다 긴 기간에서만 집계할 수 있습니다.");
+		}
+		if (dailyThreshold != null && dailyThreshold <= 0) {
+			throw new IllegalArgumentException("하루 목표값은 0보다 커야 합니다.");
+		}
+	}
+
+	public static MissionRule atLeast(MissionMetric metric, double threshold) {
+		return new MissionRule(metric, MissionGoal.AT_LEAST, threshold, MissionWindow.DAY, MissionAggregation.TOTAL,
+			null);
+	}
+
+	public static MissionRule atMost(MissionMetric metric, double threshold) {
+		return new MissionRule(metric, MissionGoal.AT_MOST, threshold, MissionWindow.DAY, MissionAggregation.TOTAL,
+			null);
+	}
+
+	// 이번 주에 하루 목표를 days일 연속으로 달성하는 규칙
+	public static MissionRule weeklyStreak(MissionMetric metric, MissionGoal goal, double dailyThreshold, int days) {
+		return new MissionRule(metric, goal, days, MissionWindow.WEEK, MissionAggregation.STREAK, dailyThreshold);
+	}
+
+	public MissionRule over(MissionWindow window, MissionAggregation aggregation) {
+		return new MissionRule(metric, goal, threshold, window, aggregation, dailyThreshold);
+	}
+
+	public MissionEvaluator compile() {
+		// 연속 일수는 목표 방향과 관계없이 많을수록 좋다.
+		if (aggregation == MissionAggregation.STREAK) {
+			return new AtLeastEvaluator(this);
+		}
+		return switch (goal) {
+			case AT_LEAST -> new AtLeastEvaluator(this);
+			case AT_MOST -> new AtMostEvaluator(this);
+		};
+	}
+
+	// 기간과 집계 방식에 따라 기록을 하나의 값으로 모은다. 기록이 없는 날은 0이다.
+	private double aggregate(MissionRecords missionRecords) {
+		return switch (aggregation) {
+			case TOTAL -> metric.extract(missionRecords.total(window));
+			case BEST_DAY -> missionRecords.daily(window).stream()
+				.map(metric::extract)
+				.filter(value -> goal == MissionGoal.AT_LEAST || value > 0)
+				.max(goal == MissionGoal.AT_LEAST ? Comparator.<Double>naturalOrder() : Comparator.reverseOrder())
+				.orElse(0.0);
+			case STREAK -> longestStreak(missionRecords);
+		};
+	}
+
+	private int longestStreak(MissionRecords missionRecords) {
+		int longest = 0;
+		int current = 0;
+		for (TodayRecords todayRecords : missionRecords.daily(window)) {
+			current = isDailyGoalMet(todayRecords) ? current + 1 : 0;
+			longest = Math.max(longest, current);
+		}
+		return longest;
+	}
+
+	// 하루 목표가 없으면 운동한 날을 달성한 날로 본다.
+	private boolean isDailyGoalMet(TodayRecords todayRecords) {
+		double value = metric.extract(todayRecords);
+		if (value <= 0 || dailyThreshold == null) {
+			return value > 0;
+		}
+		return goal == MissionGoal.AT_LEAST ? value >= dailyThreshold : value <= dailyThreshold;
+	}
+
+	private record AtLeastEvaluator(MissionRule rule) implements MissionEvaluator {
+
+		@Override
+		public boolean isComplete(MissionRecords missionRecords) {
+			return rule.aggregate(missionRecords) >= rule.threshold();
+		}
+
+		@Override
+		public double calculateProgress(MissionRecords missionRecords) {
+			return rule.aggregate(missionRecords) / rule.threshold();
+		}
+	}
+
+	// 페이스처럼 값이 작을수록 좋은 지표. 기록이 없으면 달성하지 못한 것으로 본다.
+	private record AtMostEvaluator(MissionRule rule) implements MissionEvaluator {
+
+		@Override
+		public boolean isComplete(MissionRecords missionRecords) {
+			double value = rule.aggregate(missionRecords);
+			return value > 0 && value <= rule.threshold();
+		}
+
+		@Override
+		public double calculateProgress(MissionRecords missionRecords) {
+			double value = rule.aggregate(missionRecords);
+			return value > 0 ? rule.threshold() / value : 0;
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package clofi.runningplanet.mission.domain.rule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum MissionWindow {
+	DAY,
+	WEEK;
+
+	public LocalDate startDate(LocalDate today) {
+		return switch (this) {
+			case DAY -> today;
+			case WEEK -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		};
+	}
+}
@@ -0,0 +1,43 @@
+package clofi.runningplanet.mission.domain.vo;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import clofi.runningplanet.mission.domain.rule.MissionWindow;
+import lombok.Getter;
+
+// 미션 기간별 평가를 위해 날짜별 일일 집계를 모아 두고, 기간별 합계는 생성 시 한 번만 계산한다.
+@Getter
+public class MissionRecords {
+	private final LocalDate today;
+	private final Map<LocalDate, TodayRecords> dailyRecords;
+	private final Map<MissionWindow, List<TodayRecords>> windowDailyRecords = new EnumMap<>(MissionWindow.class);
+	private final Map<MissionWindow, TodayRecords> windowTotals = new EnumMap<>(MissionWindow.class);
+
+	public MissionRecords(LocalDate today, Map<LocalDate, TodayRecords> dailyRecords) {
+		this.today = today;
+		this.dailyRecords = Map.copyOf(dailyRecords);
+		for (MissionWindow window : MissionWindow.values()) {
+			List<TodayRecords> daily = window.startDate(today).datesUntil(today.plusDays(1))
+				.map(date -> this.dailyRecords.getOrDefault(date, TodayRecords.EMPTY))
+				.toList();
+			windowDailyRecords.put(window, daily);
+			windowTotals.put(window, daily.stream().reduce(TodayRecords.EMPTY, TodayRecords::plus));
+		}
+	}
+
+	public static MissionRecords ofToday(LocalDate today, TodayRecords todayRecords) {
+		return new MissionRecords(today, Map.of(today, todayRecords));
+	}
+
+	public TodayRecords total(MissionWindow window) {
+		return windowTotals.get(window);
+	}
+
+	// 기록이 없는 날은 빈 기록으로 채운다.
+	public List<TodayRecords> daily(MissionWindow window) {
+		return windowDailyRecords.get(window);
+	}
+}
@@ -1,22 +1,40 @@
 package clofi.runningplanet.mission.domain.vo;
 
-import java.util.List;
-
-import clofi.runningplanet.running.domain.Record;
+import clofi.runningplanet.running.domain.DailyRecord;
 import lombok.Getter;
 
 @Getter
 public class TodayRecords {
+	public static final TodayRecords EMPTY = new TodayRecords(0, 0, 0);
+
 	private final double totalDistance;
 	private final int totalDuration;
+	private final int runCount;
 
-	public TodayRecords(List<Record> records) {
-		this.totalDistance = records.stream().mapToDouble(Record::getRunDistance).sum();
-		this.totalDuration = records.stream().mapToInt(Record::getRunTime).sum();
+	public TodayRecords(DailyRecord dailyRecord) {
+		this(dailyRecord.getTotalDistance(), dailyRecord.getTotalDuration(), dailyRecord.getRunCount());
 	}
 
 	public TodayRecords(double totalDistance, int totalDuration) {
+		this(totalDistance, totalDuration, 0);
+	}
+
+	public TodayRecords(double totalDistance, int totalDuration, int runCount) {
 		this.totalDistance = totalDistance;
 		this.totalDuration = totalDuration;
+		this.runCount = runCount;
+	}
+
+	public TodayRecords plus(TodayRecords other) {
+		return new TodayRecords(totalDistance + other.totalDistance, totalDuration + other.totalDuration,
+			runCount + other.runCount);
+	}
+
+	// 1km 당 소요 시간(초)
+	public double getAvgPace() {
+		if (totalDistance <= 0) {
+			return 0;
+		}
+		return totalDuration * 1000 / totalDistance;
 	}
 }
@@ -1,11 +1,10 @@
 package clofi.runningplanet.mission.dto.response;
 
-import clofi.runningplanet.mission.domain.MissionType;
-
 public record GetCrewMissionResDto(
 	Long missionId,
-	MissionType missionContent,
+	String missionContent,
 	double missionProgress,
-	boolean missionComplete
+	boolean missionComplete,
+	String missionDescription
 ) {
 }
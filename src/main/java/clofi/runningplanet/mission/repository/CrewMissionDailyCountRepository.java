@@ -0,0 +1,27 @@
+package clofi.runningplanet.mission.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import clofi.runningplanet.mission.domain.CrewMissionDailyCount;
+
+public interface CrewMissionDailyCountRepository extends JpaRepository<CrewMissionDailyCount, Long> {
+
+	List<CrewMissionDailyCount> findAllByCrewIdAndMissionDateBetween(Long crewId, LocalDate startDate,
+		LocalDate endDate);
+
+	// 카운터 생성과 증가를 한 문장으로 처리해 빈 행 조회 후 삽입하는 사이의 갭 락 교착을 피한다.
+	@Modifying
+	@Query(value = "INSERT INTO crew_mission_daily_count "
+		+ "(crew_id, mission_date, completed_cnt, created_at, updated_at) "
+		+ "VALUES (:crewId, :missionDate, 1, :now, :now) "
+		+ "ON DUPLICATE KEY UPDATE completed_cnt = completed_cnt + 1, updated_at = :now", nativeQuery = true)
+	void increaseCompletedCnt(@Param("crewId") Long crewId, @Param("missionDate") LocalDate missionDate,
+		@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,75 @@
+package clofi.runningplanet.mission.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import clofi.runningplanet.mission.service.MissionRuleRegistry;
+
+@Repository
+public class CrewMissionJdbcRepository {
+
+	private static final String INSERT_MISSIONS = """
+		INSERT INTO crew_mission (member_id, crew_id, type, is_complete, mission_date, created_at, updated_at)
+		SELECT cm.member_id, cm.crew_id, t.type, FALSE, ?, ?, ?
+		FROM crew_member cm
+		CROSS JOIN (%s) t
+		WHERE %s
+		AND cm.deleted_at IS NULL
+		AND NOT EXISTS (
+			SELECT 1 FROM crew_mission m
+			WHERE m.crew_id = cm.crew_id
+			AND m.member_id = cm.member_id
+			AND m.type = t.type
+			AND m.mission_date = ?
+		)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String insertDailyMissions;
+	private final String insertMemberMissions;
+
+	// 미션 식별자는 설정에서 형식을 검증한 값이므로 SQL에 그대로 넣는다.
+	public CrewMissionJdbcRepository(JdbcTemplate jdbcTemplate, MissionRuleRegistry missionRuleRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		String missionTypes = missionRuleRegistry.getMissionIds().stream()
+			.map(missionId -> "SELECT '" + missionId + "' AS type")
+			.collect(Collectors.joining(" UNION ALL "));
+		this.insertDailyMissions = INSERT_MISSIONS.formatted(missionTypes, "cm.crew_member_id BETWEEN ? AND ?");
+		this.insertMemberMissions = INSERT_MISSIONS.formatted(missionTypes, "cm.crew_id = ? AND cm.member_id = ?");
+	}
+
+	public Optional<CrewMemberIdRange> findCrewMemberIdRange() {
+		return jdbcTemplate.query(
+			"SELECT MIN(crew_member_id), MAX(crew_member_id) FROM crew_member WHERE deleted_at IS NULL",
+			rs -> {
+				rs.next();
+				long maxId = rs.getLong(2);
+				return rs.wasNull() ? Optional.empty() : Optional.of(new CrewMemberIdRange(rs.getLong(1), maxId));
+			});
+	}
+
+	public int insertDailyMissions(long fromCrewMemberId, long toCrewMemberId, LocalDate missionDate,
+		LocalDateTime createdAt) {
+		return jdbcTemplate.update(insertDailyMissions, missionDate, createdAt, createdAt, fromCrewMemberId,
+			toCrewMemberId, missionDate);
+	}
+
+	// 동시 요청이 먼저 생성한 경우 유니크 키 위반은 무시한다.
+	public int insertMissionsIfAbsent(Long crewId, Long memberId, LocalDate missionDate, LocalDateTime createdAt) {
+		try {
+			return jdbcTemplate.update(insertMemberMissions, missionDate, createdAt, createdAt, crewId, memberId,
+				missionDate);
+		} catch (DuplicateKeyException e) {
+			return 0;
+		}
+	}
+
+	public record CrewMemberIdRange(long minId, long maxId) {
+	}
+}
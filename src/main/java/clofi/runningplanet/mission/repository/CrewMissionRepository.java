@@ -1,27 +1,31 @@
 package clofi.runningplanet.mission.repository;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import clofi.runningplanet.mission.domain.CrewMission;
+import jakarta.persistence.LockModeType;
 
 public interface CrewMissionRepository extends JpaRepository<CrewMission, Long> {
 
-	@Query("select cm from CrewMission cm where cm.crew.id = :crewId and cm.member.id = :memberId and cm.createdAt between :startOfDay and :endOfDay")
-	List<CrewMission> findAllByCrewIdAndMemberIdAndToday(
-		@Param("crewId") Long crewId,
-		@Param("memberId") Long memberId,
-		@Param("startOfDay") LocalDateTime startOfDay,
-		@Param("endOfDay") LocalDateTime endOfDay);
-
-	@Query("SELECT cm FROM CrewMission cm WHERE cm.crew.id = :crewId AND cm.createdAt BETWEEN :startOfWeek AND :endOfWeek")
-	List<CrewMission> findAllByCrewIdAndWeek(@Param("crewId") Long crewId,
-		@Param("startOfWeek") LocalDateTime startOfWeek,
-		@Param("endOfWeek") LocalDateTime endOfWeek);
+	List<CrewMission> findAllByCrewIdAndMemberIdAndMissionDate(Long crewId, Long memberId, LocalDate missionDate);
+
+	// 잠금 읽기는 트랜잭션 스냅샷이 아닌 최신 커밋 데이터를 읽으므로 동시 요청이 생성한 미션도 조회된다.
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("select cm from CrewMission cm "
+		+ "where cm.crew.id = :crewId and cm.member.id = :memberId and cm.missionDate = :missionDate")
+	List<CrewMission> findAllForShare(@Param("crewId") Long crewId, @Param("memberId") Long memberId,
+		@Param("missionDate") LocalDate missionDate);
+
+	@Modifying
+	@Query("UPDATE CrewMission cm SET cm.isCompleted = true WHERE cm.id = :missionId AND cm.isCompleted = false")
+	int completeMission(@Param("missionId") Long missionId);
 
 	@Query("select cm from CrewMission cm where cm.crew.id = :crewId and cm.member.id in :memberIds")
 	List<CrewMission> findByCrewIdAndMemberIds(@Param("crewId") Long crewId, @Param("memberIds") List<Long> memberIds);
@@ -0,0 +1,22 @@
+package clofi.runningplanet.mission.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import clofi.runningplanet.mission.repository.CrewMissionDailyCountRepository;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class CrewMissionCountService {
+
+	private final CrewMissionDailyCountRepository crewMissionDailyCountRepository;
+
+	@Transactional
+	public void increaseCompletedCnt(Long crewId, LocalDate missionDate) {
+		crewMissionDailyCountRepository.increaseCompletedCnt(crewId, missionDate, LocalDateTime.now());
+	}
+}
@@ -0,0 +1,67 @@
+package clofi.runningplanet.mission.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import clofi.runningplanet.mission.repository.CrewMissionJdbcRepository;
+import clofi.runningplanet.mission.repository.CrewMissionJdbcRepository.CrewMemberIdRange;
+import clofi.runningplanet.scheduler.service.JobCheckpoint;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class DailyMissionGenerator {
+
+	private final CrewMissionJdbcRepository crewMissionJdbcRepository;
+	private final int chunkSize;
+
+	public DailyMissionGenerator(CrewMissionJdbcRepository crewMissionJdbcRepository,
+		@Value("${mission.daily.chunk-size:1000}") int chunkSize) {
+		this.crewMissionJdbcRepository = crewMissionJdbcRepository;
+		this.chunkSize = chunkSize;
+	}
+
+	// 청크마다 INSERT ... SELECT 한 번으로 커밋되며, 이미 생성된 미션은 건너뛰므로 재실행해도 안전하다.
+	public int generate(LocalDate date) {
+		return generate(date, JobCheckpoint.NONE);
+	}
+
+	public int generate(LocalDate date, JobCheckpoint checkpoint) {
+		Optional<CrewMemberIdRange> idRange = crewMissionJdbcRepository.findCrewMemberIdRange();
+		if (idRange.isEmpty()) {
+			return 0;
+		}
+
+		LocalDateTime createdAt = LocalDateTime.now();
+		long maxId = idRange.get().maxId();
+
+		Long lastProcessedId = checkpoint.lastProcessedId();
+		long startId = lastProcessedId == null ? idRange.get().minId() : Math.max(idRange.get().minId(),
+			lastProcessedId + 1);
+
+		int insertedCnt = checkpoint.processedCnt();
+		for (long fromId = startId; fromId <= maxId; fromId += chunkSize) {
+			long toId = Math.min(fromId + chunkSize - 1, maxId);
+			insertedCnt += insertChunk(fromId, toId, date, createdAt);
+			checkpoint.save(toId, insertedCnt);
+			log.info("daily mission generation progress. date={}, crewMemberId={}/{}, inserted={}", date, toId, maxId,
+				insertedCnt);
+		}
+		return insertedCnt;
+	}
+
+	// 조회 시점에 생성된 미션과 충돌하면, 이미 생성된 미션을 건너뛰도록 한 번 더 실행한다.
+	private int insertChunk(long fromId, long toId, LocalDate date, LocalDateTime createdAt) {
+		try {
+			return crewMissionJdbcRepository.insertDailyMissions(fromId, toId, date, createdAt);
+		} catch (DuplicateKeyException e) {
+			log.warn("daily mission chunk conflicted with on-demand creation. crewMemberId={}~{}", fromId, toId);
+			return crewMissionJdbcRepository.insertDailyMissions(fromId, toId, date, createdAt);
+		}
+	}
+}
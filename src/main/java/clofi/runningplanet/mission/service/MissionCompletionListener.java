@@ -0,0 +1,54 @@
+package clofi.runningplanet.mission.service;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import clofi.runningplanet.mission.cache.CompletedMissionCache;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+import clofi.runningplanet.running.domain.RunningRecordUpdatedEvent;
+import clofi.runningplanet.socket.CrewDestination;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MissionCompletionListener {
+
+	private final MissionService missionService;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final CompletedMissionCache completedMissionCache;
+	private final MissionRuleRegistry missionRuleRegistry;
+	private final MissionRecordReader missionRecordReader;
+
+	// 달성한 미션이 없거나 모두 이미 완료했다면 미션을 조회하지 않는다.
+	// 기록은 이미 커밋되었으므로 자동 완료에 실패해도 기록 저장 요청에는 예외를 전파하지 않는다.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void completeMissions(RunningRecordUpdatedEvent event) {
+		try {
+			LocalDate today = LocalDate.now();
+			TodayRecords todayRecords = new TodayRecords(event.totalDistance(), event.totalDuration(),
+				event.runCount());
+			MissionRecords missionRecords = missionRecordReader.read(event.memberId(), today, todayRecords);
+			Set<String> achievableIds = missionRuleRegistry.findAchievable(missionRecords);
+			if (achievableIds.isEmpty()
+				|| completedMissionCache.isCompleted(event.crewId(), event.memberId(), today, achievableIds)) {
+				return;
+			}
+
+			missionService.completeMissions(event.crewId(), event.memberId(), missionRecords)
+				.ifPresent(crewMissionListDto -> messagingTemplate.convertAndSendToUser(
+					String.valueOf(event.memberId()), CrewDestination.MISSION.of(event.crewId()),
+					crewMissionListDto));
+		} catch (RuntimeException e) {
+			log.error("automatic mission completion failed. crewId={}, memberId={}", event.crewId(),
+				event.memberId(), e);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package clofi.runningplanet.mission.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import clofi.runningplanet.mission.cache.PastDailyRecordCache;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+import clofi.runningplanet.running.repository.DailyRecordRepository;
+import lombok.RequiredArgsConstructor;
+
+// 미션 평가용 기록은 운동 기록을 다시 조회하지 않고 회원별 일일 집계로 만든다.
+@RequiredArgsConstructor
+@Component
+public class MissionRecordReader {
+
+	private final DailyRecordRepository dailyRecordRepository;
+	private final PastDailyRecordCache pastDailyRecordCache;
+	private final MissionRuleRegistry missionRuleRegistry;
+
+	public MissionRecords read(Long memberId, LocalDate today) {
+		TodayRecords todayRecords = dailyRecordRepository.findByMemberIdAndRecordDate(memberId, today)
+			.map(TodayRecords::new)
+			.orElse(TodayRecords.EMPTY);
+		return read(memberId, today, todayRecords);
+	}
+
+	// 오늘의 합계는 기록 갱신 이벤트가 전달한 값을 그대로 사용한다.
+	public MissionRecords read(Long memberId, LocalDate today, TodayRecords todayRecords) {
+		LocalDate startDate = missionRuleRegistry.findEarliestStartDate(today);
+		Map<LocalDate, TodayRecords> dailyRecords = new HashMap<>(
+			pastDailyRecordCache.find(memberId, startDate, today));
+		dailyRecords.put(today, todayRecords);
+		return new MissionRecords(today, dailyRecords);
+	}
+}
@@ -0,0 +1,77 @@
+package clofi.runningplanet.mission.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import clofi.runningplanet.mission.config.MissionDefinitionProperties;
+import clofi.runningplanet.mission.domain.MissionDefinition;
+import clofi.runningplanet.mission.domain.rule.MissionEvaluator;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(MissionDefinitionProperties.class)
+public class MissionRuleRegistry {
+	private final Map<String, MissionDefinition> definitions = new LinkedHashMap<>();
+	private final Map<String, MissionEvaluator> evaluators = new HashMap<>();
+	private final List<String> missionIds;
+
+	public MissionRuleRegistry(MissionDefinitionProperties properties) {
+		for (MissionDefinition definition : properties.definitions()) {
+			if (definitions.putIfAbsent(definition.id(), definition) != null) {
+				throw new IllegalArgumentException("미션 식별자가 중복되었습니다. id=" + definition.id());
+			}
+			evaluators.put(definition.id(), definition.rule().compile());
+		}
+		this.missionIds = List.copyOf(definitions.keySet());
+		log.info("mission definitions loaded. definitions={}", definitions.values());
+	}
+
+	public List<String> getMissionIds() {
+		return missionIds;
+	}
+
+	// 설정에서 빠진 미션은 이미 생성된 행이 있어도 평가하지 않는다.
+	public boolean contains(String missionId) {
+		return definitions.containsKey(missionId);
+	}
+
+	public String getContent(String missionId) {
+		MissionDefinition definition = definitions.get(missionId);
+		return definition == null ? missionId : definition.content();
+	}
+
+	public boolean isComplete(String missionId, MissionRecords missionRecords) {
+		MissionEvaluator evaluator = evaluators.get(missionId);
+		return evaluator != null && evaluator.isComplete(missionRecords);
+	}
+
+	public double calculateProgress(String missionId, MissionRecords missionRecords) {
+		MissionEvaluator evaluator = evaluators.get(missionId);
+		return evaluator == null ? 0 : evaluator.calculateProgress(missionRecords);
+	}
+
+	// 기간이 긴 규칙도 집계된 기록으로 평가하므로 실제로 달성한 미션만 반환한다.
+	public Set<String> findAchievable(MissionRecords missionRecords) {
+		return missionIds.stream()
+			.filter(missionId -> isComplete(missionId, missionRecords))
+			.collect(Collectors.toSet());
+	}
+
+	// 모든 규칙을 평가하는 데 필요한 가장 이른 기록 날짜
+	public LocalDate findEarliestStartDate(LocalDate today) {
+		return definitions.values().stream()
+			.map(definition -> definition.rule().window().startDate(today))
+			.min(LocalDate::compareTo)
+			.orElse(today);
+	}
+}
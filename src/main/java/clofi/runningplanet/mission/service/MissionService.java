@@ -2,51 +2,62 @@ package clofi.runningplanet.mission.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import clofi.runningplanet.common.exception.ConflictException;
 import clofi.runningplanet.common.exception.ForbiddenException;
-import clofi.runningplanet.common.exception.InternalServerException;
 import clofi.runningplanet.common.exception.NotFoundException;
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
 import clofi.runningplanet.crew.domain.Crew;
-import clofi.runningplanet.crew.domain.CrewMember;
-import clofi.runningplanet.crew.repository.CrewMemberRepository;
+import clofi.runningplanet.crew.domain.CrewChangedEvent;
 import clofi.runningplanet.crew.repository.CrewRepository;
 import clofi.runningplanet.member.repository.MemberRepository;
+import clofi.runningplanet.mission.cache.CompletedMissionCache;
 import clofi.runningplanet.mission.domain.CrewMission;
-import clofi.runningplanet.mission.domain.MissionType;
-import clofi.runningplanet.mission.domain.vo.TodayRecords;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
 import clofi.runningplanet.mission.dto.response.CrewMissionListDto;
 import clofi.runningplanet.mission.dto.response.GetCrewMissionResDto;
+import clofi.runningplanet.mission.repository.CrewMissionJdbcRepository;
 import clofi.runningplanet.mission.repository.CrewMissionRepository;
-import clofi.runningplanet.running.domain.Record;
-import clofi.runningplanet.running.repository.RecordRepository;
+import clofi.runningplanet.scheduler.service.JobCheckpoint;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @Service
 public class MissionService {
+	private static final int MISSION_EXP = 10;
 
 	private final CrewMissionRepository crewMissionRepository;
+	private final CrewMissionJdbcRepository crewMissionJdbcRepository;
 	private final CrewRepository crewRepository;
 	private final MemberRepository memberRepository;
-	private final CrewMemberRepository crewMemberRepository;
-	private final RecordRepository recordRepository;
+	private final CrewMembershipCache crewMembershipCache;
+	private final MissionRecordReader missionRecordReader;
+	private final CrewMissionCountService crewMissionCountService;
+	private final DailyMissionGenerator dailyMissionGenerator;
+	private final CompletedMissionCache completedMissionCache;
+	private final MissionRuleRegistry missionRuleRegistry;
+	private final ApplicationEventPublisher eventPublisher;
 
-	@Transactional(readOnly = true)
+	@Transactional
 	public CrewMissionListDto getCrewMission(Long crewId, Long memberId) {
 		checkCrewExist(crewId);
 		checkMemberExist(memberId);
 		validateCrewMemberShip(crewId, memberId);
 
-		List<CrewMission> crewMissionList = getTodayCrewMissionList(crewId, memberId);
+		List<CrewMission> crewMissionList = getOrCreateTodayCrewMissionList(crewId, memberId);
+		recordCompletedMissions(crewId, memberId, crewMissionList);
 
-		TodayRecords todayRecords = getTodayRecords(memberId);
-		List<GetCrewMissionResDto> resDtoList = convertToResDto(crewMissionList, todayRecords);
+		MissionRecords missionRecords = missionRecordReader.read(memberId, LocalDate.now());
+		List<GetCrewMissionResDto> resDtoList = convertToResDto(crewMissionList, missionRecords);
 
 		return new CrewMissionListDto(resDtoList);
 	}
@@ -59,59 +70,101 @@ public class MissionService {
 		CrewMission findMission = getFindMission(missionId);
 		findMission.validateComplete();
 
-		TodayRecords todayRecords = getTodayRecords(memberId);
-		validateRecords(findMission, todayRecords);
-
-		findMission.completeMission();
+		MissionRecords missionRecords = missionRecordReader.read(memberId, LocalDate.now());
+		validateRecords(findMission, missionRecords);
 
 		Crew findCrew = getFindCrew(crewId);
-		findCrew.gainExp(10);
+		completeMission(findMission);
+		findCrew.gainExp(MISSION_EXP);
+		crewMissionCountService.increaseCompletedCnt(crewId, findMission.getMissionDate());
+		completedMissionCache.record(crewId, memberId, findMission.getMissionDate(), List.of(findMission.getType()));
+		eventPublisher.publishEvent(new CrewChangedEvent(crewId));
 	}
 
-	@Transactional
-	public void createDailyMission() {
-		List<CrewMember> crewMemberList = crewMemberRepository.findAll();
-
-		LocalDate now = LocalDate.now();
-		LocalDateTime startOfDay = now.atStartOfDay();
-		LocalDateTime endOfDay = now.atTime(LocalTime.MAX);
-
-		for (CrewMember crewMember : crewMemberList) {
-			if (crewMissionRepository.findAllByCrewIdAndMemberIdAndToday(crewMember.getCrew().getId(),
-				crewMember.getMember().getId(), startOfDay, endOfDay).isEmpty()) {
-				List<CrewMission> dailyMissionList = List.of(
-					new CrewMission(crewMember.getMember(), crewMember.getCrew(), MissionType.DISTANCE),
-					new CrewMission(crewMember.getMember(), crewMember.getCrew(),
-						MissionType.DURATION));
-				crewMissionRepository.saveAll(dailyMissionList);
+	// 운동 기록이 갱신될 때 이벤트의 합계로 만든 기록으로 달성한 미션을 한 번에 완료 처리한다.
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public Optional<CrewMissionListDto> completeMissions(Long crewId, Long memberId, MissionRecords missionRecords) {
+		List<CrewMission> crewMissionList = getOrCreateTodayCrewMissionList(crewId, memberId);
+
+		int completedCnt = 0;
+		for (CrewMission crewMission : crewMissionList) {
+			if (crewMission.isCompleted() || !isMissionComplete(crewMission, missionRecords)
+				|| crewMissionRepository.completeMission(crewMission.getId()) == 0) {
+				continue;
 			}
+			crewMission.completeMission();
+			crewMissionCountService.increaseCompletedCnt(crewId, crewMission.getMissionDate());
+			completedCnt++;
+		}
+		recordCompletedMissions(crewId, memberId, crewMissionList);
+		if (completedCnt == 0) {
+			return Optional.empty();
 		}
+
+		getFindCrew(crewId).gainExp(MISSION_EXP * completedCnt);
+		eventPublisher.publishEvent(new CrewChangedEvent(crewId));
+		return Optional.of(new CrewMissionListDto(convertToResDto(crewMissionList, missionRecords)));
+	}
+
+	public void createDailyMission() {
+		dailyMissionGenerator.generate(LocalDate.now());
+	}
+
+	public void createDailyMission(LocalDate date, JobCheckpoint checkpoint) {
+		dailyMissionGenerator.generate(date, checkpoint);
 	}
 
 	private List<GetCrewMissionResDto> convertToResDto(List<CrewMission> crewMissionList,
-		TodayRecords todayRecords) {
+		MissionRecords missionRecords) {
 		return crewMissionList.stream()
-			.map(crewMission -> convertToDto(crewMission, todayRecords))
+			.map(crewMission -> convertToDto(crewMission, missionRecords))
 			.toList();
 	}
 
-	private void validateMissionListSize(List<CrewMission> crewMissionList) {
-		if (crewMissionList.size() != MissionType.values().length) {
-			throw new InternalServerException();
+	private List<CrewMission> getOrCreateTodayCrewMissionList(Long crewId, Long memberId) {
+		LocalDate today = LocalDate.now();
+		List<CrewMission> crewMissionList = crewMissionRepository.findAllByCrewIdAndMemberIdAndMissionDate(crewId,
+			memberId, today);
+		if (hasAllMissions(crewMissionList)) {
+			return filterDefinedMissions(crewMissionList);
 		}
+
+		crewMissionJdbcRepository.insertMissionsIfAbsent(crewId, memberId, today, LocalDateTime.now());
+		return filterDefinedMissions(crewMissionRepository.findAllForShare(crewId, memberId, today));
 	}
 
-	private List<CrewMission> getTodayCrewMissionList(Long crewId, Long memberId) {
-		LocalDate today = LocalDate.now();
-		LocalDateTime startOfDay = today.atStartOfDay();
-		LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
+	private boolean hasAllMissions(List<CrewMission> crewMissionList) {
+		Set<String> types = crewMissionList.stream()
+			.map(CrewMission::getType)
+			.collect(Collectors.toSet());
+		return types.containsAll(missionRuleRegistry.getMissionIds());
+	}
+
+	private List<CrewMission> filterDefinedMissions(List<CrewMission> crewMissionList) {
+		return crewMissionList.stream()
+			.filter(crewMission -> missionRuleRegistry.contains(crewMission.getType()))
+			.toList();
+	}
+
+	private void recordCompletedMissions(Long crewId, Long memberId, List<CrewMission> crewMissionList) {
+		List<String> completedTypes = crewMissionList.stream()
+			.filter(CrewMission::isCompleted)
+			.map(CrewMission::getType)
+			.toList();
+		if (!completedTypes.isEmpty()) {
+			completedMissionCache.record(crewId, memberId, crewMissionList.get(0).getMissionDate(), completedTypes);
+		}
+	}
 
-		return crewMissionRepository.findAllByCrewIdAndMemberIdAndToday(crewId, memberId,
-			startOfDay, endOfDay);
+	private void completeMission(CrewMission mission) {
+		if (crewMissionRepository.completeMission(mission.getId()) == 0) {
+			throw new ConflictException("이미 완료한 미션입니다.");
+		}
+		mission.completeMission();
 	}
 
-	private void validateRecords(CrewMission mission, TodayRecords todayRecords) {
-		boolean isMissionCompleted = mission.isMissionComplete(todayRecords);
+	private void validateRecords(CrewMission mission, MissionRecords missionRecords) {
+		boolean isMissionCompleted = isMissionComplete(mission, missionRecords);
 
 		if (!isMissionCompleted) {
 			throw new ConflictException("미션 완료 조건을 달성하지 못했습니다.");
@@ -143,26 +196,23 @@ public class MissionService {
 	}
 
 	private void validateCrewMemberShip(Long crewId, Long memberId) {
-		if (!crewMemberRepository.existsByCrewIdAndMemberId(crewId, memberId)) {
+		if (!crewMembershipCache.isMember(crewId, memberId)) {
 			throw new ForbiddenException("소속된 크루가 아닙니다.");
 		}
 	}
 
-	private GetCrewMissionResDto convertToDto(CrewMission crewMission, TodayRecords todayRecords) {
-		double result = calculateProgressInPercent(crewMission, todayRecords);
-
-		return new GetCrewMissionResDto(crewMission.getId(), crewMission.getType(), result, crewMission.isCompleted());
+	private boolean isMissionComplete(CrewMission crewMission, MissionRecords missionRecords) {
+		return missionRuleRegistry.isComplete(crewMission.getType(), missionRecords);
 	}
 
-	private double calculateProgressInPercent(CrewMission crewMission, TodayRecords todayRecords) {
-		return crewMission.calculateProgress(todayRecords);
-	}
+	private GetCrewMissionResDto convertToDto(CrewMission crewMission, MissionRecords missionRecords) {
+		double result = calculateProgressInPercent(crewMission, missionRecords);
 
-	private TodayRecords getTodayRecords(Long memberId) {
-		LocalDateTime start = LocalDate.now().atStartOfDay();
-		LocalDateTime end = LocalDate.now().atTime(LocalTime.MAX);
-		List<Record> todayRecordList = recordRepository.findAllByMemberIdAndCreatedAtBetween(memberId, start, end);
+		return new GetCrewMissionResDto(crewMission.getId(), crewMission.getType(), result, crewMission.isCompleted(),
+			missionRuleRegistry.getContent(crewMission.getType()));
+	}
 
-		return new TodayRecords(todayRecordList);
+	private double calculateProgressInPercent(CrewMission crewMission, MissionRecords missionRecords) {
+		return Math.min(missionRuleRegistry.calculateProgress(crewMission.getType(), missionRecords), 1) * 100;
 	}
 }
@@ -0,0 +1,87 @@
+package clofi.runningplanet.rank.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import clofi.runningplanet.common.exception.InternalServerException;
+import clofi.runningplanet.rank.domain.RankCondition;
+import clofi.runningplanet.rank.domain.RankPeriod;
+
+@Component
+public class RankResponseCache {
+	private static final int MAXIMUM_SIZE = 200;
+
+	private final AsyncCache<RankCacheKey, byte[]> cache;
+	private final ObjectMapper objectMapper;
+
+	public RankResponseCache(ObjectMapper objectMapper, @Value("${rank.cache.ttl:10s}") Duration ttl) {
+		this.objectMapper = objectMapper;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.maximumSize(MAXIMUM_SIZE)
+			.buildAsync();
+	}
+
+	public byte[] getCrewRank(RankCondition condition, RankPeriod period, Supplier<?> loader) {
+		return get(new RankCacheKey(RankType.CREW, condition, period, null), loader);
+	}
+
+	public byte[] getPersonalRank(RankCondition condition, RankPeriod period, LocalDate nowDate,
+		Supplier<?> loader) {
+		return get(new RankCacheKey(RankType.PERSONAL, condition, period, nowDate), loader);
+	}
+
+	private byte[] get(RankCacheKey key, Supplier<?> loader) {
+		CompletableFuture<byte[]> loading = new CompletableFuture<>();
+		CompletableFuture<byte[]> cached = cache.asMap().putIfAbsent(key, loading);
+		if (cached != null) {
+			return join(cached);
+		}
+
+		try {
+			loading.complete(serialize(loader.get()));
+		} catch (RuntimeException e) {
+			loading.completeExceptionally(e);
+			cache.asMap().remove(key, loading);
+			throw e;
+		}
+		return join(loading);
+	}
+
+	private byte[] serialize(Object response) {
+		try {
+			return objectMapper.writeValueAsBytes(response);
+		} catch (JsonProcessingException e) {
+			throw new InternalServerException();
+		}
+	}
+
+	private byte[] join(CompletableFuture<byte[]> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private enum RankType {
+		CREW, PERSONAL
+	}
+
+	private record RankCacheKey(RankType type, RankCondition condition, RankPeriod period, LocalDate date) {
+	}
+}
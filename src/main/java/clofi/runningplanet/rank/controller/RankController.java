@@ -1,15 +1,13 @@
 package clofi.runningplanet.rank.controller;
 
 import java.time.LocalDate;
-import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import clofi.runningplanet.rank.dto.CrewRankResponse;
-import clofi.runningplanet.rank.dto.PersonalRankResponse;
 import clofi.runningplanet.rank.service.RankService;
 import lombok.RequiredArgsConstructor;
 
@@ -19,19 +17,23 @@ public class RankController {
 	private final RankService rankService;
 
 	@GetMapping("/api/ranking/crew")
-	public ResponseEntity<List<CrewRankResponse>> crew(
+	public ResponseEntity<byte[]> crew(
 		@RequestParam("condition") String condition,
 		@RequestParam("period") String period
 	) {
-		return ResponseEntity.ok(rankService.getCrewRankList(condition, period));
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(rankService.getCrewRankJson(condition, period));
 	}
 
 	@GetMapping("/api/ranking/member")
-	public ResponseEntity<List<PersonalRankResponse>> personalRank(
+	public ResponseEntity<byte[]> personalRank(
 		@RequestParam("condition") String condition,
 		@RequestParam("period") String period
 	) {
 		LocalDate nowDate = LocalDate.now();
-		return ResponseEntity.ok(rankService.getPersonalRankList(condition, period, nowDate));
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(rankService.getPersonalRankJson(condition, period, nowDate));
 	}
 }
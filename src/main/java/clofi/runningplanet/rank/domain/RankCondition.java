@@ -0,0 +1,17 @@
+package clofi.runningplanet.rank.domain;
+
+public enum RankCondition {
+	DISTANCE, LEVEL, PLANET;
+
+	// 알 수 없는 값은 기존 조회와 동일하게 거리 기준으로 처리한다.
+	public static RankCondition from(String condition) {
+		if (condition != null) {
+			for (RankCondition value : values()) {
+				if (value.name().equalsIgnoreCase(condition.trim())) {
+					return value;
+				}
+			}
+		}
+		return DISTANCE;
+	}
+}
@@ -0,0 +1,17 @@
+package clofi.runningplanet.rank.domain;
+
+public enum RankPeriod {
+	TOTAL, WEEK;
+
+	// 알 수 없는 값은 기존 조회와 동일하게 전체 기간으로 처리한다.
+	public static RankPeriod from(String period) {
+		if (period != null) {
+			for (RankPeriod value : values()) {
+				if (value.name().equalsIgnoreCase(period.trim())) {
+					return value;
+				}
+			}
+		}
+		return TOTAL;
+	}
+}
@@ -9,6 +9,8 @@ import org.springframework.stereotype.Repository;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import clofi.runningplanet.rank.domain.RankCondition;
+import clofi.runningplanet.rank.domain.RankPeriod;
 import clofi.runningplanet.rank.dto.CrewRankResponse;
 import clofi.runningplanet.rank.dto.QCrewRankResponse;
 import jakarta.persistence.EntityManager;
@@ -21,8 +23,8 @@ public class CrewRankRepository {
 		this.jpaQueryFactory = new JPAQueryFactory(em);
 	}
 
-	public List<CrewRankResponse> getCrewRank(String condition, String period) {
-		if (period == "WEEK") {
+	public List<CrewRankResponse> getCrewRank(RankCondition condition, RankPeriod period) {
+		if (period == RankPeriod.WEEK) {
 			return jpaQueryFactory.select(
 					new QCrewRankResponse(
 						crew.id,
@@ -47,8 +49,8 @@ public class CrewRankRepository {
 		}
 	}
 
-	private OrderSpecifier<Integer> sortByCondition(String condition) {
-		if (condition == "LEVEL") {
+	private OrderSpecifier<Integer> sortByCondition(RankCondition condition) {
+		if (condition == RankCondition.LEVEL) {
 			return crew.crewLevel.desc();
 		} else {
 			return crew.totalDistance.desc();
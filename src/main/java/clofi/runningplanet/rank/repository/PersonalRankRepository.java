@@ -16,6 +16,8 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import clofi.runningplanet.rank.domain.RankCondition;
+import clofi.runningplanet.rank.domain.RankPeriod;
 import clofi.runningplanet.rank.dto.PersonalRankResponse;
 import clofi.runningplanet.rank.dto.QPersonalRankResponse;
 import clofi.runningplanet.running.domain.QRecord;
@@ -29,8 +31,8 @@ public class PersonalRankRepository {
 		this.jpaQueryFactory = new JPAQueryFactory(em);
 	}
 
-	public List<PersonalRankResponse> getPersonalRank(String condition, String period, LocalDate nowDate) {
-		if ("WEEK".equals(period)) {
+	public List<PersonalRankResponse> getPersonalRank(RankCondition condition, RankPeriod period, LocalDate nowDate) {
+		if (period == RankPeriod.WEEK) {
 
 			LocalDate startOfWeek = nowDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 			LocalDate endOfWeek = nowDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
@@ -78,11 +80,11 @@ public class PersonalRankRepository {
 		}
 	}
 
-	private OrderSpecifier<Integer> sortByCondition(String condition, String period) {
+	private OrderSpecifier<Integer> sortByCondition(RankCondition condition, RankPeriod period) {
 		QRecord recordSub = new QRecord("recordSub");
-		if ("PLANET".equals(condition)) {
+		if (condition == RankCondition.PLANET) {
 			return memberPlanet.countDistinct().intValue().desc();
-		} else if ("WEEK".equals(period) && "DISTANCE".equals(condition)) {
+		} else if (period == RankPeriod.WEEK && condition == RankCondition.DISTANCE) {
 			return record.runDistance.sum().intValue().desc();
 		} else {
 			return member.totalDistance.intValue().desc();
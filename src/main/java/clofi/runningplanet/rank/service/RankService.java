@@ -1,29 +1,34 @@
 package clofi.runningplanet.rank.service;
 
 import java.time.LocalDate;
-import java.util.List;
 
 import org.springframework.stereotype.Service;
 
-import clofi.runningplanet.rank.dto.CrewRankResponse;
-import clofi.runningplanet.rank.dto.PersonalRankResponse;
+import clofi.runningplanet.rank.cache.RankResponseCache;
+import clofi.runningplanet.rank.domain.RankCondition;
+import clofi.runningplanet.rank.domain.RankPeriod;
 import clofi.runningplanet.rank.repository.CrewRankRepository;
 import clofi.runningplanet.rank.repository.PersonalRankRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class RankService {
 	private final CrewRankRepository crewRankRepository;
 	private final PersonalRankRepository personalRankRepository;
+	private final RankResponseCache rankResponseCache;
 
-	public List<CrewRankResponse> getCrewRankList(String condition, String period) {
-		return crewRankRepository.getCrewRank(condition, period);
+	public byte[] getCrewRankJson(String condition, String period) {
+		RankCondition rankCondition = RankCondition.from(condition);
+		RankPeriod rankPeriod = RankPeriod.from(period);
+		return rankResponseCache.getCrewRank(rankCondition, rankPeriod,
+			() -> crewRankRepository.getCrewRank(rankCondition, rankPeriod));
 	}
 
-	public List<PersonalRankResponse> getPersonalRankList(String condition, String period, LocalDate nowDate) {
-		return personalRankRepository.getPersonalRank(condition, period, nowDate);
+	public byte[] getPersonalRankJson(String condition, String period, LocalDate nowDate) {
+		RankCondition rankCondition = RankCondition.from(condition);
+		RankPeriod rankPeriod = RankPeriod.from(period);
+		return rankResponseCache.getPersonalRank(rankCondition, rankPeriod, nowDate,
+			() -> personalRankRepository.getPersonalRank(rankCondition, rankPeriod, nowDate));
 	}
 }
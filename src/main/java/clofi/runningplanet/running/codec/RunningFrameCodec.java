@@ -0,0 +1,58 @@
+package clofi.runningplanet.running.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import clofi.runningplanet.running.dto.CheerResponse;
+import clofi.runningplanet.running.dto.RunningStatusResponse;
+
+// 러닝 현황/응원 프레임의 고정 길이 바이너리 인코딩. 모든 값은 big-endian 이다.
+// [type:1][version:1] 이후
+// 러닝 현황: [memberId:8][runTime:4][runDistance:8][isEnd:1][nicknameLength:2][nickname:UTF-8]
+// 응원: [memberId:8][nicknameLength:2][nickname:UTF-8]
+public final class RunningFrameCodec {
+	public static final byte VERSION = 1;
+	public static final byte RUNNING_STATUS = 1;
+	public static final byte CHEER = 2;
+
+	private static final int HEADER_BYTES = 2;
+	private static final int RUNNING_STATUS_BYTES = Long.BYTES + Integer.BYTES + Double.BYTES + 1;
+
+	private RunningFrameCodec() {
+	}
+
+	public static byte[] encode(RunningStatusResponse response) {
+		byte[] nickname = nickname(response.nickname());
+		return header(RUNNING_STATUS, RUNNING_STATUS_BYTES + Short.BYTES + nickname.length)
+			.putLong(response.memberId())
+			.putInt(response.runTime())
+			.putDouble(response.runDistance())
+			.put((byte)(response.isEnd() ? 1 : 0))
+			.putShort((short)nickname.length)
+			.put(nickname)
+			.array();
+	}
+
+	public static byte[] encode(CheerResponse response) {
+		byte[] nickname = nickname(response.nickname());
+		return header(CHEER, Long.BYTES + Short.BYTES + nickname.length)
+			.putLong(response.memberId())
+			.putShort((short)nickname.length)
+			.put(nickname)
+			.array();
+	}
+
+	private static ByteBuffer header(byte type, int bodyBytes) {
+		return ByteBuffer.allocate(HEADER_BYTES + bodyBytes)
+			.put(type)
+			.put(VERSION);
+	}
+
+	private static byte[] nickname(String nickname) {
+		byte[] bytes = nickname == null ? new byte[0] : nickname.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("닉네임이 너무 깁니다.");
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,52 @@
+package clofi.runningplanet.running.domain;
+
+import java.time.LocalDate;
+
+import clofi.runningplanet.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원의 하루 운동 합계. 기록이 저장될 때마다 그날의 합계로 덮어쓴다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_daily_record_member_date",
+	columnNames = {"member_id", "record_date"}))
+@Entity
+public class DailyRecord extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "daily_record_id", nullable = false)
+	private Long id;
+
+	@Column(name = "member_id", nullable = false)
+	private Long memberId;
+
+	@Column(name = "record_date", nullable = false)
+	private LocalDate recordDate;
+
+	@Column(name = "total_distance", nullable = false, updatable = false)
+	private double totalDistance;
+
+	@Column(name = "total_duration", nullable = false, updatable = false)
+	private int totalDuration;
+
+	@Column(name = "run_count", nullable = false, updatable = false)
+	private int runCount;
+
+	public DailyRecord(Long memberId, LocalDate recordDate, double totalDistance, int totalDuration, int runCount) {
+		this.memberId = memberId;
+		this.recordDate = recordDate;
+		this.totalDistance = totalDistance;
+		this.totalDuration = totalDuration;
+		this.runCount = runCount;
+	}
+}
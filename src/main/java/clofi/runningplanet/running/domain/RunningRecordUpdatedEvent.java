@@ -0,0 +1,10 @@
+package clofi.runningplanet.running.domain;
+
+public record RunningRecordUpdatedEvent(
+	Long crewId,
+	Long memberId,
+	double totalDistance,
+	int totalDuration,
+	int runCount
+) {
+}
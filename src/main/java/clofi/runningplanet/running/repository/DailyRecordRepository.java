@@ -0,0 +1,33 @@
+package clofi.runningplanet.running.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import clofi.runningplanet.running.domain.DailyRecord;
+
+public interface DailyRecordRepository extends JpaRepository<DailyRecord, Long> {
+
+	Optional<DailyRecord> findByMemberIdAndRecordDate(Long memberId, LocalDate recordDate);
+
+	List<DailyRecord> findAllByMemberIdAndRecordDateBetween(Long memberId, LocalDate startDate, LocalDate endDate);
+
+	// 합계를 증가시키지 않고 다시 계산한 값으로 덮어쓰므로 같은 기록이 여러 번 저장되어도 어긋나지 않는다.
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO daily_record "
+		+ "(member_id, record_date, total_distance, total_duration, run_count, created_at, updated_at) "
+		+ "VALUES (:memberId, :recordDate, :totalDistance, :totalDuration, :runCount, :now, :now) "
+		+ "ON DUPLICATE KEY UPDATE total_distance = :totalDistance, total_duration = :totalDuration, "
+		+ "run_count = :runCount, updated_at = :now", nativeQuery = true)
+	void saveTotals(@Param("memberId") Long memberId, @Param("recordDate") LocalDate recordDate,
+		@Param("totalDistance") double totalDistance, @Param("totalDuration") int totalDuration,
+		@Param("runCount") int runCount, @Param("now") LocalDateTime now);
+}
@@ -12,16 +12,18 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
 import clofi.runningplanet.crew.repository.CrewMemberRepository;
 import clofi.runningplanet.member.domain.Member;
 import clofi.runningplanet.member.repository.MemberRepository;
 import clofi.runningplanet.running.domain.Cheer;
 import clofi.runningplanet.running.domain.Coordinate;
 import clofi.runningplanet.running.domain.Record;
+import clofi.runningplanet.running.domain.RunningRecordUpdatedEvent;
 import clofi.runningplanet.running.dto.CheerResponse;
 import clofi.runningplanet.running.dto.RecordFindAllResponse;
 import clofi.runningplanet.running.dto.RecordFindCurrentResponse;
@@ -31,6 +33,7 @@ import clofi.runningplanet.running.dto.RunningStatusFindAllResponse;
 import clofi.runningplanet.running.dto.RunningStatusResponse;
 import clofi.runningplanet.running.repository.CheerRepository;
 import clofi.runningplanet.running.repository.CoordinateRepository;
+import clofi.runningplanet.running.repository.DailyRecordRepository;
 import clofi.runningplanet.running.repository.RecordRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -39,11 +42,14 @@ import lombok.RequiredArgsConstructor;
 @Service
 public class RecordService {
 	private final RecordRepository recordRepository;
+	private final DailyRecordRepository dailyRecordRepository;
 	private final CoordinateRepository coordinateRepository;
 	private final MemberRepository memberRepository;
 	private final CrewMemberRepository crewMemberRepository;
-	private final SimpMessagingTemplate messagingTemplate;
+	private final CrewMembershipCache crewMembershipCache;
+	private final RunningFramePublisher runningFramePublisher;
 	private final CheerRepository cheerRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public Record save(RecordSaveRequest request, Long memberId) {
@@ -68,9 +74,21 @@ public class RecordService {
 		LocalDateTime end = getEndOfDay(now);
 		List<Record> records = recordRepository.findAllByMemberIdAndCreatedAtBetween(
 			member.getId(), start, end);
+		double totalDistance = records.stream().mapToDouble(Record::getRunDistance).sum();
+		int totalDuration = records.stream().mapToInt(Record::getRunTime).sum();
+
+		// 미션 평가가 기록을 다시 조회하지 않도록 오늘의 합계를 일일 집계로 저장한다.
+		dailyRecordRepository.saveTotals(member.getId(), now, totalDistance, totalDuration, records.size(),
+			LocalDateTime.now());
 
 		RunningStatusResponse runningStatusResponse = new RunningStatusResponse(records);
-		sendRunningStatus(member, runningStatusResponse);
+		crewMembershipCache.find(member.getId())
+			.ifPresent(crewMembership -> {
+				Long crewId = crewMembership.crewId();
+				sendRunningStatus(crewId, runningStatusResponse);
+				eventPublisher.publishEvent(new RunningRecordUpdatedEvent(crewId, member.getId(), totalDistance,
+					totalDuration, records.size()));
+			});
 
 		return savedRecord;
 	}
@@ -92,11 +110,8 @@ public class RecordService {
 		member.updateRunningStatistics(totalRunTime, totalRunDistance, records.size());
 	}
 
-	private void sendRunningStatus(Member member, RunningStatusResponse runningStatusResponse) {
-		crewMemberRepository.findByMemberId(member.getId())
-			.ifPresent(crewMember -> messagingTemplate.convertAndSend(
-				String.format("/sub/crew/%s/running", crewMember.getCrew().getId()),
-				runningStatusResponse));
+	private void sendRunningStatus(Long crewId, RunningStatusResponse runningStatusResponse) {
+		runningFramePublisher.sendRunningStatus(crewId, runningStatusResponse);
 	}
 
 	public List<RecordFindAllResponse> findAll(Integer year, Integer month, Long memberId) {
@@ -145,7 +160,7 @@ public class RecordService {
 
 	@Transactional
 	public List<RunningStatusFindAllResponse> findAllRunningStatus(Long memberId, Long crewId) {
-		if (!crewMemberRepository.existsByCrewIdAndMemberId(crewId, memberId)) {
+		if (!crewMembershipCache.isMember(crewId, memberId)) {
 			throw new IllegalArgumentException("크루에 소속된 회원이 아닙니다.");
 		}
 
@@ -197,7 +212,7 @@ public class RecordService {
 	@Transactional
 	public void sendCheering(Long crewId, Long fromMemberId, Set<Long> toMemberIds) {
 		Member fromMember = getMember(fromMemberId);
-		if (!crewMemberRepository.existsByCrewIdAndMemberId(crewId, fromMemberId)) {
+		if (!crewMembershipCache.isMember(crewId, fromMemberId)) {
 			throw new IllegalArgumentException("크루에 소속된 회원이 아닙니다.");
 		}
 
@@ -221,7 +236,7 @@ public class RecordService {
 
 	private void saveAndSend(Member fromMember, Member toMember, Long crewId) {
 		cheerRepository.save(new Cheer(fromMember, toMember));
-		messagingTemplate.convertAndSendToUser(String.valueOf(toMember), String.format("/sub/crew/%s/cheer", crewId),
+		runningFramePublisher.sendCheer(toMember.getId(), crewId,
 			new CheerResponse(fromMember.getId(), fromMember.getNickname()));
 	}
 }
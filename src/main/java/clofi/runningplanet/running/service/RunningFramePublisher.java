@@ -0,0 +1,44 @@
+package clofi.runningplanet.running.service;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import clofi.runningplanet.running.codec.RunningFrameCodec;
+import clofi.runningplanet.running.dto.CheerResponse;
+import clofi.runningplanet.running.dto.RunningStatusResponse;
+import clofi.runningplanet.socket.CrewDestination;
+import clofi.runningplanet.socket.presence.CrewPresenceRegistry;
+import lombok.RequiredArgsConstructor;
+
+// 같은 목적지 뒤에 /binary 를 붙여 구독하면 JSON 대신 RunningFrameCodec 형식의 바이너리 프레임을 받는다.
+// 프레임은 전송마다 한 번만 인코딩되고 브로커가 모든 구독자에게 같은 바이트를 보낸다.
+@RequiredArgsConstructor
+@Component
+public class RunningFramePublisher {
+	private final SimpMessagingTemplate messagingTemplate;
+	private final CrewPresenceRegistry crewPresenceRegistry;
+
+	// 구독자가 없는 형식은 직렬화하지 않고 건너뛴다.
+	public void sendRunningStatus(Long crewId, RunningStatusResponse response) {
+		String destination = CrewDestination.RUNNING.of(crewId);
+		if (crewPresenceRegistry.hasSubscribers(destination)) {
+			messagingTemplate.convertAndSend(destination, response);
+		}
+		String binaryDestination = CrewDestination.RUNNING.binaryOf(crewId);
+		if (crewPresenceRegistry.hasSubscribers(binaryDestination)) {
+			messagingTemplate.convertAndSend(binaryDestination, RunningFrameCodec.encode(response));
+		}
+	}
+
+	public void sendCheer(Long toMemberId, Long crewId, CheerResponse response) {
+		String user = String.valueOf(toMemberId);
+		String destination = CrewDestination.CHEER.of(crewId);
+		if (crewPresenceRegistry.hasUserSubscribers(toMemberId, destination)) {
+			messagingTemplate.convertAndSendToUser(user, destination, response);
+		}
+		String binaryDestination = CrewDestination.CHEER.binaryOf(crewId);
+		if (crewPresenceRegistry.hasUserSubscribers(toMemberId, binaryDestination)) {
+			messagingTemplate.convertAndSendToUser(user, binaryDestination, RunningFrameCodec.encode(response));
+		}
+	}
+}
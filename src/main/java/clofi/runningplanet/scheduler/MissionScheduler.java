@@ -1,19 +1,32 @@
 package clofi.runningplanet.scheduler;
 
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import clofi.runningplanet.mission.service.MissionService;
+import clofi.runningplanet.scheduler.service.ScheduledJobRunner;
 import lombok.RequiredArgsConstructor;
 
+// 미션은 조회 시점에 생성되므로, 새벽 일괄 생성은 mission.daily.pre-create=true 일 때만 동작한다.
+// 중단된 작업을 이어서 처리할 수 있도록 여러 번 실행되며, 완료된 날짜는 건너뛴다.
+@ConditionalOnProperty(name = "mission.daily.pre-create", havingValue = "true")
 @RequiredArgsConstructor
 @Component
 public class MissionScheduler {
+	private static final String DAILY_MISSION_JOB = "daily-mission";
+	private static final Duration LEASE_TIME = Duration.ofMinutes(10);
 
 	private final MissionService missionService;
+	private final ScheduledJobRunner scheduledJobRunner;
 
-	@Scheduled(cron = "0 0 5 * * *")
+	@Scheduled(cron = "${mission.daily.cron:0 0/10 5-6 * * *}")
 	public void dailyMissionSchedule() {
-		missionService.createDailyMission();
+		LocalDate today = LocalDate.now();
+		scheduledJobRunner.run(DAILY_MISSION_JOB, today, LEASE_TIME,
+			checkpoint -> missionService.createDailyMission(today, checkpoint));
 	}
 }
@@ -0,0 +1,92 @@
+package clofi.runningplanet.scheduler.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import clofi.runningplanet.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_run", uniqueConstraints = @UniqueConstraint(name = "uk_job_run_job_name_run_date",
+	columnNames = {"job_name", "run_date"}))
+@Entity
+public class JobRun extends BaseEntity {
+	private static final int MAX_MESSAGE_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "job_run_id", nullable = false)
+	private Long id;
+
+	@Column(name = "job_name", nullable = false, length = 64)
+	private String jobName;
+
+	@Column(name = "run_date", nullable = false)
+	private LocalDate runDate;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false)
+	private JobStatus status;
+
+	@Column(name = "checkpoint")
+	private Long checkpoint;
+
+	@Column(name = "processed_cnt", nullable = false)
+	private int processedCnt;
+
+	@Column(name = "attempt_cnt", nullable = false)
+	private int attemptCnt;
+
+	@Column(name = "message", length = MAX_MESSAGE_LENGTH)
+	private String message;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+	public JobRun(String jobName, LocalDate runDate) {
+		this.jobName = jobName;
+		this.runDate = runDate;
+		this.status = JobStatus.RUNNING;
+		this.attemptCnt = 1;
+	}
+
+	public boolean isCompleted() {
+		return status == JobStatus.COMPLETED;
+	}
+
+	public void restart() {
+		this.status = JobStatus.RUNNING;
+		this.attemptCnt++;
+		this.message = null;
+		this.finishedAt = null;
+	}
+
+	public void saveCheckpoint(long checkpoint, int processedCnt) {
+		this.checkpoint = checkpoint;
+		this.processedCnt = processedCnt;
+	}
+
+	public void complete(LocalDateTime finishedAt) {
+		this.status = JobStatus.COMPLETED;
+		this.finishedAt = finishedAt;
+	}
+
+	public void fail(String message, LocalDateTime finishedAt) {
+		this.status = JobStatus.FAILED;
+		this.message = message == null || message.length() <= MAX_MESSAGE_LENGTH
+			? message : message.substring(0, MAX_MESSAGE_LENGTH);
+		this.finishedAt = finishedAt;
+	}
+}
@@ -0,0 +1,7 @@
+package clofi.runningplanet.scheduler.domain;
+
+public enum JobStatus {
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
@@ -0,0 +1,32 @@
+package clofi.runningplanet.scheduler.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 잠금 획득, 연장, 해제는 SchedulerLockRepository 의 조건부 UPDATE 로만 처리한다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduler_lock")
+@Entity
+public class SchedulerLock {
+
+	@Id
+	@Column(name = "lock_name", length = 64)
+	private String name;
+
+	@Column(name = "locked_until", nullable = false)
+	private LocalDateTime lockedUntil;
+
+	@Column(name = "locked_at", nullable = false)
+	private LocalDateTime lockedAt;
+
+	@Column(name = "locked_by", nullable = false)
+	private String lockedBy;
+}
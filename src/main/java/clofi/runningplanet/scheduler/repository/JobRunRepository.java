@@ -0,0 +1,13 @@
+package clofi.runningplanet.scheduler.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import clofi.runningplanet.scheduler.domain.JobRun;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+	Optional<JobRun> findByJobNameAndRunDate(String jobName, LocalDate runDate);
+}
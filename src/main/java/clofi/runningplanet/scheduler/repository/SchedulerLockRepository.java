@@ -0,0 +1,48 @@
+package clofi.runningplanet.scheduler.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// 인스턴스 간 시계 차이로 잠금이 겹치지 않도록 만료 시각은 모두 DB 시각(CURRENT_TIMESTAMP) 기준으로 계산한다.
+@RequiredArgsConstructor
+@Repository
+public class SchedulerLockRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public boolean insertIfAbsent(String name) {
+		try {
+			return jdbcTemplate.update(
+				"INSERT INTO scheduler_lock (lock_name, locked_until, locked_at, locked_by) "
+					+ "VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '')",
+				name) == 1;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	public int acquire(String name, String lockedBy, long leaseSeconds) {
+		return jdbcTemplate.update(
+			"UPDATE scheduler_lock SET locked_until = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP), "
+				+ "locked_at = CURRENT_TIMESTAMP, locked_by = ? "
+				+ "WHERE lock_name = ? AND locked_until <= CURRENT_TIMESTAMP",
+			leaseSeconds, lockedBy, name);
+	}
+
+	public int extend(String name, String lockedBy, long leaseSeconds) {
+		return jdbcTemplate.update(
+			"UPDATE scheduler_lock SET locked_until = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) "
+				+ "WHERE lock_name = ? AND locked_by = ? AND locked_until > CURRENT_TIMESTAMP",
+			leaseSeconds, name, lockedBy);
+	}
+
+	// 만료 시각을 획득 시각으로 되돌려 다른 인스턴스가 바로 획득할 수 있게 한다.
+	public int release(String name, String lockedBy) {
+		return jdbcTemplate.update(
+			"UPDATE scheduler_lock SET locked_until = locked_at WHERE lock_name = ? AND locked_by = ?",
+			name, lockedBy);
+	}
+}
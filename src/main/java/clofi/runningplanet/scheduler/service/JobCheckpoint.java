@@ -0,0 +1,26 @@
+package clofi.runningplanet.scheduler.service;
+
+public interface JobCheckpoint {
+
+	JobCheckpoint NONE = new JobCheckpoint() {
+		@Override
+		public Long lastProcessedId() {
+			return null;
+		}
+
+		@Override
+		public int processedCnt() {
+			return 0;
+		}
+
+		@Override
+		public void save(long lastProcessedId, int processedCnt) {
+		}
+	};
+
+	Long lastProcessedId();
+
+	int processedCnt();
+
+	void save(long lastProcessedId, int processedCnt);
+}
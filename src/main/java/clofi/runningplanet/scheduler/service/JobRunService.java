@@ -0,0 +1,52 @@
+package clofi.runningplanet.scheduler.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import clofi.runningplanet.common.exception.NotFoundException;
+import clofi.runningplanet.scheduler.domain.JobRun;
+import clofi.runningplanet.scheduler.repository.JobRunRepository;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class JobRunService {
+
+	private final JobRunRepository jobRunRepository;
+
+	@Transactional
+	public JobRun start(String jobName, LocalDate runDate) {
+		return jobRunRepository.findByJobNameAndRunDate(jobName, runDate)
+			.map(jobRun -> {
+				if (!jobRun.isCompleted()) {
+					jobRun.restart();
+				}
+				return jobRun;
+			})
+			.orElseGet(() -> jobRunRepository.save(new JobRun(jobName, runDate)));
+	}
+
+	@Transactional
+	public void saveCheckpoint(Long jobRunId, long checkpoint, int processedCnt) {
+		getJobRun(jobRunId).saveCheckpoint(checkpoint, processedCnt);
+	}
+
+	@Transactional
+	public void complete(Long jobRunId) {
+		getJobRun(jobRunId).complete(LocalDateTime.now());
+	}
+
+	@Transactional
+	public void fail(Long jobRunId, String message) {
+		getJobRun(jobRunId).fail(message, LocalDateTime.now());
+	}
+
+	private JobRun getJobRun(Long jobRunId) {
+		return jobRunRepository.findById(jobRunId).orElseThrow(
+			() -> new NotFoundException("작업 실행 이력을 찾을 수 없습니다.")
+		);
+	}
+}
@@ -0,0 +1,44 @@
+package clofi.runningplanet.scheduler.service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import clofi.runningplanet.scheduler.repository.SchedulerLockRepository;
+
+// 잠금은 만료 시각까지만 유효하므로, 잠금을 가진 인스턴스가 죽어도 만료 후 다른 인스턴스가 이어받는다.
+@Component
+public class LeaseLockManager {
+
+	private final SchedulerLockRepository schedulerLockRepository;
+	private final String instanceId;
+
+	@Autowired
+	public LeaseLockManager(SchedulerLockRepository schedulerLockRepository) {
+		this(schedulerLockRepository,
+			System.getenv().getOrDefault("HOSTNAME", "local") + "-" + UUID.randomUUID().toString().substring(0, 8));
+	}
+
+	LeaseLockManager(SchedulerLockRepository schedulerLockRepository, String instanceId) {
+		this.schedulerLockRepository = schedulerLockRepository;
+		this.instanceId = instanceId;
+	}
+
+	public boolean tryAcquire(String name, Duration leaseTime) {
+		if (schedulerLockRepository.acquire(name, instanceId, leaseTime.toSeconds()) == 1) {
+			return true;
+		}
+		return schedulerLockRepository.insertIfAbsent(name)
+			&& schedulerLockRepository.acquire(name, instanceId, leaseTime.toSeconds()) == 1;
+	}
+
+	public boolean extend(String name, Duration leaseTime) {
+		return schedulerLockRepository.extend(name, instanceId, leaseTime.toSeconds()) == 1;
+	}
+
+	public void release(String name) {
+		schedulerLockRepository.release(name, instanceId);
+	}
+}
@@ -0,0 +1,78 @@
+package clofi.runningplanet.scheduler.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import clofi.runningplanet.scheduler.domain.JobRun;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ScheduledJobRunner {
+
+	private final LeaseLockManager leaseLockManager;
+	private final JobRunService jobRunService;
+
+	// 같은 날짜의 작업은 한 인스턴스에서만 실행되고, 실패한 작업은 마지막 체크포인트부터 다시 실행된다.
+	public void run(String jobName, LocalDate runDate, Duration leaseTime, Consumer<JobCheckpoint> job) {
+		if (!leaseLockManager.tryAcquire(jobName, leaseTime)) {
+			log.info("job skipped. lock is held by another instance. job={}", jobName);
+			return;
+		}
+		try {
+			JobRun jobRun = jobRunService.start(jobName, runDate);
+			if (jobRun.isCompleted()) {
+				return;
+			}
+			execute(jobRun, leaseTime, job);
+		} finally {
+			leaseLockManager.release(jobName);
+		}
+	}
+
+	private void execute(JobRun jobRun, Duration leaseTime, Consumer<JobCheckpoint> job) {
+		log.info("job started. job={}, runDate={}, attempt={}, checkpoint={}", jobRun.getJobName(),
+			jobRun.getRunDate(), jobRun.getAttemptCnt(), jobRun.getCheckpoint());
+		try {
+			job.accept(new LeasedJobCheckpoint(jobRun, leaseTime));
+			jobRunService.complete(jobRun.getId());
+			log.info("job completed. job={}, runDate={}", jobRun.getJobName(), jobRun.getRunDate());
+		} catch (RuntimeException e) {
+			jobRunService.fail(jobRun.getId(), e.getMessage());
+			log.error("job failed. job={}, runDate={}", jobRun.getJobName(), jobRun.getRunDate(), e);
+		}
+	}
+
+	private class LeasedJobCheckpoint implements JobCheckpoint {
+		private final JobRun jobRun;
+		private final Duration leaseTime;
+
+		private LeasedJobCheckpoint(JobRun jobRun, Duration leaseTime) {
+			this.jobRun = jobRun;
+			this.leaseTime = leaseTime;
+		}
+
+		@Override
+		public Long lastProcessedId() {
+			return jobRun.getCheckpoint();
+		}
+
+		@Override
+		public int processedCnt() {
+			return jobRun.getProcessedCnt();
+		}
+
+		@Override
+		public void save(long lastProcessedId, int processedCnt) {
+			jobRunService.saveCheckpoint(jobRun.getId(), lastProcessedId, processedCnt);
+			if (!leaseLockManager.extend(jobRun.getJobName(), leaseTime)) {
+				throw new IllegalStateException("작업 잠금이 만료되었습니다. job=" + jobRun.getJobName());
+			}
+		}
+	}
+}
@@ -17,6 +17,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
 import org.springframework.web.cors.CorsConfiguration;
 
+import clofi.runningplanet.auth.cache.TokenRevocationFilter;
 import clofi.runningplanet.member.service.MemberService;
 import clofi.runningplanet.security.jwt.JWTFilter;
 import clofi.runningplanet.security.jwt.JWTUtil;
@@ -32,6 +33,7 @@ public class SecurityConfig {
 	private final MemberService memberService;
 	private final CustomSuccessHandler customSuccessHandler;
 	private final JWTUtil jwtUtil;
+	private final TokenRevocationFilter tokenRevocationFilter;
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -49,7 +51,7 @@ public class SecurityConfig {
 
 		//토큰 만료시 무한 루프 오류 해결
 		http
-			.addFilterAfter(new JWTFilter(jwtUtil), OAuth2LoginAuthenticationFilter.class);
+			.addFilterAfter(new JWTFilter(jwtUtil, tokenRevocationFilter), OAuth2LoginAuthenticationFilter.class);
 
 		http
 			.oauth2Login((oauth2) -> oauth2
@@ -61,7 +63,8 @@ public class SecurityConfig {
 		//경로별 인가 작업
 		http
 			.authorizeHttpRequests((auth) -> auth
-				.requestMatchers("/error", "/ws/**", "/h2-console/**","/api/kakaologin").permitAll()
+				.requestMatchers("/error", "/ws/**", "/h2-console/**","/api/kakaologin",
+					"/api/auth/refresh", "/api/auth/logout").permitAll()
 				.anyRequest().authenticated());
 
 		http
@@ -7,8 +7,10 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import clofi.runningplanet.auth.cache.TokenRevocationFilter;
 import clofi.runningplanet.member.domain.Member;
 import clofi.runningplanet.member.dto.CustomOAuth2User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -20,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class JWTFilter extends OncePerRequestFilter {
 
 	private final JWTUtil jwtUtil;
+	private final TokenRevocationFilter tokenRevocationFilter;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -34,17 +37,16 @@ public class JWTFilter extends OncePerRequestFilter {
 
 		String token = authorization.split(" ")[1];
 
-		//토큰 소멸 시간 검증
-		if (jwtUtil.isExpired(token)) {
+		//토큰 검증 후 userId 획득
+		Claims claims = jwtUtil.verify(token);
 
+		//폐기된 토큰 패밀리면 인증하지 않음
+		if (tokenRevocationFilter.isRevoked(jwtUtil.getFamilyId(claims))) {
 			filterChain.doFilter(request, response);
-
-			//조건이 해당되면 메소드 종료 (필수)
 			return;
 		}
 
-		//토큰에서 username과 role 획득
-		Long userId = jwtUtil.getUserId(token);
+		Long userId = claims.get("userId", Long.class);
 
 		//userDTO를 생성하여 값 set
 		Member member = Member.builder()
@@ -1,6 +1,10 @@
 package clofi.runningplanet.security.jwt;
 
+import static clofi.runningplanet.common.utils.HashUtils.*;
+
+import java.time.Duration;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
@@ -8,40 +12,75 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import net.minidev.json.JSONUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Component
 public class JWTUtil {
+	private static final String FAMILY_CLAIM = "fam";
 
-	private SecretKey secretKey;
+	private final SecretKey secretKey;
+	private final JwtParser jwtParser;
+	private final Cache<String, Claims> verifiedTokens;
 
-	public JWTUtil(@Value("${custom.jwt.secretKey}") String secret) {
+	public JWTUtil(@Value("${custom.jwt.secretKey}") String secret,
+		@Value("${custom.jwt.verified-cache-size:10000}") long verifiedCacheSize, MeterRegistry meterRegistry) {
 
 		byte[] keyBytes = Decoders.BASE64.decode(secret);
 		this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+		this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+		// 검증된 토큰은 만료 시각까지만 캐싱한다.
+		this.verifiedTokens = Caffeine.newBuilder()
+			.expireAfter(new VerifiedTokenExpiry())
+			.maximumSize(verifiedCacheSize)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
+	}
+
+	public Claims verify(String token) {
+		// 원본 토큰을 메모리에 보관하지 않도록 해시를 키로 쓴다.
+		String key = sha256Hex(token);
+		Claims claims = verifiedTokens.getIfPresent(key);
+		if (claims == null) {
+			claims = jwtParser.parseSignedClaims(token).getPayload();
+			verifiedTokens.put(key, claims);
+		}
+		if (claims.getExpiration() != null && claims.getExpiration().before(new Date())) {
+			verifiedTokens.invalidate(key);
+			throw new ExpiredJwtException(null, claims, "JWT expired");
+		}
+		return claims;
 	}
+
 	public String getUsername(String token) {
 
-		return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+		return verify(token).get("username", String.class);
 	}
 
 	public String getRole(String token) {
 
-		return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+		return verify(token).get("role", String.class);
 	}
 
 	public Boolean isExpired(String token) {
 
-		return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+		return verify(token).getExpiration().before(new Date());
 	}
 
 	public Long getUserId(String token) {
 
-		return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userId", Long.class);
+		return verify(token).get("userId", Long.class);
 	}
 
 	public String extractToken(String bearerToken) {
@@ -51,24 +90,41 @@ public class JWTUtil {
 		return null;
 	}
 
-	public JwtToken createJwt(Long userId, Long expiredMs) {
+	public String createAccessToken(Long userId, String familyId, Duration ttl) {
 
-		String accessToken = Jwts.builder()
+		return Jwts.builder()
 			.claim("userId", userId)
+			.claim(FAMILY_CLAIM, familyId)
 			.issuedAt(new Date(System.currentTimeMillis()))
-			.expiration(new Date(System.currentTimeMillis() + expiredMs))
+			.expiration(new Date(System.currentTimeMillis() + ttl.toMillis()))
 			.signWith(secretKey)
 			.compact();
+	}
 
-		long refreshExpiredMs = expiredMs * 24;
-		String refreshToken = Jwts.builder()
-			.expiration(new Date(System.currentTimeMillis() + refreshExpiredMs))
-			.signWith(secretKey)
-			.compact();
+	public String getFamilyId(Claims claims) {
 
-		return JwtToken.builder()
-			.accessToken(accessToken)
-			.refreshToken(refreshToken)
-			.build();
+		return claims.get(FAMILY_CLAIM, String.class);
+	}
+
+	private static class VerifiedTokenExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			if (claims.getExpiration() == null) {
+				return 0;
+			}
+			long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 	}
 }
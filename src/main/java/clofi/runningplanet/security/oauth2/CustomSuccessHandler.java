@@ -7,8 +7,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
+import clofi.runningplanet.auth.cookie.RefreshTokenCookieManager;
+import clofi.runningplanet.auth.service.RefreshTokenService;
 import clofi.runningplanet.member.dto.CustomOAuth2User;
-import clofi.runningplanet.security.jwt.JWTUtil;
 import clofi.runningplanet.security.jwt.JwtToken;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,7 +22,8 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 	@Value("${login.redirect.url}")
 	public String REDIRECT_URL;
 
-	private final JWTUtil jwtUtil;
+	private final RefreshTokenService refreshTokenService;
+	private final RefreshTokenCookieManager refreshTokenCookieManager;
 
 	@Override
 	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -32,8 +34,10 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
 		Long userId = customUserDetails.getId();
 
-		JwtToken jwt = jwtUtil.createJwt(userId, 60 * 60 * 60L * 1000);
+		JwtToken jwt = refreshTokenService.issue(userId);
 
+		// 리다이렉트 URL은 브라우저 기록과 로그에 남으므로 리프레시 토큰은 쿠키로만 전달한다.
+		refreshTokenCookieManager.write(response, jwt.getRefreshToken());
 		response.sendRedirect(REDIRECT_URL + "?Authorization=" + jwt.getAccessToken());
 	}
 }
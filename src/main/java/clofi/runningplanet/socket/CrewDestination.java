@@ -0,0 +1,37 @@
+package clofi.runningplanet.socket;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 서버가 크루별로 메시지를 보내는 목적지. 회원 목적지는 /user 접두사를 붙여 구독한다.
+@Getter
+@RequiredArgsConstructor
+public enum CrewDestination {
+	CHAT("/sub/crew/%d/chat", false, false),
+	RUNNING("/sub/crew/%d/running", false, true),
+	CHEER("/sub/crew/%d/cheer", true, true),
+	MISSION("/sub/crew/%d/mission", true, false);
+
+	public static final String BINARY_SUFFIX = "/binary";
+	private static final String USER_PREFIX = "/user";
+
+	private final String format;
+	private final boolean userDestination;
+	private final boolean binarySupported;
+
+	public String of(Long crewId) {
+		return String.format(format, crewId);
+	}
+
+	public String binaryOf(Long crewId) {
+		return of(crewId) + BINARY_SUFFIX;
+	}
+
+	// 클라이언트가 구독하는 목적지를 크루 id 자리에 {id}를 넣어 반환한다.
+	public List<String> subscriptionTemplates() {
+		String template = (userDestination ? USER_PREFIX : "") + format.replace("%d", "{id}");
+		return binarySupported ? List.of(template, template + BINARY_SUFFIX) : List.of(template);
+	}
+}
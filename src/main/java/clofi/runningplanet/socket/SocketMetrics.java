@@ -0,0 +1,86 @@
+package clofi.runningplanet.socket;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SocketMetrics implements MeterBinder {
+	private final TaskExecutor inboundExecutor;
+	private final TaskExecutor outboundExecutor;
+	private final WebSocketHandler webSocketHandler;
+
+	public SocketMetrics(@Qualifier("clientInboundChannelExecutor") TaskExecutor inboundExecutor,
+		@Qualifier("clientOutboundChannelExecutor") TaskExecutor outboundExecutor,
+		@Qualifier("subProtocolWebSocketHandler") WebSocketHandler webSocketHandler) {
+		this.inboundExecutor = inboundExecutor;
+		this.outboundExecutor = outboundExecutor;
+		this.webSocketHandler = webSocketHandler;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		bindExecutor(registry, "inbound", inboundExecutor);
+		bindExecutor(registry, "outbound", outboundExecutor);
+
+		if (webSocketHandler instanceof SubProtocolWebSocketHandler handler) {
+			Gauge.builder("websocket.sessions.active", handler, h -> h.getStats().getWebSocketSessions())
+				.register(registry);
+			// 전송 버퍼나 시간 제한을 넘어 끊긴 누적 세션 수
+			Gauge.builder("websocket.sessions.limit-exceeded", handler, h -> h.getStats().getLimitExceededSessions())
+				.register(registry);
+		}
+	}
+
+	private void bindExecutor(MeterRegistry registry, String channel, TaskExecutor executor) {
+		if (executor instanceof VirtualThreadChannelExecutor virtual) {
+			bindVirtualExecutor(registry, channel, virtual);
+			return;
+		}
+		if (!(executor instanceof ThreadPoolTaskExecutor pool)) {
+			log.warn("websocket channel executor gauges are unavailable. channel={}, executor={}", channel,
+				executor.getClass().getName());
+			return;
+		}
+		Gauge.builder("websocket.channel.queued", pool, ThreadPoolTaskExecutor::getQueueSize)
+			.tag("channel", channel)
+			.register(registry);
+		Gauge.builder("websocket.channel.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+			.tag("channel", channel)
+			.register(registry);
+		Gauge.builder("websocket.channel.pool-size", pool, ThreadPoolTaskExecutor::getPoolSize)
+			.tag("channel", channel)
+			.register(registry);
+	}
+
+	// 가상 스레드 모드에서는 동시 처리 제한에 막혀 기다리는 제출 수를 queued로 기록한다.
+	private void bindVirtualExecutor(MeterRegistry registry, String channel, VirtualThreadChannelExecutor executor) {
+		Gauge.builder("websocket.channel.queued", executor, VirtualThreadChannelExecutor::getWaitingCount)
+			.tag("channel", channel)
+			.register(registry);
+		Gauge.builder("websocket.channel.active", executor, VirtualThreadChannelExecutor::getActiveCount)
+			.tag("channel", channel)
+			.register(registry);
+		Gauge.builder("websocket.channel.concurrency-limit", executor,
+				VirtualThreadChannelExecutor::getConcurrencyLimit)
+			.tag("channel", channel)
+			.register(registry);
+		FunctionTimer.builder("websocket.channel.throttle-wait", executor,
+				VirtualThreadChannelExecutor::getSubmittedCount, VirtualThreadChannelExecutor::getThrottleWaitNanos,
+				TimeUnit.NANOSECONDS)
+			.tag("channel", channel)
+			.register(registry);
+	}
+}
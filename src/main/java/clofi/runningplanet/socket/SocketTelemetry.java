@@ -0,0 +1,146 @@
+package clofi.runningplanet.socket;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 수신 프레임을 명령/목적지별로 집계하고, 프레임 로그는 샘플링과 초당 상한을 둬서 남긴다.
+// 목적지의 숫자 경로는 {id}로 바꾸고, 알려진 목적지가 아니면 other로 묶어서 태그 수가 늘어나지 않도록 한다.
+@Slf4j
+@Component
+public class SocketTelemetry implements ExecutorChannelInterceptor {
+	private static final String RECEIVED_AT_HEADER = "socketReceivedAt";
+	private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+	private static final String OTHER_DESTINATION = "other";
+	private static final String CHAT_SEND_TEMPLATE = "/pub/crew/{id}/chat";
+	private static final Set<String> DESTINATION_TEMPLATES = Stream.concat(Stream.of(CHAT_SEND_TEMPLATE),
+			Arrays.stream(CrewDestination.values())
+				.flatMap(destination -> destination.subscriptionTemplates().stream()))
+		.collect(Collectors.toUnmodifiableSet());
+
+	private final MeterRegistry meterRegistry;
+	private final double sampleRate;
+	private final int maxLogsPerSecond;
+	private final Map<FrameKey, Counter> frameCounters = new ConcurrentHashMap<>();
+	private final Map<LatencyKey, Timer> latencyTimers = new ConcurrentHashMap<>();
+	private final AtomicLong logWindow = new AtomicLong();
+	private final AtomicInteger logsInWindow = new AtomicInteger();
+
+	public SocketTelemetry(MeterRegistry meterRegistry,
+		@Value("${socket.telemetry.log-sample-rate:0.01}") double sampleRate,
+		@Value("${socket.telemetry.max-logs-per-second:10}") int maxLogsPerSecond) {
+		this.meterRegistry = meterRegistry;
+		this.sampleRate = sampleRate;
+		this.maxLogsPerSecond = maxLogsPerSecond;
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null || accessor.isHeartbeat() || accessor.getCommand() == null) {
+			return message;
+		}
+
+		FrameKey key = new FrameKey(accessor.getCommand(), normalize(accessor.getDestination()));
+		frameCounters.computeIfAbsent(key, this::frameCounter).increment();
+		if (shouldLog()) {
+			log.info("stomp frame. command={}, destination={}, sessionId={}, payloadBytes={}", accessor.getCommand(),
+				accessor.getDestination(), accessor.getSessionId(), payloadBytes(message));
+		}
+
+		long receivedAt = System.nanoTime();
+		if (accessor.isMutable()) {
+			accessor.setHeader(RECEIVED_AT_HEADER, receivedAt);
+			return message;
+		}
+		// 브로커 릴레이는 STOMP 헤더 접근자가 없는 메시지를 처리하지 못하므로 접근자째 복사한다.
+		MessageHeaderAccessor mutableAccessor = MessageHeaderAccessor.getMutableAccessor(message);
+		mutableAccessor.setHeader(RECEIVED_AT_HEADER, receivedAt);
+		return MessageBuilder.createMessage(message.getPayload(), mutableAccessor.getMessageHeaders());
+	}
+
+	@Override
+	public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+		Exception ex) {
+		Long receivedAt = message.getHeaders().get(RECEIVED_AT_HEADER, Long.class);
+		StompCommand command = StompHeaderAccessor.getCommand(message.getHeaders());
+		if (receivedAt == null || command == null) {
+			return;
+		}
+		LatencyKey key = new LatencyKey(command, normalize(StompHeaderAccessor.getDestination(message.getHeaders())),
+			handler.getClass().getSimpleName());
+		latencyTimers.computeIfAbsent(key, this::latencyTimer)
+			.record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+	}
+
+	private boolean shouldLog() {
+		if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			return false;
+		}
+		long currentSecond = System.currentTimeMillis() / 1000;
+		long window = logWindow.get();
+		if (window != currentSecond && logWindow.compareAndSet(window, currentSecond)) {
+			logsInWindow.set(0);
+		}
+		return logsInWindow.incrementAndGet() <= maxLogsPerSecond;
+	}
+
+	private Counter frameCounter(FrameKey key) {
+		return Counter.builder("websocket.inbound.frames")
+			.tag("command", key.command().name())
+			.tag("destination", key.destination())
+			.register(meterRegistry);
+	}
+
+	// 큐 대기 시간을 포함해서 프레임 수신부터 처리 완료까지 걸린 시간
+	private Timer latencyTimer(LatencyKey key) {
+		return Timer.builder("websocket.inbound.latency")
+			.tag("command", key.command().name())
+			.tag("destination", key.destination())
+			.tag("handler", key.handler())
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	private static String normalize(String destination) {
+		if (destination == null) {
+			return "none";
+		}
+		String template = ID_SEGMENT.matcher(destination).replaceAll("/{id}");
+		return DESTINATION_TEMPLATES.contains(template) ? template : OTHER_DESTINATION;
+	}
+
+	private static int payloadBytes(Message<?> message) {
+		return message.getPayload() instanceof byte[] payload ? payload.length : 0;
+	}
+
+	private record FrameKey(StompCommand command, String destination) {
+	}
+
+	private record LatencyKey(StompCommand command, String destination, String handler) {
+	}
+}
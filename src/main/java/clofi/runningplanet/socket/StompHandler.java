@@ -1,47 +1,80 @@
 package clofi.runningplanet.socket;
 
+import java.security.Principal;
+
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import clofi.runningplanet.auth.cache.TokenRevocationFilter;
+import clofi.runningplanet.common.exception.ForbiddenException;
 import clofi.runningplanet.common.exception.UnauthorizedException;
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
 import clofi.runningplanet.member.domain.CustomUser;
 import clofi.runningplanet.security.jwt.JWTUtil;
+import clofi.runningplanet.socket.presence.CrewPresenceRegistry;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 @RequiredArgsConstructor
 @Component
 public class StompHandler implements ChannelInterceptor {
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 
 	private final JWTUtil jwtUtil;
+	private final TokenRevocationFilter tokenRevocationFilter;
+	private final CrewMembershipCache crewMembershipCache;
 
 	@Override
 	public Message<?> preSend(Message<?> message, MessageChannel channel) {
-		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+		// 연결 시 설정한 사용자가 세션에 남도록 복사본이 아닌 메시지의 접근자를 사용한다.
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null) {
+			return message;
+		}
 
 		if (StompCommand.CONNECT.equals(accessor.getCommand())) {
 			String token = jwtUtil.extractToken(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER));
-			if (token == null || jwtUtil.isExpired(token)) {
+			if (token == null) {
 				throw new UnauthorizedException("Invalid token");
 			}
-			Long userId = jwtUtil.getUserId(token);
+			Claims claims = jwtUtil.verify(token);
+			if (tokenRevocationFilter.isRevoked(jwtUtil.getFamilyId(claims))) {
+				throw new UnauthorizedException("Revoked token");
+			}
+			Long userId = claims.get("userId", Long.class);
 			Authentication authentication = createAuthentication(userId);
 			accessor.setUser(authentication);
 		}
 
-		String logMessage = accessor.getShortLogMessage(message.getPayload());
-		log.info("Socket Log Message={}", logMessage);
+		if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+			validateCrewSubscription(accessor);
+		}
+
 		return message;
 	}
 
+	// 크루 목적지는 해당 크루원만 구독할 수 있다.
+	private void validateCrewSubscription(StompHeaderAccessor accessor) {
+		Long crewId = CrewPresenceRegistry.findCrewId(accessor.getDestination());
+		if (crewId == null) {
+			return;
+		}
+		Principal user = accessor.getUser();
+		if (user == null) {
+			throw new UnauthorizedException("Invalid token");
+		}
+		if (!crewMembershipCache.isMember(crewId, Long.valueOf(user.getName()))) {
+			throw new ForbiddenException("크루에 소속된 크루원이 아닙니다.");
+		}
+	}
+
 	private Authentication createAuthentication(Long userId) {
 		CustomUser user = new CustomUser(userId);
 		return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
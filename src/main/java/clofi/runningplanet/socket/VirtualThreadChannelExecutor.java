@@ -0,0 +1,56 @@
+package clofi.runningplanet.socket;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+// 가상 스레드는 풀과 큐가 없으므로 실행 중인 작업 수, 동시 처리 제한에 막혀 기다리는 제출 수와 대기 시간을 직접 센다.
+public class VirtualThreadChannelExecutor extends SimpleAsyncTaskExecutor {
+	private final AtomicInteger activeCount = new AtomicInteger();
+	private final AtomicInteger waitingCount = new AtomicInteger();
+	private final AtomicLong submittedCount = new AtomicLong();
+	private final AtomicLong throttleWaitNanos = new AtomicLong();
+
+	public VirtualThreadChannelExecutor(String threadNamePrefix, int concurrencyLimit) {
+		super(threadNamePrefix);
+		setVirtualThreads(true);
+		setConcurrencyLimit(concurrencyLimit);
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		long startedAt = System.nanoTime();
+		waitingCount.incrementAndGet();
+		try {
+			super.execute(() -> {
+				activeCount.incrementAndGet();
+				try {
+					task.run();
+				} finally {
+					activeCount.decrementAndGet();
+				}
+			});
+		} finally {
+			waitingCount.decrementAndGet();
+			submittedCount.incrementAndGet();
+			throttleWaitNanos.addAndGet(System.nanoTime() - startedAt);
+		}
+	}
+
+	public int getActiveCount() {
+		return activeCount.get();
+	}
+
+	public int getWaitingCount() {
+		return waitingCount.get();
+	}
+
+	public long getSubmittedCount() {
+		return submittedCount.get();
+	}
+
+	public long getThrottleWaitNanos() {
+		return throttleWaitNanos.get();
+	}
+}
@@ -1,22 +1,52 @@
 package clofi.runningplanet.socket;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompReactorNettyCodec;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
-import lombok.RequiredArgsConstructor;
+import clofi.runningplanet.socket.broker.BrokerMode;
 
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
 @Configuration
-@RequiredArgsConstructor
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+	private static final String BROKER_PREFIX = "/sub";
+
 	private final StompHandler stompHandler;
+	private final SocketTelemetry socketTelemetry;
+	private final TaskScheduler messageBrokerTaskScheduler;
+	private final BrokerMode brokerMode;
+	private final long heartbeat;
+	private final RelayProperties relay;
+
+	// 브로커 스케줄러는 이 설정을 읽어 만들어지는 빈이므로 지연 주입한다.
+	public WebSocketConfig(StompHandler stompHandler, SocketTelemetry socketTelemetry,
+		@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler,
+		@Value("${socket.broker.mode:simple}") BrokerMode brokerMode,
+		@Value("${socket.broker.heartbeat:10000}") long heartbeat,
+		@Value("${socket.broker.relay.host:localhost}") String relayHost,
+		@Value("${socket.broker.relay.port:61613}") int relayPort,
+		@Value("${socket.broker.relay.login:guest}") String relayLogin,
+		@Value("${socket.broker.relay.passcode:guest}") String relayPasscode,
+		@Value("${socket.broker.relay.virtual-host:#{null}}") String relayVirtualHost) {
+		this.stompHandler = stompHandler;
+		this.socketTelemetry = socketTelemetry;
+		this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+		this.brokerMode = brokerMode;
+		this.heartbeat = heartbeat;
+		this.relay = new RelayProperties(relayHost, relayPort, relayLogin, relayPasscode, relayVirtualHost);
+	}
 
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -26,12 +56,43 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
-		registry.enableSimpleBroker("/sub");
+		switch (brokerMode) {
+			case SIMPLE -> enableSimpleBroker(registry);
+			case RELAY -> enableBrokerRelay(registry);
+		}
 		registry.setApplicationDestinationPrefixes("/pub");
 	}
 
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) {
-		registration.interceptors(stompHandler);
+		registration.interceptors(stompHandler, socketTelemetry);
+	}
+
+	// 응답 없는 연결을 정리할 수 있도록 하트비트를 주고받는다.
+	private void enableSimpleBroker(MessageBrokerRegistry registry) {
+		registry.enableSimpleBroker(BROKER_PREFIX)
+			.setHeartbeatValue(new long[] {heartbeat, heartbeat})
+			.setTaskScheduler(messageBrokerTaskScheduler);
+	}
+
+	// 사용자 목적지는 다른 노드에 연결된 세션에도 전달되도록 브로커를 통해 브로드캐스트한다.
+	// 기본 TCP 클라이언트는 reactor-netty-http가 있어야 만들어지므로 reactor-netty-core로 직접 만든다.
+	private void enableBrokerRelay(MessageBrokerRegistry registry) {
+		registry.enableStompBrokerRelay(BROKER_PREFIX)
+			.setRelayHost(relay.host())
+			.setRelayPort(relay.port())
+			.setTcpClient(new ReactorNettyTcpClient<>(relay.host(), relay.port(), new StompReactorNettyCodec()))
+			.setClientLogin(relay.login())
+			.setClientPasscode(relay.passcode())
+			.setSystemLogin(relay.login())
+			.setSystemPasscode(relay.passcode())
+			.setSystemHeartbeatSendInterval(heartbeat)
+			.setSystemHeartbeatReceiveInterval(heartbeat)
+			.setVirtualHost(relay.virtualHost())
+			.setUserDestinationBroadcast(BROKER_PREFIX + "/unresolved-user-destination")
+			.setUserRegistryBroadcast(BROKER_PREFIX + "/user-registry");
+	}
+
+	private record RelayProperties(String host, int port, String login, String passcode, String virtualHost) {
 	}
 }
@@ -0,0 +1,72 @@
+package clofi.runningplanet.socket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+// 한 세션의 전송이 밀리면 버퍼/시간 제한을 넘는 순간 해당 세션만 끊어서 다른 크루원에게 영향을 주지 않는다.
+@Configuration
+public class WebSocketTransportConfig implements WebSocketMessageBrokerConfigurer {
+	@Value("${socket.inbound.core-pool-size:8}")
+	private int inboundCorePoolSize;
+	@Value("${socket.inbound.max-pool-size:32}")
+	private int inboundMaxPoolSize;
+	@Value("${socket.inbound.queue-capacity:10000}")
+	private int inboundQueueCapacity;
+	@Value("${socket.outbound.core-pool-size:8}")
+	private int outboundCorePoolSize;
+	@Value("${socket.outbound.max-pool-size:32}")
+	private int outboundMaxPoolSize;
+	@Value("${socket.outbound.queue-capacity:10000}")
+	private int outboundQueueCapacity;
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreads;
+	@Value("${socket.inbound.virtual-concurrency-limit:256}")
+	private int inboundVirtualConcurrencyLimit;
+	@Value("${socket.outbound.virtual-concurrency-limit:256}")
+	private int outboundVirtualConcurrencyLimit;
+	@Value("${socket.transport.send-time-limit:10000}")
+	private int sendTimeLimit;
+	@Value("${socket.transport.send-buffer-size-limit:524288}")
+	private int sendBufferSizeLimit;
+	@Value("${socket.transport.message-size-limit:65536}")
+	private int messageSizeLimit;
+	@Value("${socket.transport.time-to-first-message:30000}")
+	private int timeToFirstMessage;
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		if (virtualThreads) {
+			registration.executor(new VirtualThreadChannelExecutor("clientInboundChannel-",
+				inboundVirtualConcurrencyLimit));
+			return;
+		}
+		registration.taskExecutor()
+			.corePoolSize(inboundCorePoolSize)
+			.maxPoolSize(inboundMaxPoolSize)
+			.queueCapacity(inboundQueueCapacity);
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		if (virtualThreads) {
+			registration.executor(new VirtualThreadChannelExecutor("clientOutboundChannel-",
+				outboundVirtualConcurrencyLimit));
+			return;
+		}
+		registration.taskExecutor()
+			.corePoolSize(outboundCorePoolSize)
+			.maxPoolSize(outboundMaxPoolSize)
+			.queueCapacity(outboundQueueCapacity);
+	}
+
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration.setSendTimeLimit(sendTimeLimit)
+			.setSendBufferSizeLimit(sendBufferSizeLimit)
+			.setMessageSizeLimit(messageSizeLimit)
+			.setTimeToFirstMessage(timeToFirstMessage);
+	}
+}
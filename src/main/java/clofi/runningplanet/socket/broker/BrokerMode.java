@@ -0,0 +1,10 @@
+package clofi.runningplanet.socket.broker;
+
+// 여러 노드로 운영할 때는 외부 브로커를 사용하는 RELAY 모드를 사용한다.
+// 목적지는 /sub/crew/{id}/running처럼 /sub로 시작하므로 임의의 목적지 이름을 받는 브로커가 필요하다.
+// ActiveMQ Artemis는 구독 시 주소를 multicast로 자동 생성하므로 그대로 사용할 수 있다.
+// RabbitMQ STOMP 플러그인은 /topic/, /exchange/, /queue/, /amq/queue/ 목적지만,
+// ActiveMQ Classic은 /topic/, /queue/ 목적지만 받으므로 /sub 목적지를 그대로 쓸 수 없다.
+public enum BrokerMode {
+	SIMPLE, RELAY
+}
@@ -0,0 +1,152 @@
+package clofi.runningplanet.socket.presence;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import clofi.runningplanet.socket.broker.BrokerMode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 세션별 구독을 추적해서 목적지별 구독자 수와 크루별 접속 회원을 관리한다.
+// /sub/crew/{crewId}/... 목적지를 하나라도 구독 중인 회원을 해당 크루에 접속한 것으로 본다.
+@Component
+public class CrewPresenceRegistry {
+	private static final String USER_PREFIX = "/user";
+	private static final Pattern CREW_DESTINATION = Pattern.compile("^(?:/user)?/sub/crew/(\\d+)/");
+
+	private final BrokerMode brokerMode;
+	private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+	private final Map<String, Integer> subscriberCounts = new ConcurrentHashMap<>();
+	private final Map<Long, Map<Long, Integer>> crewMembers = new ConcurrentHashMap<>();
+
+	public CrewPresenceRegistry(@Value("${socket.broker.mode:simple}") BrokerMode brokerMode,
+		MeterRegistry meterRegistry) {
+		this.brokerMode = brokerMode;
+		Gauge.builder("websocket.presence.sessions", sessions, Map::size).register(meterRegistry);
+		Gauge.builder("websocket.presence.crews", crewMembers, Map::size).register(meterRegistry);
+	}
+
+	@EventListener
+	public void subscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		Long memberId = memberId(event.getUser());
+		String destination = accessor.getDestination();
+		if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null || destination == null) {
+			return;
+		}
+
+		Subscription subscription = new Subscription(subscriptionKey(memberId, destination), memberId,
+			findCrewId(destination));
+		Subscription previous = sessions.computeIfAbsent(accessor.getSessionId(), key -> new SessionPresence())
+			.subscriptions().put(accessor.getSubscriptionId(), subscription);
+		if (previous != null) {
+			release(previous);
+		}
+		acquire(subscription);
+	}
+
+	@EventListener
+	public void unsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		SessionPresence session = sessions.get(accessor.getSessionId());
+		if (session == null || accessor.getSubscriptionId() == null) {
+			return;
+		}
+		Subscription removed = session.subscriptions().remove(accessor.getSubscriptionId());
+		if (removed != null) {
+			release(removed);
+		}
+	}
+
+	@EventListener
+	public void disconnect(SessionDisconnectEvent event) {
+		SessionPresence session = sessions.remove(event.getSessionId());
+		if (session != null) {
+			session.subscriptions().values().forEach(this::release);
+		}
+	}
+
+	// 다른 노드의 구독은 알 수 없으므로 로컬 브로커를 쓸 때만 구독자가 없는 전송을 건너뛴다.
+	public boolean hasSubscribers(String destination) {
+		return brokerMode != BrokerMode.SIMPLE || subscriberCounts.containsKey(destination);
+	}
+
+	public boolean hasUserSubscribers(Long memberId, String destination) {
+		return brokerMode != BrokerMode.SIMPLE
+			|| subscriberCounts.containsKey(subscriptionKey(memberId, USER_PREFIX + destination));
+	}
+
+	public Set<Long> findOnlineMembers(Long crewId) {
+		return Set.copyOf(crewMembers.getOrDefault(crewId, Map.of()).keySet());
+	}
+
+	private void acquire(Subscription subscription) {
+		subscriberCounts.merge(subscription.key(), 1, Integer::sum);
+		if (subscription.crewId() != null && subscription.memberId() != null) {
+			crewMembers.compute(subscription.crewId(), (crewId, members) -> {
+				Map<Long, Integer> crewMembersOrNew = members == null ? new ConcurrentHashMap<>() : members;
+				crewMembersOrNew.merge(subscription.memberId(), 1, Integer::sum);
+				return crewMembersOrNew;
+			});
+		}
+	}
+
+	private void release(Subscription subscription) {
+		subscriberCounts.computeIfPresent(subscription.key(), (key, count) -> count == 1 ? null : count - 1);
+		if (subscription.crewId() == null || subscription.memberId() == null) {
+			return;
+		}
+		crewMembers.computeIfPresent(subscription.crewId(), (crewId, members) -> {
+			members.computeIfPresent(subscription.memberId(), (memberId, count) -> count == 1 ? null : count - 1);
+			return members.isEmpty() ? null : members;
+		});
+	}
+
+	// 사용자 목적지는 회원마다 따로 전달되므로 회원 id를 포함해서 센다.
+	private static String subscriptionKey(Long memberId, String destination) {
+		if (destination.startsWith(USER_PREFIX + "/")) {
+			return memberId + ":" + destination;
+		}
+		return destination;
+	}
+
+	public static Long findCrewId(String destination) {
+		if (destination == null) {
+			return null;
+		}
+		Matcher matcher = CREW_DESTINATION.matcher(destination);
+		return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+	}
+
+	private static Long memberId(Principal user) {
+		if (user == null) {
+			return null;
+		}
+		try {
+			return Long.valueOf(user.getName());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private record SessionPresence(Map<String, Subscription> subscriptions) {
+		private SessionPresence() {
+			this(new ConcurrentHashMap<>());
+		}
+	}
+
+	private record Subscription(String key, Long memberId, Long crewId) {
+	}
+}
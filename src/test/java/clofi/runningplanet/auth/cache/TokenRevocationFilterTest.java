@@ -0,0 +1,76 @@
+package clofi.runningplanet.auth.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationFilterTest {
+
+	@DisplayName("폐기된 패밀리만 폐기된 것으로 판단한다.")
+	@Test
+	void isRevoked() {
+		//given
+		TokenRevocationFilter filter = new TokenRevocationFilter(1_000, Duration.ofMinutes(30));
+		List<String> revoked = IntStream.range(0, 500).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+		//when
+		revoked.forEach(filter::revoke);
+
+		//then
+		assertThat(revoked).allMatch(filter::isRevoked);
+		assertThat(IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString()))
+			.noneMatch(filter::isRevoked);
+		assertThat(filter.isRevoked(null)).isFalse();
+	}
+
+	@DisplayName("액세스 토큰 유효 기간이 지난 패밀리는 재구성 시 정리된다.")
+	@Test
+	void rebuildRemovesExpired() {
+		//given
+		Instant now = Instant.parse("2024-06-10T00:00:00Z");
+		MutableClock clock = new MutableClock(now);
+		TokenRevocationFilter filter = new TokenRevocationFilter(1_000, Duration.ofMinutes(30), clock);
+		filter.revoke("old-family");
+
+		//when
+		clock.instant = now.plus(Duration.ofMinutes(31));
+		filter.rebuild(List.of("other-node-family"));
+
+		//then
+		assertThat(filter.isRevoked("old-family")).isFalse();
+		assertThat(filter.isRevoked("other-node-family")).isTrue();
+		assertThat(filter.size()).isEqualTo(1);
+	}
+
+	private static class MutableClock extends Clock {
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.systemDefault();
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package clofi.runningplanet.auth.controller;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.CharacterEncodingFilter;
+
+import clofi.runningplanet.auth.cookie.RefreshTokenCookieManager;
+import clofi.runningplanet.auth.service.RefreshTokenService;
+import clofi.runningplanet.security.jwt.JwtToken;
+import jakarta.servlet.http.Cookie;
+
+@WebMvcTest(AuthController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class AuthControllerTest {
+
+	@MockBean
+	private RefreshTokenService refreshTokenService;
+
+	@MockBean
+	private RefreshTokenCookieManager refreshTokenCookieManager;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@BeforeEach
+	void setUp() {
+		this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+			.addFilters(new CharacterEncodingFilter("UTF-8", true))
+			.alwaysDo(print())
+			.build();
+	}
+
+	@DisplayName("쿠키로 토큰을 재발급할 때 X-Requested-With 헤더가 없으면 거부한다.")
+	@Test
+	void rejectCookieRefreshWithoutHeader() throws Exception {
+		//when
+		//then
+		mockMvc.perform(post("/api/auth/refresh")
+				.cookie(new Cookie(RefreshTokenCookieManager.COOKIE_NAME, "refreshToken")))
+			.andExpect(status().isForbidden());
+		then(refreshTokenService).should(never()).rotate(anyString());
+	}
+
+	@DisplayName("쿠키로 토큰을 재발급할 때 X-Requested-With 헤더가 있으면 새 토큰을 쿠키로 내려준다.")
+	@Test
+	void successCookieRefresh() throws Exception {
+		//given
+		given(refreshTokenService.rotate("refreshToken"))
+			.willReturn(JwtToken.builder().accessToken("accessToken").refreshToken("newRefreshToken").build());
+
+		//when
+		//then
+		mockMvc.perform(post("/api/auth/refresh")
+				.cookie(new Cookie(RefreshTokenCookieManager.COOKIE_NAME, "refreshToken"))
+				.header("X-Requested-With", "XMLHttpRequest"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.accessToken").value("accessToken"));
+		then(refreshTokenCookieManager).should().write(any(), eq("newRefreshToken"));
+	}
+
+	@DisplayName("쿠키로 로그아웃할 때 X-Requested-With 헤더가 없으면 토큰을 폐기하지 않는다.")
+	@Test
+	void rejectCookieLogoutWithoutHeader() throws Exception {
+		//when
+		//then
+		mockMvc.perform(post("/api/auth/logout")
+				.cookie(new Cookie(RefreshTokenCookieManager.COOKIE_NAME, "refreshToken")))
+			.andExpect(status().isForbidden());
+		then(refreshTokenService).should(never()).revoke(anyString());
+	}
+}
@@ -0,0 +1,86 @@
+package clofi.runningplanet.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import clofi.runningplanet.auth.cache.TokenRevocationFilter;
+import clofi.runningplanet.auth.repository.RefreshTokenRepository;
+import clofi.runningplanet.common.exception.UnauthorizedException;
+import clofi.runningplanet.security.jwt.JWTUtil;
+import clofi.runningplanet.security.jwt.JwtToken;
+
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+	@Autowired
+	RefreshTokenService refreshTokenService;
+
+	@Autowired
+	RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	TokenRevocationFilter tokenRevocationFilter;
+
+	@Autowired
+	JWTUtil jwtUtil;
+
+	@AfterEach
+	void tearDown() {
+		refreshTokenRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("리프레시 토큰으로 같은 패밀리의 새 토큰을 발급받는다.")
+	@Test
+	void rotate() {
+		//given
+		JwtToken issued = refreshTokenService.issue(1L);
+
+		//when
+		JwtToken rotated = refreshTokenService.rotate(issued.getRefreshToken());
+
+		//then
+		assertThat(rotated.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+		assertThat(jwtUtil.getUserId(rotated.getAccessToken())).isEqualTo(1L);
+		assertThat(jwtUtil.getFamilyId(jwtUtil.verify(rotated.getAccessToken())))
+			.isEqualTo(jwtUtil.getFamilyId(jwtUtil.verify(issued.getAccessToken())));
+		assertThat(refreshTokenRepository.findAll()).hasSize(2);
+	}
+
+	@DisplayName("이미 사용된 리프레시 토큰을 재사용하면 패밀리 전체가 폐기된다.")
+	@Test
+	void detectReuse() {
+		//given
+		JwtToken issued = refreshTokenService.issue(1L);
+		JwtToken rotated = refreshTokenService.rotate(issued.getRefreshToken());
+		String familyId = jwtUtil.getFamilyId(jwtUtil.verify(issued.getAccessToken()));
+
+		//when
+		//then
+		assertThatThrownBy(() -> refreshTokenService.rotate(issued.getRefreshToken()))
+			.isInstanceOf(UnauthorizedException.class);
+		assertThatThrownBy(() -> refreshTokenService.rotate(rotated.getRefreshToken()))
+			.isInstanceOf(UnauthorizedException.class);
+		assertThat(tokenRevocationFilter.isRevoked(familyId)).isTrue();
+	}
+
+	@DisplayName("로그아웃하면 리프레시 토큰을 더 이상 사용할 수 없다.")
+	@Test
+	void revoke() {
+		//given
+		JwtToken issued = refreshTokenService.issue(1L);
+
+		//when
+		refreshTokenService.revoke(issued.getRefreshToken());
+
+		//then
+		assertThatThrownBy(() -> refreshTokenService.rotate(issued.getRefreshToken()))
+			.isInstanceOf(UnauthorizedException.class);
+		assertThat(tokenRevocationFilter.isRevoked(jwtUtil.getFamilyId(jwtUtil.verify(issued.getAccessToken()))))
+			.isTrue();
+	}
+}
@@ -0,0 +1,121 @@
+package clofi.runningplanet.chat.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import clofi.runningplanet.chat.domain.Chat;
+import clofi.runningplanet.chat.dto.response.ChatListResponse;
+import clofi.runningplanet.chat.dto.response.ChatMessageResponse;
+import clofi.runningplanet.chat.repository.ChatRepository;
+import clofi.runningplanet.member.domain.Gender;
+import clofi.runningplanet.member.domain.Member;
+
+@ExtendWith(MockitoExtension.class)
+class RecentChatBufferTest {
+	private static final int CAPACITY = 3;
+
+	@Mock
+	private ChatRepository chatRepository;
+
+	private RecentChatBuffer recentChatBuffer;
+
+	@BeforeEach
+	void setUp() {
+		recentChatBuffer = new RecentChatBuffer(chatRepository, CAPACITY, Duration.ofMinutes(30));
+	}
+
+	@DisplayName("처음 조회할 때만 DB 에서 적재하고 이후에는 버퍼에서 조회한다.")
+	@Test
+	void loadOnce() {
+		//given
+		given(chatRepository.findByCrewIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(createChat(2L), createChat(1L)), PageRequest.of(0, CAPACITY), false));
+
+		//when
+		ChatListResponse first = recentChatBuffer.findLatest(1L, 1).orElseThrow();
+		ChatListResponse second = recentChatBuffer.findLatest(1L, CAPACITY).orElseThrow();
+
+		//then
+		assertThat(first.chatArray()).extracting("chatId").containsExactly(2L);
+		assertThat(first.existsNextPage()).isTrue();
+		assertThat(second.chatArray()).extracting("chatId").containsExactly(2L, 1L);
+		assertThat(second.existsNextPage()).isFalse();
+		then(chatRepository).should(times(1)).findByCrewIdOrderByIdDesc(anyLong(), any(Pageable.class));
+	}
+
+	@DisplayName("새 채팅이 추가되면 가장 오래된 채팅을 밀어내고, 이전 채팅이 남아 있음을 알린다.")
+	@Test
+	void appendOverCapacity() {
+		//given
+		given(chatRepository.findByCrewIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(createChat(3L), createChat(2L), createChat(1L)),
+				PageRequest.of(0, CAPACITY), false));
+		recentChatBuffer.findLatest(1L, CAPACITY);
+
+		//when
+		recentChatBuffer.append(1L, createResponse(4L));
+		recentChatBuffer.append(1L, createResponse(4L));
+		ChatListResponse result = recentChatBuffer.findLatest(1L, CAPACITY).orElseThrow();
+
+		//then
+		assertThat(result.chatArray()).extracting("chatId").containsExactly(4L, 3L, 2L);
+		assertThat(result.existsNextPage()).isTrue();
+	}
+
+	@DisplayName("버퍼 크기보다 많이 조회하거나 순서가 어긋난 채팅이 들어오면 DB 에서 다시 조회한다.")
+	@Test
+	void fallbackToDatabase() {
+		//given
+		given(chatRepository.findByCrewIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(createChat(3L), createChat(1L)), PageRequest.of(0, CAPACITY), false));
+		recentChatBuffer.findLatest(1L, CAPACITY);
+
+		//when
+		Optional<ChatListResponse> overCapacity = recentChatBuffer.findLatest(1L, CAPACITY + 1);
+		recentChatBuffer.append(1L, createResponse(2L));
+		recentChatBuffer.findLatest(1L, CAPACITY);
+
+		//then
+		assertThat(overCapacity).isEmpty();
+		then(chatRepository).should(times(2)).findByCrewIdOrderByIdDesc(anyLong(), any(Pageable.class));
+	}
+
+	@DisplayName("적재되지 않은 크루의 채팅은 버퍼에 추가하지 않는다.")
+	@Test
+	void skipAppendBeforeLoad() {
+		//given
+		given(chatRepository.findByCrewIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(createChat(1L)), PageRequest.of(0, CAPACITY), false));
+		recentChatBuffer.append(1L, createResponse(2L));
+
+		//when
+		ChatListResponse result = recentChatBuffer.findLatest(1L, CAPACITY).orElseThrow();
+
+		//then
+		assertThat(result.chatArray()).extracting("chatId").containsExactly(1L);
+	}
+
+	private Chat createChat(Long id) {
+		Member member = new Member(1L, "turtle", Gender.MALE, 20, 100, "profileImg", 10, 300, 250, 1000);
+		return new Chat(id, member, null, "채팅" + id);
+	}
+
+	private ChatMessageResponse createResponse(Long id) {
+		return new ChatMessageResponse(id, "turtle", "채팅" + id, LocalDateTime.now(), "key" + id);
+	}
+}
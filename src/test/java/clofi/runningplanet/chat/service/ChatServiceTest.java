@@ -1,21 +1,22 @@
 package clofi.runningplanet.chat.service;
 
 import static org.assertj.core.api.Assertions.*;
-
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoField;
+import static org.mockito.BDDMockito.*;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import clofi.runningplanet.chat.domain.Chat;
 import clofi.runningplanet.chat.dto.request.ChatMessageRequest;
 import clofi.runningplanet.chat.dto.response.ChatListResponse;
 import clofi.runningplanet.chat.dto.response.ChatMessageResponse;
+import clofi.runningplanet.chat.dto.response.DataResponse;
 import clofi.runningplanet.chat.repository.ChatRepository;
 import clofi.runningplanet.crew.domain.ApprovalType;
 import clofi.runningplanet.crew.domain.Category;
@@ -46,6 +47,12 @@ class ChatServiceTest {
 	@Autowired
 	CrewMemberRepository crewMemberRepository;
 
+	@Autowired
+	ChatWriteBehindQueue chatWriteBehindQueue;
+
+	@SpyBean
+	SimpMessagingTemplate messagingTemplate;
+
 	@AfterEach
 	void tearDown() {
 		chatRepository.deleteAllInBatch();
@@ -73,11 +80,19 @@ class ChatServiceTest {
 		ChatMessageRequest chatMessageRequest = new ChatMessageRequest(member1.getNickname(), "Hi");
 
 		//when
-		ChatMessageResponse savedChat = chatService.saveChatMessage(member1.getId(), crew.getId(), chatMessageRequest);
+		chatService.saveChatMessage(member1.getId(), crew.getId(), chatMessageRequest);
+		chatWriteBehindQueue.flush();
 
 		//then
-		assertThat(savedChat.from()).isEqualTo(member1.getNickname());
-		assertThat(savedChat.message()).isEqualTo(chatMessageRequest.message());
+		ArgumentCaptor<DataResponse<ChatMessageResponse>> captor = ArgumentCaptor.forClass(DataResponse.class);
+		then(messagingTemplate).should().convertAndSend(eq("/sub/crew/" + crew.getId() + "/chat"), captor.capture());
+		assertThat(captor.getValue().data().chatId()).isNull();
+		assertThat(captor.getValue().data().messageKey()).isNotNull();
+		assertThat(chatRepository.findAll()).extracting("content", "messageKey")
+			.containsExactly(tuple("Hi", captor.getValue().data().messageKey()));
+		assertThat(chatService.getChatMessages(member1.getId(), crew.getId(), null, 10).chatArray())
+			.extracting("from", "message")
+			.containsExactly(tuple(member1.getNickname(), chatMessageRequest.message()));
 	}
 
 	@DisplayName("등록된 채팅을 불러올 수 있다.")
@@ -109,25 +124,10 @@ class ChatServiceTest {
 		Chat saveChat2 = chatRepository.save(chat2);
 		Chat saveChat3 = chatRepository.save(chat3);
 
-		LocalDateTime lastChatDateTime = saveChat3.getCreatedAt();
-
-		// 밀리초를 6자리로 자르기 위해 초와 나노초를 가져옴
-		long nanoSeconds = lastChatDateTime.getLong(ChronoField.NANO_OF_SECOND);
-		long microSeconds = nanoSeconds / 1000; // 나노초를 마이크로초로 변환
-
-		// LocalDateTime에서 나노초 대신 마이크로초를 사용
-		LocalDateTime formattedDateTime = lastChatDateTime.withNano((int)(microSeconds * 1000));
-
-		// 새로운 포맷터 생성
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
-
-		// 포맷 후 출력
-		String formattedDate = formattedDateTime.format(formatter);
-
 		//when
 		ChatListResponse chatList = chatService.getChatMessages(member1.getId(), crew.getId(), null, 10);
 		ChatListResponse chatList2 = chatService.getChatMessages(member2.getId(), crew.getId(), null, 1);
-		ChatListResponse chatList3 = chatService.getChatMessages(member1.getId(), crew.getId(), formattedDate, 10);
+		ChatListResponse chatList3 = chatService.getChatMessages(member1.getId(), crew.getId(), saveChat3.getId(), 10);
 
 		//then
 		assertThat(chatList.chatArray().size()).isEqualTo(3);
@@ -139,6 +139,9 @@ class ChatServiceTest {
 		assertThat(chatList.chatArray().get(2).from()).isEqualTo("turtle");
 		assertThat(chatList.chatArray().get(2).message()).isEqualTo("I want your liver");
 
+		assertThat(chatList.chatArray()).extracting("chatId")
+			.containsExactly(saveChat3.getId(), saveChat2.getId(), saveChat1.getId());
+
 		assertThat(chatList.existsNextPage()).isFalse();
 		assertThat(chatList2.existsNextPage()).isTrue();
 
@@ -0,0 +1,194 @@
+package clofi.runningplanet.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import clofi.runningplanet.chat.cache.RecentChatBuffer;
+import clofi.runningplanet.chat.domain.PendingChat;
+import clofi.runningplanet.chat.dto.response.ChatMessageResponse;
+import clofi.runningplanet.chat.repository.ChatJdbcRepository;
+import clofi.runningplanet.common.exception.InternalServerException;
+
+@ExtendWith(MockitoExtension.class)
+class ChatWriteBehindQueueTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@Mock
+	private ChatJdbcRepository chatJdbcRepository;
+
+	@Mock
+	private RecentChatBuffer recentChatBuffer;
+
+	@TempDir
+	private Path spillDir;
+
+	private ChatWriteBehindQueue queue;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (queue != null) {
+			queue.stop();
+		}
+	}
+
+	@DisplayName("쌓인 채팅은 한 번에 저장되고 저장된 id로 최근 채팅에 추가된다.")
+	@Test
+	void flushInBatch() throws Exception {
+		//given
+		queue = startQueue();
+		PendingChat chat1 = createChat("key1", "안녕");
+		PendingChat chat2 = createChat("key2", "반가워");
+		given(chatJdbcRepository.batchInsert(List.of(chat1, chat2))).willReturn(List.of(10L, 11L));
+
+		//when
+		queue.enqueue(chat1);
+		queue.enqueue(chat2);
+		queue.flush();
+
+		//then
+		then(chatJdbcRepository).should().batchInsert(List.of(chat1, chat2));
+		then(recentChatBuffer).should().append(1L,
+			new ChatMessageResponse(10L, "turtle", "안녕", chat1.createdAt(), "key1"));
+		then(recentChatBuffer).should().append(1L,
+			new ChatMessageResponse(11L, "turtle", "반가워", chat2.createdAt(), "key2"));
+		assertThat(segments()).hasSize(1);
+	}
+
+	@DisplayName("저장되지 않은 채팅이 대기열 크기만큼 쌓이면 새 채팅을 받지 않고, 저장되면 다시 받는다.")
+	@Test
+	void rejectWhenQueueIsFull() throws Exception {
+		//given
+		queue = startQueue(2);
+		PendingChat chat1 = createChat("key1", "안녕");
+		PendingChat chat2 = createChat("key2", "반가워");
+		PendingChat chat3 = createChat("key3", "잘 가");
+		given(chatJdbcRepository.batchInsert(List.of(chat1, chat2)))
+			.willThrow(new QueryTimeoutException("timeout"))
+			.willReturn(List.of(10L, 11L));
+		queue.enqueue(chat1);
+		queue.enqueue(chat2);
+
+		//when
+		queue.flush();
+		Throwable rejected = catchThrowable(() -> queue.enqueue(chat3));
+		queue.flush();
+		queue.enqueue(chat3);
+
+		//then
+		assertThat(rejected).isInstanceOf(InternalServerException.class);
+		then(recentChatBuffer).should(times(2)).append(eq(1L), any());
+	}
+
+	@DisplayName("저장에 실패한 채팅은 스필 파일에 남아 다음 주기에 다시 저장된다.")
+	@Test
+	void retryFailedFlush() throws Exception {
+		//given
+		queue = startQueue();
+		PendingChat chat = createChat("key1", "안녕");
+		given(chatJdbcRepository.batchInsert(List.of(chat)))
+			.willThrow(new QueryTimeoutException("timeout"))
+			.willReturn(List.of(10L));
+		queue.enqueue(chat);
+
+		//when
+		queue.flush();
+		int segmentsAfterFailure = segments().size();
+		queue.flush();
+
+		//then
+		assertThat(segmentsAfterFailure).isEqualTo(2);
+		assertThat(segments()).hasSize(1);
+		then(chatJdbcRepository).should(times(2)).batchInsert(List.of(chat));
+		then(recentChatBuffer).should().append(eq(1L), any());
+	}
+
+	@DisplayName("저장할 수 없는 채팅은 버리고 나머지 채팅만 저장한다.")
+	@Test
+	void dropChatViolatingConstraint() throws Exception {
+		//given
+		queue = startQueue();
+		PendingChat chat1 = createChat("key1", "안녕");
+		PendingChat chat2 = createChat("key2", "반가워");
+		given(chatJdbcRepository.batchInsert(List.of(chat1, chat2)))
+			.willThrow(new DataIntegrityViolationException("fk"));
+		given(chatJdbcRepository.batchInsert(List.of(chat1))).willThrow(new DataIntegrityViolationException("fk"));
+		given(chatJdbcRepository.batchInsert(List.of(chat2))).willReturn(List.of(11L));
+
+		//when
+		queue.enqueue(chat1);
+		queue.enqueue(chat2);
+		queue.flush();
+
+		//then
+		then(recentChatBuffer).should().append(1L,
+			new ChatMessageResponse(11L, "turtle", "반가워", chat2.createdAt(), "key2"));
+		then(recentChatBuffer).shouldHaveNoMoreInteractions();
+		assertThat(segments()).hasSize(1);
+	}
+
+	@DisplayName("비정상 종료로 남은 스필 파일은 기동 시 저장되지 않은 채팅만 다시 저장한다.")
+	@Test
+	void recoverAbandonedSpillFile() throws Exception {
+		//given
+		PendingChat saved = createChat("key1", "안녕");
+		PendingChat notSaved = createChat("key2", "반가워");
+		Path abandoned = Files.createDirectories(spillDir.resolve("abandoned"));
+		Files.createFile(abandoned.resolve("owner.lock"));
+		Files.write(abandoned.resolve("chat-000000.log"), List.of(
+			objectMapper.writeValueAsString(saved),
+			objectMapper.writeValueAsString(notSaved),
+			"{\"messageKey\":\"key3\",\"crew"));
+		given(chatJdbcRepository.findExistingMessageKeys(List.of("key1", "key2"))).willReturn(Set.of("key1"));
+		given(chatJdbcRepository.batchInsert(List.of(notSaved))).willReturn(List.of(11L));
+
+		//when
+		queue = startQueue();
+
+		//then
+		then(chatJdbcRepository).should().batchInsert(List.of(notSaved));
+		assertThat(abandoned).doesNotExist();
+	}
+
+	private ChatWriteBehindQueue startQueue() throws Exception {
+		return startQueue(100);
+	}
+
+	private ChatWriteBehindQueue startQueue(int capacity) throws Exception {
+		ChatWriteBehindQueue writeBehindQueue = new ChatWriteBehindQueue(chatJdbcRepository, recentChatBuffer,
+			objectMapper, spillDir.toString(), Duration.ofHours(1), capacity, Duration.ZERO, 1);
+		writeBehindQueue.start();
+		return writeBehindQueue;
+	}
+
+	private PendingChat createChat(String messageKey, String content) {
+		return new PendingChat(messageKey, 1L, 1L, "turtle", content, LocalDateTime.of(2024, 6, 10, 12, 0));
+	}
+
+	private List<Path> segments() throws Exception {
+		try (Stream<Path> files = Files.walk(spillDir)) {
+			return files.filter(path -> path.getFileName().toString().startsWith("chat-")).toList();
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package clofi.runningplanet.common;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.web.multipart.MultipartFile;
@@ -22,4 +23,9 @@ public class FakeS3StorageManager implements S3StorageManagerUseCase {
 	public void deleteImages(String image) {
 
 	}
+
+	@Override
+	public void deleteImages(Collection<String> images) {
+
+	}
 }
@@ -1,10 +1,16 @@
 package clofi.runningplanet.common;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
+import clofi.runningplanet.member.cache.MemberNicknameCache;
+import clofi.runningplanet.member.cache.SocialLoginCache;
+import clofi.runningplanet.mission.cache.CompletedMissionCache;
+import clofi.runningplanet.mission.cache.PastDailyRecordCache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
@@ -16,6 +22,21 @@ public class H2DataCleaner implements DataCleaner {
 	@PersistenceContext
 	private EntityManager entityManager;
 
+	@Autowired
+	private CrewMembershipCache crewMembershipCache;
+
+	@Autowired
+	private SocialLoginCache socialLoginCache;
+
+	@Autowired
+	private CompletedMissionCache completedMissionCache;
+
+	@Autowired
+	private MemberNicknameCache memberNicknameCache;
+
+	@Autowired
+	private PastDailyRecordCache pastDailyRecordCache;
+
 	@SuppressWarnings("unchecked")
 	@Transactional
 	public void truncateAllTables() {
@@ -28,5 +49,12 @@ public class H2DataCleaner implements DataCleaner {
 			entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
 		}
 		entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+		// 식별자가 초기화되므로 id 기반 캐시도 비운다.
+		crewMembershipCache.invalidateAll();
+		socialLoginCache.invalidateAll();
+		completedMissionCache.invalidateAll();
+		memberNicknameCache.invalidateAll();
+		pastDailyRecordCache.invalidateAll();
 	}
 }
@@ -3,7 +3,7 @@ package clofi.runningplanet.common;
 import static clofi.runningplanet.crew.domain.ApprovalType.*;
 import static clofi.runningplanet.crew.domain.Category.*;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.http.MediaType;
@@ -17,8 +17,8 @@ import clofi.runningplanet.crew.dto.request.CreateCrewReqDto;
 import clofi.runningplanet.member.domain.Gender;
 import clofi.runningplanet.member.domain.Member;
 import clofi.runningplanet.mission.domain.CrewMission;
-import clofi.runningplanet.mission.domain.MissionType;
-import clofi.runningplanet.running.domain.Record;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
 
 public class TestHelper {
 
@@ -57,41 +57,32 @@ public class TestHelper {
 
 	public static List<CrewMission> crewMissionList() {
 		return List.of(
-			new CrewMission(1L, createLeader(), createCrew(), MissionType.DISTANCE, true),
-			new CrewMission(2L, createLeader(), createCrew(), MissionType.DURATION, false)
+			new CrewMission(1L, createLeader(), createCrew(), "DISTANCE", true),
+			new CrewMission(2L, createLeader(), createCrew(), "DURATION", false)
 		);
 	}
 
 	public static List<CrewMission> crewMissionListNotComplete() {
 		return List.of(
-			new CrewMission(1L, createLeader(), createCrew(), MissionType.DISTANCE, false),
-			new CrewMission(2L, createLeader(), createCrew(), MissionType.DURATION, false)
+			new CrewMission(1L, createLeader(), createCrew(), "DISTANCE", false),
+			new CrewMission(2L, createLeader(), createCrew(), "DURATION", false)
 		);
 	}
 
-	public static List<Record> createTodayRecordList() {
-		return List.of(
-			Record.builder()
-				.member(createLeader())
-				.runTime(1800)
-				.runDistance(1000)
-				.avgPace(100)
-				.calories(100)
-				.endTime(LocalDateTime.now())
-				.build()
-		);
+	public static MissionRecords createTodayMissionRecords() {
+		return MissionRecords.ofToday(LocalDate.now(), new TodayRecords(1000, 1800, 1));
 	}
 
 	public static CrewMission createDistanceCrewMission() {
-		return new CrewMission(1L, createLeader(), createCrew(), MissionType.DISTANCE, false);
+		return new CrewMission(1L, createLeader(), createCrew(), "DISTANCE", false);
 	}
 
 	public static CrewMission createCompleteDistanceCrewMission() {
-		return new CrewMission(1L, createLeader(), createCrew(), MissionType.DISTANCE, true);
+		return new CrewMission(1L, createLeader(), createCrew(), "DISTANCE", true);
 	}
 
 	public static CrewMission createDurationCrewMission() {
-		return new CrewMission(1L, createLeader(), createCrew(), MissionType.DURATION, false);
+		return new CrewMission(1L, createLeader(), createCrew(), "DURATION", false);
 	}
 
 	public static CrewImage createCrewImage() {
@@ -0,0 +1,141 @@
+package clofi.runningplanet.common.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+
+@ExtendWith(MockitoExtension.class)
+class S3StorageManagerServiceTest {
+	private static final String PREFIX = "https://bucket.test/";
+
+	@Mock
+	private AmazonS3 amazonS3Client;
+
+	private ThreadPoolTaskExecutor executor;
+	private S3DeletionQueue s3DeletionQueue;
+	private S3StorageManagerService s3StorageManagerService;
+
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(0);
+		executor.initialize();
+		s3DeletionQueue = new S3DeletionQueue(amazonS3Client, "bucket", 3);
+		s3StorageManagerService = new S3StorageManagerService(amazonS3Client, executor, s3DeletionQueue, "bucket",
+			PREFIX);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@DisplayName("여러 이미지를 동시에 업로드하고 요청 순서대로 URL을 반환한다.")
+	@Test
+	void uploadImagesInParallel() {
+		//given
+		CountDownLatch allStarted = new CountDownLatch(3);
+		given(amazonS3Client.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+			allStarted.countDown();
+			// 세 업로드가 모두 동시에 진행 중이어야 통과한다.
+			assertThat(allStarted.await(1, TimeUnit.SECONDS)).isTrue();
+			return null;
+		});
+
+		//when
+		List<String> result = s3StorageManagerService.uploadImages(List.of(image("a.png"), image("b.png"),
+			image("c.png")));
+
+		//then
+		assertThat(result).hasSize(3);
+		assertThat(result.get(0)).startsWith(PREFIX).endsWith("-a.png");
+		assertThat(result.get(2)).startsWith(PREFIX).endsWith("-c.png");
+	}
+
+	@DisplayName("업로드 중 하나라도 실패하면 성공한 이미지를 삭제 대상으로 넣고 예외를 던진다.")
+	@Test
+	void cleanUpWhenUploadFails() {
+		//given
+		given(amazonS3Client.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+			PutObjectRequest request = invocation.getArgument(0);
+			if (request.getKey().endsWith("fail.png")) {
+				throw new AmazonServiceException("upload failed");
+			}
+			return null;
+		});
+
+		//when
+		//then
+		assertThatThrownBy(() -> s3StorageManagerService.uploadImages(List.of(image("ok.png"), image("fail.png"))))
+			.isInstanceOf(AmazonServiceException.class);
+		assertThat(s3DeletionQueue.size()).isEqualTo(1);
+	}
+
+	@DisplayName("트랜잭션 안에서 업로드가 실패해도 성공한 이미지는 커밋을 기다리지 않고 삭제 대상으로 넣는다.")
+	@Test
+	void cleanUpWhenUploadFailsInTransaction() {
+		//given
+		given(amazonS3Client.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+			PutObjectRequest request = invocation.getArgument(0);
+			if (request.getKey().endsWith("fail.png")) {
+				throw new AmazonServiceException("upload failed");
+			}
+			return null;
+		});
+		TransactionSynchronizationManager.initSynchronization();
+
+		//when
+		//then
+		try {
+			assertThatThrownBy(() -> s3StorageManagerService.uploadImages(List.of(image("ok.png"),
+				image("fail.png"))))
+				.isInstanceOf(AmazonServiceException.class);
+			assertThat(s3DeletionQueue.size()).isEqualTo(1);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@DisplayName("버킷에 올린 이미지만 S3 키로 바꿔 한 번의 요청으로 삭제한다.")
+	@Test
+	void deleteImagesInBatch() {
+		//when
+		s3StorageManagerService.deleteImages(List.of(PREFIX + "a.png", PREFIX + "b.png", "https://kakao.test/c.png"));
+		s3DeletionQueue.flush();
+
+		//then
+		ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+		then(amazonS3Client).should().deleteObjects(captor.capture());
+		assertThat(captor.getValue().getKeys())
+			.extracting(DeleteObjectsRequest.KeyVersion::getKey)
+			.containsExactly("a.png", "b.png");
+		assertThat(s3DeletionQueue.size()).isZero();
+	}
+
+	private MultipartFile image(String filename) {
+		return new MockMultipartFile("image", filename, "image/png", filename.getBytes());
+	}
+}
@@ -0,0 +1,57 @@
+package clofi.runningplanet.common.thread;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry,
+		Duration.ofMillis(10), Duration.ofSeconds(10));
+
+	@AfterEach
+	void tearDown() {
+		monitor.destroy();
+	}
+
+	@DisplayName("synchronized 블록 안에서 대기한 가상 스레드의 고정 이벤트를 메트릭으로 기록한다.")
+	@Test
+	void recordPinnedVirtualThread() throws Exception {
+		//given
+		monitor.start();
+		Object monitorLock = new Object();
+
+		//when
+		Thread.ofVirtual().start(() -> {
+			synchronized (monitorLock) {
+				sleepQuietly(100);
+			}
+		}).join();
+
+		//then
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (meterRegistry.get("jvm.threads.virtual.pinned").counter().count() == 0
+			&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(meterRegistry.get("jvm.threads.virtual.pinned").counter().count()).isPositive();
+		assertThat(meterRegistry.get("jvm.threads.virtual.pinned.duration").timer().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(10);
+	}
+
+	private void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
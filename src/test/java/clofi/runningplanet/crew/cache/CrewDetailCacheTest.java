@@ -0,0 +1,114 @@
+package clofi.runningplanet.crew.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import clofi.runningplanet.crew.cache.CrewDetailCache.CrewPage;
+import clofi.runningplanet.crew.domain.ApprovalType;
+import clofi.runningplanet.crew.domain.Category;
+import clofi.runningplanet.crew.domain.CrewChangedEvent;
+import clofi.runningplanet.crew.dto.CrewLeaderDto;
+import clofi.runningplanet.crew.dto.RuleDto;
+import clofi.runningplanet.crew.dto.response.FindCrewResDto;
+import clofi.runningplanet.crew.dto.response.FindCrewWithMissionResDto;
+import clofi.runningplanet.member.domain.MemberProfileUpdatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CrewDetailCacheTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CrewDetailCache crewDetailCache = new CrewDetailCache(meterRegistry, Duration.ofMinutes(5));
+
+	@DisplayName("크루 상세 정보는 캐싱되고 조회 결과가 메트릭으로 기록된다.")
+	@Test
+	void cacheCrewDetail() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		//when
+		FindCrewResDto first = crewDetailCache.getCrewDetail(1L, () -> loadCrewDetail(loadCount));
+		FindCrewResDto second = crewDetailCache.getCrewDetail(1L, () -> loadCrewDetail(loadCount));
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(second).isSameAs(first);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "crew.detail").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "crew.detail").tag("result", "miss")
+			.functionCounter().count()).isEqualTo(1);
+	}
+
+	@DisplayName("크루 변경 이벤트가 발생하면 캐시가 무효화된다.")
+	@Test
+	void evictByCrewChangedEvent() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+		LocalDate startOfWeek = LocalDate.of(2024, 6, 10);
+		crewDetailCache.getCrewDetail(1L, () -> loadCrewDetail(loadCount));
+		crewDetailCache.getCrewPage(1L, startOfWeek, () -> loadCrewPage(loadCount, startOfWeek));
+
+		//when
+		crewDetailCache.evict(new CrewChangedEvent(1L));
+		crewDetailCache.getCrewDetail(1L, () -> loadCrewDetail(loadCount));
+		crewDetailCache.getCrewPage(1L, startOfWeek, () -> loadCrewPage(loadCount, startOfWeek));
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(4);
+	}
+
+	@DisplayName("크루장의 프로필이 수정되면 해당 크루 상세 캐시가 무효화된다.")
+	@Test
+	void evictByLeaderProfileUpdated() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+		crewDetailCache.getCrewDetail(1L, () -> loadCrewDetail(loadCount));
+
+		//when
+		crewDetailCache.evictLeader(new MemberProfileUpdatedEvent(2L));
+		crewDetailCache.getCrewDetail(1L, () -> loadCrewDetail(loadCount));
+		crewDetailCache.evictLeader(new MemberProfileUpdatedEvent(1L));
+		crewDetailCache.getCrewDetail(1L, () -> loadCrewDetail(loadCount));
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@DisplayName("주가 바뀌면 크루 페이지 정보를 다시 조회한다.")
+	@Test
+	void reloadCrewPageByWeek() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+		LocalDate lastWeek = LocalDate.of(2024, 6, 3);
+		LocalDate thisWeek = LocalDate.of(2024, 6, 10);
+		crewDetailCache.getCrewPage(1L, lastWeek, () -> loadCrewPage(loadCount, lastWeek));
+
+		//when
+		CrewPage result = crewDetailCache.getCrewPage(1L, thisWeek, () -> loadCrewPage(loadCount, thisWeek));
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(2);
+		assertThat(result.startOfWeek()).isEqualTo(thisWeek);
+	}
+
+	private FindCrewResDto loadCrewDetail(AtomicInteger loadCount) {
+		loadCount.incrementAndGet();
+		return new FindCrewResDto(1L, 1, "크루명", new CrewLeaderDto(1L, "크루장"), 1, 10, ApprovalType.AUTO,
+			"크루 소개", "https://test.com", List.of("태그"), Category.RUNNING, new RuleDto(3, 10), 0, false);
+	}
+
+	private CrewPage loadCrewPage(AtomicInteger loadCount, LocalDate startOfWeek) {
+		loadCount.incrementAndGet();
+		FindCrewWithMissionResDto crewPage = new FindCrewWithMissionResDto(1L, 1, "크루명", "크루 소개", 1, 10,
+			List.of("태그"), Category.RUNNING, new RuleDto(3, 10), 0, List.of(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0), false,
+			"https://test.com");
+		return new CrewPage(crewPage, 1L, startOfWeek);
+	}
+}
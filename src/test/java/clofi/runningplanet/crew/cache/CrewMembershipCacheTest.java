@@ -0,0 +1,74 @@
+package clofi.runningplanet.crew.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import clofi.runningplanet.crew.domain.CrewMembership;
+import clofi.runningplanet.crew.domain.CrewMembershipChangedEvent;
+import clofi.runningplanet.crew.domain.Role;
+import clofi.runningplanet.crew.repository.CrewMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CrewMembershipCacheTest {
+
+	@Mock
+	private CrewMemberRepository crewMemberRepository;
+
+	private CrewMembershipCache crewMembershipCache;
+
+	@BeforeEach
+	void setUp() {
+		crewMembershipCache = new CrewMembershipCache(crewMemberRepository, new SimpleMeterRegistry(),
+			Duration.ofMinutes(1));
+	}
+
+	@DisplayName("회원의 소속 크루는 한 번만 조회하고 다른 크루로는 소속 여부를 확인할 수 없다.")
+	@Test
+	void cacheMembership() {
+		//given
+		given(crewMemberRepository.findMembershipByMemberId(1L))
+			.willReturn(Optional.of(new CrewMembership(10L, Role.LEADER)));
+
+		//when
+		boolean isMember = crewMembershipCache.isMember(10L, 1L);
+		boolean isOtherCrewMember = crewMembershipCache.isMember(20L, 1L);
+		Optional<CrewMembership> membership = crewMembershipCache.find(1L);
+
+		//then
+		assertThat(isMember).isTrue();
+		assertThat(isOtherCrewMember).isFalse();
+		assertThat(membership).hasValueSatisfying(value -> assertThat(value.isLeader()).isTrue());
+		then(crewMemberRepository).should(times(1)).findMembershipByMemberId(1L);
+	}
+
+	@DisplayName("크루에 소속되지 않은 회원도 캐싱되고 소속이 변경되면 다시 조회한다.")
+	@Test
+	void evictByMembershipChangedEvent() {
+		//given
+		given(crewMemberRepository.findMembershipByMemberId(1L))
+			.willReturn(Optional.empty())
+			.willReturn(Optional.of(new CrewMembership(10L, Role.MEMBER)));
+		crewMembershipCache.isMember(10L, 1L);
+
+		//when
+		boolean beforeJoin = crewMembershipCache.isMember(10L, 1L);
+		crewMembershipCache.evict(new CrewMembershipChangedEvent(1L));
+		boolean afterJoin = crewMembershipCache.isMember(10L, 1L);
+
+		//then
+		assertThat(beforeJoin).isFalse();
+		assertThat(afterJoin).isTrue();
+		then(crewMemberRepository).should(times(2)).findMembershipByMemberId(1L);
+	}
+}
@@ -0,0 +1,134 @@
+package clofi.runningplanet.crew.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import clofi.runningplanet.crew.domain.ApprovalType;
+import clofi.runningplanet.crew.domain.Category;
+import clofi.runningplanet.crew.domain.Crew;
+import clofi.runningplanet.crew.domain.Tag;
+import clofi.runningplanet.crew.repository.CrewRepository;
+import clofi.runningplanet.crew.repository.TagRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CrewSearchIndexTest {
+
+	@Mock
+	private CrewRepository crewRepository;
+
+	@Mock
+	private TagRepository tagRepository;
+
+	private CrewSearchIndex crewSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		Crew crew1 = createCrew(1L, "구름 러닝", Category.RUNNING);
+		Crew crew2 = createCrew(2L, "Clofi", Category.DIET);
+		Crew crew3 = createCrew(3L, "클로피 러닝크루", Category.RUNNING);
+		given(crewRepository.findAll()).willReturn(List.of(crew1, crew2, crew3));
+		given(tagRepository.findAll()).willReturn(List.of(new Tag(1L, crew2, "아침러닝")));
+
+		crewSearchIndex = new CrewSearchIndex(crewRepository, tagRepository);
+		crewSearchIndex.rebuild();
+	}
+
+	@DisplayName("한글 부분 문자열로 크루명과 태그를 최신순으로 검색할 수 있다.")
+	@Test
+	void searchKorean() {
+		//when
+		List<Long> result = crewSearchIndex.search("러닝", null, null, 10);
+
+		//then
+		assertThat(result).containsExactly(3L, 2L, 1L);
+	}
+
+	@DisplayName("한 글자 검색어와 영문 대소문자를 구분하지 않고 검색할 수 있다.")
+	@Test
+	void searchSingleCharacterAndIgnoreCase() {
+		//when
+		List<Long> singleChar = crewSearchIndex.search("름", null, null, 10);
+		List<Long> ignoreCase = crewSearchIndex.search("CLO", null, null, 10);
+
+		//then
+		assertThat(singleChar).containsExactly(1L);
+		assertThat(ignoreCase).containsExactly(2L);
+	}
+
+	@DisplayName("2-gram이 모두 포함되더라도 연속된 문자열이 아니면 검색되지 않는다.")
+	@Test
+	void verifyCandidates() {
+		//when
+		List<Long> result = crewSearchIndex.search("러닝구름", null, null, 10);
+
+		//then
+		assertThat(result).isEmpty();
+	}
+
+	@DisplayName("카테고리, 커서, 크기 조건으로 검색 결과를 제한할 수 있다.")
+	@Test
+	void searchWithCursor() {
+		//when
+		List<Long> filtered = crewSearchIndex.search("러닝", Category.RUNNING, null, 10);
+		List<Long> firstPage = crewSearchIndex.search("러닝", null, null, 2);
+		List<Long> nextPage = crewSearchIndex.search("러닝", null, firstPage.get(1), 2);
+
+		//then
+		assertThat(filtered).containsExactly(3L, 1L);
+		assertThat(firstPage).containsExactly(3L, 2L);
+		assertThat(nextPage).containsExactly(1L);
+	}
+
+	@DisplayName("크루가 수정되거나 삭제되면 색인에 반영된다.")
+	@Test
+	void updateIndex() {
+		//given
+		Crew crew = createCrew(2L, "Clofi", Category.DIET);
+
+		//when
+		crewSearchIndex.index(crew, List.of("저녁산책"));
+		List<Long> updated = crewSearchIndex.search("러닝", null, null, 10);
+		List<Long> newTag = crewSearchIndex.search("산책", null, null, 10);
+		crewSearchIndex.remove(3L);
+		List<Long> removed = crewSearchIndex.search("러닝", null, null, 10);
+
+		//then
+		assertThat(updated).containsExactly(3L, 1L);
+		assertThat(newTag).containsExactly(2L);
+		assertThat(removed).containsExactly(1L);
+	}
+
+	@DisplayName("색인 재구축 중에 반영된 변경은 재구축된 색인에도 유지된다.")
+	@Test
+	void keepMutationsDuringRebuild() {
+		//given
+		Crew staleCrew = createCrew(4L, "새벽 러닝", Category.RUNNING);
+		given(crewRepository.findAll()).willAnswer(invocation -> {
+			crewSearchIndex.index(createCrew(4L, "새벽 산책", Category.WALKING), List.of());
+			crewSearchIndex.remove(1L);
+			return List.of(createCrew(1L, "구름 러닝", Category.RUNNING), staleCrew);
+		});
+
+		//when
+		crewSearchIndex.rebuild();
+		List<Long> running = crewSearchIndex.search("러닝", null, null, 10);
+		List<Long> walking = crewSearchIndex.search("산책", null, null, 10);
+
+		//then
+		assertThat(running).isEmpty();
+		assertThat(walking).containsExactly(4L);
+	}
+
+	private Crew createCrew(Long id, String crewName, Category category) {
+		return new Crew(id, 1L, crewName, 10, category, ApprovalType.AUTO, "소개", 3, 10, 0, 0, 0, 1);
+	}
+}
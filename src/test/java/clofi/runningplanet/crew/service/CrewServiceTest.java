@@ -6,31 +6,40 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import clofi.runningplanet.common.exception.ConflictException;
 import clofi.runningplanet.common.exception.NotFoundException;
 import clofi.runningplanet.common.exception.UnauthorizedException;
 import clofi.runningplanet.common.service.S3StorageManagerUseCase;
+import clofi.runningplanet.crew.cache.CrewDetailCache;
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
 import clofi.runningplanet.crew.domain.Approval;
 import clofi.runningplanet.crew.domain.Crew;
 import clofi.runningplanet.crew.domain.CrewApplication;
 import clofi.runningplanet.crew.domain.CrewImage;
 import clofi.runningplanet.crew.domain.CrewMember;
+import clofi.runningplanet.crew.domain.CrewMembership;
 import clofi.runningplanet.crew.domain.Role;
 import clofi.runningplanet.crew.domain.Tag;
 import clofi.runningplanet.crew.dto.CrewLeaderDto;
@@ -42,6 +51,7 @@ import clofi.runningplanet.crew.dto.request.ProceedApplyReqDto;
 import clofi.runningplanet.crew.dto.request.UpdateCrewReqDto;
 import clofi.runningplanet.crew.dto.response.ApplyCrewResDto;
 import clofi.runningplanet.crew.dto.response.ApprovalMemberResDto;
+import clofi.runningplanet.crew.dto.response.CrewPresenceResDto;
 import clofi.runningplanet.crew.dto.response.FindAllCrewResDto;
 import clofi.runningplanet.crew.dto.response.FindCrewMemberResDto;
 import clofi.runningplanet.crew.dto.response.FindCrewResDto;
@@ -52,12 +62,17 @@ import clofi.runningplanet.crew.repository.CrewImageRepository;
 import clofi.runningplanet.crew.repository.CrewMemberRepository;
 import clofi.runningplanet.crew.repository.CrewRepository;
 import clofi.runningplanet.crew.repository.TagRepository;
+import clofi.runningplanet.crew.search.CrewSearchIndex;
 import clofi.runningplanet.member.domain.Gender;
 import clofi.runningplanet.member.domain.Member;
 import clofi.runningplanet.member.repository.MemberRepository;
 import clofi.runningplanet.mission.domain.CrewMission;
-import clofi.runningplanet.mission.domain.MissionType;
+import clofi.runningplanet.mission.domain.CrewMissionDailyCount;
+import clofi.runningplanet.mission.repository.CrewMissionDailyCountRepository;
+import clofi.runningplanet.mission.repository.CrewMissionJdbcRepository;
 import clofi.runningplanet.mission.repository.CrewMissionRepository;
+import clofi.runningplanet.socket.presence.CrewPresenceRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class CrewServiceTest {
@@ -86,6 +101,30 @@ class CrewServiceTest {
 	@Mock
 	private CrewMissionRepository crewMissionRepository;
 
+	@Mock
+	private CrewMissionJdbcRepository crewMissionJdbcRepository;
+
+	@Mock
+	private CrewMissionDailyCountRepository crewMissionDailyCountRepository;
+
+	@Mock
+	private CrewSearchIndex crewSearchIndex;
+
+	@Spy
+	private CrewDetailCache crewDetailCache = new CrewDetailCache(new SimpleMeterRegistry(), Duration.ofMinutes(5));
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private CrewMembershipCache crewMembershipCache;
+
+	@Mock
+	private CrewPresenceRegistry crewPresenceRegistry;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@InjectMocks
 	private CrewService crewService;
 
@@ -112,6 +151,8 @@ class CrewServiceTest {
 			.willReturn(null);
 		given(crewMemberRepository.existsByMemberId(anyLong()))
 			.willReturn(false);
+		given(crewRepository.increaseMemberCnt(anyLong()))
+			.willReturn(1);
 
 		// when
 		Long result = crewService.createCrew(reqDto, imageFile, leaderId);
@@ -169,22 +210,22 @@ class CrewServiceTest {
 
 		given(crewRepository.search(any(SearchParamDto.class)))
 			.willReturn(List.of(crew1, crew2));
-		given(crewMemberRepository.countByCrewId(anyLong()))
-			.willReturn(1)
-			.willReturn(1);
+		ReflectionTestUtils.setField(crew1, "memberCnt", 1);
+		ReflectionTestUtils.setField(crew2, "memberCnt", 1);
 
-		given(tagRepository.findAllByCrewId(anyLong()))
-			.willReturn(List.of(
-				new Tag(1L, crew1, "성실")
-			))
+		given(tagRepository.findAllByCrewIdIn(anyList()))
 			.willReturn(List.of(
+				new Tag(1L, crew1, "성실"),
 				new Tag(2L, crew2, "최고")
 			));
-		given(memberRepository.findById(anyLong()))
-			.willReturn(Optional.of(leader))
-			.willReturn(Optional.of(leader2));
-		given(crewImageRepository.findByCrewId(anyLong()))
-			.willReturn(Optional.of(createCrewImage()));
+		given(memberRepository.findAllById(anySet()))
+			.willReturn(List.of(leader, leader2));
+		given(crewImageRepository.findAllByCrewIdInOrderByIdAsc(anyList()))
+			.willReturn(List.of(
+				new CrewImage(1L, "크루 로고", "https://old.com", crew1),
+				new CrewImage(2L, "크루 로고", "https://test.com", crew2),
+				new CrewImage(3L, "크루 로고", "https://test.com", crew1)
+			));
 
 		//when
 		List<FindAllCrewResDto> result = crewService.findAllCrew(new SearchParamDto("", null));
@@ -224,12 +265,12 @@ class CrewServiceTest {
 		given(crewRepository.search(any(SearchParamDto.class)))
 			.willReturn(List.of(crew));
 
-		given(tagRepository.findAllByCrewId(anyLong()))
+		given(tagRepository.findAllByCrewIdIn(anyList()))
 			.willReturn(List.of(
 				new Tag(1L, crew, "성실")
 			));
-		given(memberRepository.findById(anyLong()))
-			.willReturn(Optional.empty());
+		given(memberRepository.findAllById(anySet()))
+			.willReturn(List.of());
 
 		//when
 		//then
@@ -246,10 +287,10 @@ class CrewServiceTest {
 		Crew crew = createCrew();
 		Member leader = createLeader();
 
+		ReflectionTestUtils.setField(crew, "memberCnt", 1);
+
 		given(crewRepository.findById(anyLong()))
 			.willReturn(Optional.of(crew));
-		given(crewMemberRepository.countByCrewId(anyLong()))
-			.willReturn(1);
 
 		given(tagRepository.findAllByCrewId(anyLong()))
 			.willReturn(List.of(
@@ -361,6 +402,8 @@ class CrewServiceTest {
 			.willReturn(Optional.empty());
 		given(crewRepository.findById(anyLong()))
 			.willReturn(Optional.of(crew));
+		given(crewRepository.increaseMemberCnt(anyLong()))
+			.willReturn(1);
 
 		//when
 		ApplyCrewResDto result = crewService.applyCrew(reqDto, crewId, memberId);
@@ -573,14 +616,12 @@ class CrewServiceTest {
 			.willReturn(Optional.empty());
 		given(crewApplicationRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
 			.willReturn(Optional.of(crewApplication));
-		given(crewMemberRepository.countByCrewId(anyLong()))
+		given(crewRepository.increaseMemberCnt(anyLong()))
 			.willReturn(1);
 		given(memberRepository.findById(anyLong()))
 			.willReturn(Optional.of(member));
 		given(crewMemberRepository.save(any(CrewMember.class)))
 			.willReturn(crewMember);
-		given(crewMissionRepository.saveAll(anyList()))
-			.willReturn(null);
 
 		//when
 		//then
@@ -730,7 +771,7 @@ class CrewServiceTest {
 			.willReturn(Optional.empty());
 		given(crewApplicationRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
 			.willReturn(Optional.of(crewApplication));
-		given(crewMemberRepository.countByCrewId(anyLong()))
+		given(crewRepository.increaseMemberCnt(anyLong()))
 			.willReturn(1);
 		given(memberRepository.findById(anyLong()))
 			.willReturn(Optional.empty());
@@ -763,8 +804,8 @@ class CrewServiceTest {
 			.willReturn(Optional.empty());
 		given(crewApplicationRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
 			.willReturn(Optional.of(crewApplication));
-		given(crewMemberRepository.countByCrewId(anyLong()))
-			.willReturn(10);
+		given(crewRepository.increaseMemberCnt(anyLong()))
+			.willReturn(0);
 
 		//when
 		//then
@@ -990,7 +1031,7 @@ class CrewServiceTest {
 			.willReturn(true);
 		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
 			.willReturn(Optional.of(crewMember));
-		given(crewMemberRepository.countByCrewId(anyLong()))
+		given(crewRepository.decreaseLastMemberCnt(anyLong()))
 			.willReturn(1);
 		doNothing()
 			.when(crewRepository)
@@ -1005,9 +1046,8 @@ class CrewServiceTest {
 	}
 
 	@DisplayName("크루원이 2명 이상 존재할 경우 크루장 탈퇴 시 예외 발생")
-	@ParameterizedTest
-	@ValueSource(ints = {2, 3, 10, 29})
-	void failLeaderLeaveCrewsByMemberCnt(int currentMemberCnt) {
+	@Test
+	void failLeaderLeaveCrewsByMemberCnt() {
 		//given
 		Long crewId = 1L;
 		Long memberId = 1L;
@@ -1023,8 +1063,8 @@ class CrewServiceTest {
 			.willReturn(true);
 		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
 			.willReturn(Optional.of(crewMember));
-		given(crewMemberRepository.countByCrewId(anyLong()))
-			.willReturn(currentMemberCnt);
+		given(crewRepository.decreaseLastMemberCnt(anyLong()))
+			.willReturn(0);
 
 		//when
 		//then
@@ -1271,27 +1311,24 @@ class CrewServiceTest {
 		Member leader = createLeader();
 		CrewMember crewMember = new CrewMember(1L, crew, leader, Role.LEADER);
 
-		LocalDateTime testTime = LocalDateTime.of(2024, 6, 12, 12, 0);
+		LocalDate wednesday = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusDays(2);
 
-		CrewMission mission1 = new CrewMission(1L, leader, crew, MissionType.DISTANCE, true);
-		CrewMission mission2 = new CrewMission(1L, leader, crew, MissionType.DURATION, true);
+		CrewMissionDailyCount dailyCount = new CrewMissionDailyCount(crewId, wednesday);
+		ReflectionTestUtils.setField(dailyCount, "completedCnt", 2);
 
-		ReflectionTestUtils.setField(mission1, "createdAt", testTime);
-		ReflectionTestUtils.setField(mission2, "createdAt", testTime);
+		ReflectionTestUtils.setField(crew, "memberCnt", 1);
 
 		given(crewRepository.findById(anyLong()))
 			.willReturn(Optional.of(crew));
-		given(crewMemberRepository.countByCrewId(anyLong()))
-			.willReturn(1);
-		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
-			.willReturn(Optional.of(crewMember));
+		given(crewMembershipCache.find(anyLong(), anyLong()))
+			.willReturn(Optional.of(new CrewMembership(crewMember.getCrew().getId(), crewMember.getRole())));
 		given(tagRepository.findAllByCrewId(anyLong()))
 			.willReturn(Collections.emptyList());
 		given(crewImageRepository.findByCrewId(anyLong()))
 			.willReturn(Optional.of(createCrewImage()));
-		given(
-			crewMissionRepository.findAllByCrewIdAndWeek(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
-			.willReturn(List.of(mission1, mission2));
+		given(crewMissionDailyCountRepository.findAllByCrewIdAndMissionDateBetween(anyLong(), any(LocalDate.class),
+			any(LocalDate.class)))
+			.willReturn(List.of(dailyCount));
 
 		//when
 		FindCrewWithMissionResDto result = crewService.findCrewWithMission(crewId, memberId);
@@ -1312,29 +1349,24 @@ class CrewServiceTest {
 		Member leader = createLeader();
 		CrewMember crewMember = new CrewMember(1L, crew, leader, Role.LEADER);
 
-		LocalDateTime testTime = LocalDateTime.of(2024, 6, 12, 12, 0);
+		LocalDate wednesday = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusDays(2);
 
-		CrewMission mission1 = new CrewMission(1L, leader, crew, MissionType.DISTANCE, true);
-		CrewMission mission2 = new CrewMission(2L, leader, crew, MissionType.DURATION, true);
-		CrewMission mission3 = new CrewMission(3L, leader, crew, MissionType.DURATION, true);
+		CrewMissionDailyCount dailyCount = new CrewMissionDailyCount(crewId, wednesday);
+		ReflectionTestUtils.setField(dailyCount, "completedCnt", 3);
 
-		ReflectionTestUtils.setField(mission1, "createdAt", testTime);
-		ReflectionTestUtils.setField(mission2, "createdAt", testTime);
-		ReflectionTestUtils.setField(mission3, "createdAt", testTime);
+		ReflectionTestUtils.setField(crew, "memberCnt", 3);
 
 		given(crewRepository.findById(anyLong()))
 			.willReturn(Optional.of(crew));
-		given(crewMemberRepository.countByCrewId(anyLong()))
-			.willReturn(3);
-		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
-			.willReturn(Optional.of(crewMember));
+		given(crewMembershipCache.find(anyLong(), anyLong()))
+			.willReturn(Optional.of(new CrewMembership(crewMember.getCrew().getId(), crewMember.getRole())));
 		given(tagRepository.findAllByCrewId(anyLong()))
 			.willReturn(Collections.emptyList());
 		given(crewImageRepository.findByCrewId(anyLong()))
 			.willReturn(Optional.of(createCrewImage()));
-		given(
-			crewMissionRepository.findAllByCrewIdAndWeek(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
-			.willReturn(List.of(mission1, mission2, mission3));
+		given(crewMissionDailyCountRepository.findAllByCrewIdAndMissionDateBetween(anyLong(), any(LocalDate.class),
+			any(LocalDate.class)))
+			.willReturn(List.of(dailyCount));
 
 		//when
 		FindCrewWithMissionResDto result = crewService.findCrewWithMission(crewId, memberId);
@@ -1355,18 +1387,18 @@ class CrewServiceTest {
 		Member leader = createLeader();
 		CrewMember crewMember = new CrewMember(1L, crew, leader, Role.LEADER);
 
+		ReflectionTestUtils.setField(crew, "memberCnt", 1);
+
 		given(crewRepository.findById(anyLong()))
 			.willReturn(Optional.of(crew));
-		given(crewMemberRepository.countByCrewId(anyLong()))
-			.willReturn(1);
-		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
-			.willReturn(Optional.of(crewMember));
+		given(crewMembershipCache.find(anyLong(), anyLong()))
+			.willReturn(Optional.of(new CrewMembership(crewMember.getCrew().getId(), crewMember.getRole())));
 		given(tagRepository.findAllByCrewId(anyLong()))
 			.willReturn(Collections.emptyList());
 		given(crewImageRepository.findByCrewId(anyLong()))
 			.willReturn(Optional.of(createCrewImage()));
-		given(
-			crewMissionRepository.findAllByCrewIdAndWeek(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+		given(crewMissionDailyCountRepository.findAllByCrewIdAndMissionDateBetween(anyLong(), any(LocalDate.class),
+			any(LocalDate.class)))
 			.willReturn(Collections.emptyList());
 
 		//when
@@ -1392,21 +1424,21 @@ class CrewServiceTest {
 		CrewMember crewMember2 = new CrewMember(2L, crew, member, Role.MEMBER);
 		List<CrewMember> crewMemberList = List.of(crewMember1, crewMember2);
 
-		CrewMission leaderMission1 = new CrewMission(1L, leader, crew, MissionType.DISTANCE, true);
-		CrewMission leaderMission2 = new CrewMission(2L, leader, crew, MissionType.DURATION, true);
-		CrewMission leaderMission3 = new CrewMission(3L, leader, crew, MissionType.DISTANCE, true);
-		CrewMission leaderMission4 = new CrewMission(4L, leader, crew, MissionType.DURATION, true);
+		CrewMission leaderMission1 = new CrewMission(1L, leader, crew, "DISTANCE", true);
+		CrewMission leaderMission2 = new CrewMission(2L, leader, crew, "DURATION", true);
+		CrewMission leaderMission3 = new CrewMission(3L, leader, crew, "DISTANCE", true);
+		CrewMission leaderMission4 = new CrewMission(4L, leader, crew, "DURATION", true);
 
-		CrewMission memberMission1 = new CrewMission(5L, member, crew, MissionType.DISTANCE, true);
-		CrewMission memberMission2 = new CrewMission(6L, member, crew, MissionType.DURATION, true);
+		CrewMission memberMission1 = new CrewMission(5L, member, crew, "DISTANCE", true);
+		CrewMission memberMission2 = new CrewMission(6L, member, crew, "DURATION", true);
 
 		List<CrewMission> missionList = List.of(leaderMission1, leaderMission2, leaderMission3, leaderMission4,
 			memberMission1, memberMission2);
 
 		given(crewRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
-			.willReturn(Optional.of(crewMember2));
+		given(crewMembershipCache.find(anyLong(), anyLong()))
+			.willReturn(Optional.of(new CrewMembership(crewMember2.getCrew().getId(), crewMember2.getRole())));
 		given(crewMemberRepository.findAllByCrewId(anyLong()))
 			.willReturn(crewMemberList);
 		given(crewMissionRepository.findByCrewIdAndMemberIds(anyLong(), anyList()))
@@ -1439,21 +1471,21 @@ class CrewServiceTest {
 		CrewMember crewMember2 = new CrewMember(2L, crew, member, Role.MEMBER);
 		List<CrewMember> crewMemberList = List.of(crewMember1, crewMember2);
 
-		CrewMission leaderMission1 = new CrewMission(1L, leader, crew, MissionType.DISTANCE, true);
-		CrewMission leaderMission2 = new CrewMission(2L, leader, crew, MissionType.DURATION, false);
-		CrewMission leaderMission3 = new CrewMission(3L, leader, crew, MissionType.DISTANCE, true);
-		CrewMission leaderMission4 = new CrewMission(4L, leader, crew, MissionType.DURATION, true);
+		CrewMission leaderMission1 = new CrewMission(1L, leader, crew, "DISTANCE", true);
+		CrewMission leaderMission2 = new CrewMission(2L, leader, crew, "DURATION", false);
+		CrewMission leaderMission3 = new CrewMission(3L, leader, crew, "DISTANCE", true);
+		CrewMission leaderMission4 = new CrewMission(4L, leader, crew, "DURATION", true);
 
-		CrewMission memberMission1 = new CrewMission(5L, member, crew, MissionType.DISTANCE, false);
-		CrewMission memberMission2 = new CrewMission(6L, member, crew, MissionType.DURATION, true);
+		CrewMission memberMission1 = new CrewMission(5L, member, crew, "DISTANCE", false);
+		CrewMission memberMission2 = new CrewMission(6L, member, crew, "DURATION", true);
 
 		List<CrewMission> missionList = List.of(leaderMission1, leaderMission2, leaderMission3, leaderMission4,
 			memberMission1, memberMission2);
 
 		given(crewRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
-			.willReturn(Optional.of(crewMember2));
+		given(crewMembershipCache.find(anyLong(), anyLong()))
+			.willReturn(Optional.of(new CrewMembership(crewMember2.getCrew().getId(), crewMember2.getRole())));
 		given(crewMemberRepository.findAllByCrewId(anyLong()))
 			.willReturn(crewMemberList);
 		given(crewMissionRepository.findByCrewIdAndMemberIds(anyLong(), anyList()))
@@ -1483,17 +1515,17 @@ class CrewServiceTest {
 		CrewMember crewMember2 = new CrewMember(2L, crew, member, Role.MEMBER);
 		List<CrewMember> crewMemberList = List.of(crewMember1, crewMember2);
 
-		CrewMission leaderMission1 = new CrewMission(1L, leader, crew, MissionType.DISTANCE, false);
-		CrewMission leaderMission2 = new CrewMission(2L, leader, crew, MissionType.DURATION, false);
-		CrewMission leaderMission3 = new CrewMission(3L, leader, crew, MissionType.DISTANCE, false);
-		CrewMission leaderMission4 = new CrewMission(4L, leader, crew, MissionType.DURATION, false);
+		CrewMission leaderMission1 = new CrewMission(1L, leader, crew, "DISTANCE", false);
+		CrewMission leaderMission2 = new CrewMission(2L, leader, crew, "DURATION", false);
+		CrewMission leaderMission3 = new CrewMission(3L, leader, crew, "DISTANCE", false);
+		CrewMission leaderMission4 = new CrewMission(4L, leader, crew, "DURATION", false);
 
 		List<CrewMission> missionList = List.of(leaderMission1, leaderMission2, leaderMission3, leaderMission4);
 
 		given(crewRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
-			.willReturn(Optional.of(crewMember2));
+		given(crewMembershipCache.find(anyLong(), anyLong()))
+			.willReturn(Optional.of(new CrewMembership(crewMember2.getCrew().getId(), crewMember2.getRole())));
 		given(crewMemberRepository.findAllByCrewId(anyLong()))
 			.willReturn(crewMemberList);
 		given(crewMissionRepository.findByCrewIdAndMemberIds(anyLong(), anyList()))
@@ -1533,7 +1565,7 @@ class CrewServiceTest {
 
 		given(crewRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.findByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.find(anyLong(), anyLong()))
 			.willReturn(Optional.empty());
 
 		//when
@@ -1541,4 +1573,27 @@ class CrewServiceTest {
 		assertThatThrownBy(() -> crewService.findCrewMemberList(crewId, memberId))
 			.isInstanceOf(UnauthorizedException.class);
 	}
+
+	@DisplayName("크루원은 크루에 접속 중인 크루원 수와 목록을 조회할 수 있고, 크루를 떠난 회원은 제외된다.")
+	@Test
+	void successFindCrewPresence() {
+		//given
+		Long crewId = 1L;
+		Long memberId = 1L;
+
+		given(crewMembershipCache.find(anyLong(), anyLong()))
+			.willReturn(Optional.of(new CrewMembership(crewId, Role.MEMBER)));
+		given(crewPresenceRegistry.findOnlineMembers(crewId))
+			.willReturn(Set.of(3L, 1L, 5L));
+		given(crewMembershipCache.isMember(crewId, 1L)).willReturn(true);
+		given(crewMembershipCache.isMember(crewId, 3L)).willReturn(true);
+		given(crewMembershipCache.isMember(crewId, 5L)).willReturn(false);
+
+		//when
+		CrewPresenceResDto result = crewService.findCrewPresence(crewId, memberId);
+
+		//then
+		assertThat(result.onlineCnt()).isEqualTo(2);
+		assertThat(result.onlineMemberIds()).containsExactly(1L, 3L);
+	}
 }
@@ -7,8 +7,15 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,8 +54,8 @@ import clofi.runningplanet.member.domain.Gender;
 import clofi.runningplanet.member.domain.Member;
 import clofi.runningplanet.member.repository.MemberRepository;
 import clofi.runningplanet.mission.domain.CrewMission;
-import clofi.runningplanet.mission.domain.MissionType;
 import clofi.runningplanet.mission.repository.CrewMissionRepository;
+import clofi.runningplanet.mission.service.CrewMissionCountService;
 import clofi.runningplanet.running.repository.RecordRepository;
 
 @SpringBootTest
@@ -72,6 +79,9 @@ public class CrewServiceIntegrationTest {
 	@Autowired
 	CrewMissionRepository crewMissionRepository;
 
+	@Autowired
+	CrewMissionCountService crewMissionCountService;
+
 	@Autowired
 	RecordRepository recordRepository;
 
@@ -279,6 +289,52 @@ public class CrewServiceIntegrationTest {
 
 	}
 
+	@DisplayName("검색어로 크루 태그를 검색하고 커서 기반으로 다음 페이지를 조회할 수 있다.")
+	@Test
+	void searchCrewByTagWithCursor() {
+		//given
+		Long memberId1 = saveMember1();
+		Long memberId2 = saveMember2();
+		Long memberId3 = saveMember1();
+
+		CreateCrewReqDto reqDto1 = new CreateCrewReqDto("구름", Category.RUNNING, List.of("새벽러닝"), ApprovalType.AUTO,
+			"크루 소개1", new RuleDto(3, 10));
+		MockMultipartFile image1 = new MockMultipartFile("imgFile", "크루로고1.png", MediaType.IMAGE_PNG_VALUE,
+			"크루로고1.png".getBytes());
+
+		Long crewId1 = crewService.createCrew(reqDto1, image1, memberId1);
+
+		CreateCrewReqDto reqDto2 = new CreateCrewReqDto("클로피", Category.DIET, List.of("저녁"), ApprovalType.AUTO,
+			"크루 소개2", new RuleDto(3, 10));
+		MockMultipartFile image2 = new MockMultipartFile("imgFile", "크루로고2.png", MediaType.IMAGE_PNG_VALUE,
+			"크루로고2.png".getBytes());
+
+		crewService.createCrew(reqDto2, image2, memberId2);
+
+		CreateCrewReqDto reqDto3 = new CreateCrewReqDto("러닝 플래닛", Category.RUNNING, List.of("태그"), ApprovalType.AUTO,
+			"크루 소개3", new RuleDto(3, 10));
+		MockMultipartFile image3 = new MockMultipartFile("imgFile", "크루로고3.png", MediaType.IMAGE_PNG_VALUE,
+			"크루로고3.png".getBytes());
+
+		Long crewId3 = crewService.createCrew(reqDto3, image3, memberId3);
+
+		//when
+		List<FindAllCrewResDto> firstPage = crewService.findAllCrew(new SearchParamDto("러닝", null, null, 1));
+		List<FindAllCrewResDto> secondPage = crewService.findAllCrew(
+			new SearchParamDto("러닝", null, firstPage.get(0).crewId(), 1));
+		List<FindAllCrewResDto> lastPage = crewService.findAllCrew(
+			new SearchParamDto("러닝", null, secondPage.get(0).crewId(), 1));
+
+		//then
+		assertSoftly(
+			softAssertions -> {
+				softAssertions.assertThat(firstPage).extracting("crewId").containsExactly(crewId3);
+				softAssertions.assertThat(secondPage).extracting("crewId").containsExactly(crewId1);
+				softAssertions.assertThat(lastPage).isEmpty();
+			}
+		);
+	}
+
 	@DisplayName("crewId를 통해 크루 정보를 조회할 수 있다.")
 	@Test
 	void findCrew() {
@@ -483,6 +539,78 @@ public class CrewServiceIntegrationTest {
 		assertDoesNotThrow(() -> crewService.leaveCrew(crewId, memberId2));
 	}
 
+	@DisplayName("크루원 가입, 탈퇴 시 크루 인원수가 갱신된다.")
+	@Test
+	void updateMemberCntByJoinAndLeave() {
+		//given
+		Long memberId1 = saveMember1();
+		Long memberId2 = saveMember2();
+
+		CreateCrewReqDto reqDto = new CreateCrewReqDto("크루명", Category.RUNNING, List.of("태그"), ApprovalType.AUTO,
+			"크루 소개", new RuleDto(3, 10));
+		MockMultipartFile image = new MockMultipartFile("imgFile", "크루로고.png", MediaType.IMAGE_PNG_VALUE,
+			"크루로고.png".getBytes());
+		Long crewId = crewService.createCrew(reqDto, image, memberId1);
+
+		//when
+		crewService.applyCrew(new ApplyCrewReqDto("크루 가입 신청서"), crewId, memberId2);
+		int joinedMemberCnt = crewService.findCrew(crewId).memberCnt();
+		crewService.leaveCrew(crewId, memberId2);
+		int leftMemberCnt = crewService.findCrew(crewId).memberCnt();
+
+		//then
+		assertThat(joinedMemberCnt).isEqualTo(2);
+		assertThat(leftMemberCnt).isEqualTo(1);
+		assertThat(crewMemberRepository.findByCrewIdAndMemberId(crewId, memberId2)).isEmpty();
+	}
+
+	@DisplayName("동시에 자동 가입 요청이 들어와도 최대 인원수를 초과하지 않는다.")
+	@Test
+	void autoApplyConcurrentlyWithinLimit() throws Exception {
+		//given
+		Long leaderId = saveMember1();
+		CreateCrewReqDto reqDto = new CreateCrewReqDto("크루명", Category.RUNNING, List.of("태그"), ApprovalType.AUTO,
+			"크루 소개", new RuleDto(3, 10));
+		MockMultipartFile image = new MockMultipartFile("imgFile", "크루로고.png", MediaType.IMAGE_PNG_VALUE,
+			"크루로고.png".getBytes());
+		Long crewId = crewService.createCrew(reqDto, image, leaderId);
+
+		int applicantCnt = 15;
+		List<Long> applicantIds = new ArrayList<>();
+		for (int i = 0; i < applicantCnt; i++) {
+			applicantIds.add(saveMember2());
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(applicantCnt);
+		CountDownLatch ready = new CountDownLatch(1);
+		AtomicInteger conflictCnt = new AtomicInteger();
+
+		//when
+		List<Future<?>> results = new ArrayList<>();
+		for (Long applicantId : applicantIds) {
+			results.add(executorService.submit(() -> {
+				ready.await();
+				try {
+					crewService.applyCrew(new ApplyCrewReqDto("크루 가입 신청서"), crewId, applicantId);
+				} catch (ConflictException e) {
+					conflictCnt.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		ready.countDown();
+		for (Future<?> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+		executorService.shutdown();
+
+		//then
+		Crew crew = crewRepository.findById(crewId).get();
+		assertThat(crew.getMemberCnt()).isEqualTo(crew.getLimitMemberCnt());
+		assertThat(crewMemberRepository.findAllByCrewId(crewId)).hasSize(crew.getLimitMemberCnt());
+		assertThat(conflictCnt.get()).isEqualTo(applicantCnt + 1 - crew.getLimitMemberCnt());
+	}
+
 	@DisplayName("크루장은 크루원이 있는 경우 탈퇴할 수 없다.")
 	@Test
 	void couldNotLeaveCrewLeader() {
@@ -594,28 +722,34 @@ public class CrewServiceIntegrationTest {
 
 		CrewMember crewMember = CrewMember.createMember(crew, member2);
 		crewMemberRepository.save(crewMember);
+		crewRepository.increaseMemberCnt(crew.getId());
 
 		LocalDateTime now = LocalDateTime.now();
 		LocalDateTime mon = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 		LocalDateTime thu = mon.plusDays(3);
 		LocalDateTime sun = mon.plusDays(6);
 
-		CrewMission mission1 = new CrewMission(null, member1, crew, MissionType.DISTANCE, true);
+		CrewMission mission1 = new CrewMission(null, member1, crew, "DISTANCE", true);
 		setAuditingHandlerDateTime(mon);
 		crewMissionRepository.save(mission1);
 
-		CrewMission mission2 = new CrewMission(null, member1, crew, MissionType.DURATION, true);
+		CrewMission mission2 = new CrewMission(null, member1, crew, "DURATION", true);
 		setAuditingHandlerDateTime(thu);
 		crewMissionRepository.save(mission2);
 
-		CrewMission mission3 = new CrewMission(null, member2, crew, MissionType.DISTANCE, true);
+		CrewMission mission3 = new CrewMission(null, member2, crew, "DISTANCE", true);
 		setAuditingHandlerDateTime(mon);
 		crewMissionRepository.save(mission3);
 
-		CrewMission mission4 = new CrewMission(null, member2, crew, MissionType.DURATION, true);
+		CrewMission mission4 = new CrewMission(null, member2, crew, "DURATION", true);
 		setAuditingHandlerDateTime(sun);
 		crewMissionRepository.save(mission4);
 
+		crewMissionCountService.increaseCompletedCnt(crew.getId(), mon.toLocalDate());
+		crewMissionCountService.increaseCompletedCnt(crew.getId(), thu.toLocalDate());
+		crewMissionCountService.increaseCompletedCnt(crew.getId(), mon.toLocalDate());
+		crewMissionCountService.increaseCompletedCnt(crew.getId(), sun.toLocalDate());
+
 		//when
 		FindCrewWithMissionResDto result = crewService.findCrewWithMission(crew.getId(), memberId1);
 
@@ -635,28 +769,29 @@ public class CrewServiceIntegrationTest {
 
 		CrewMember crewMember = CrewMember.createMember(crew, member2);
 		crewMemberRepository.save(crewMember);
+		crewRepository.increaseMemberCnt(crew.getId());
 
 		LocalDateTime now = LocalDateTime.now();
 		LocalDateTime mon = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 		LocalDateTime thu = mon.plusDays(3);
 
-		CrewMission mission1 = new CrewMission(null, member1, crew, MissionType.DISTANCE, true);
+		CrewMission mission1 = new CrewMission(null, member1, crew, "DISTANCE", true);
 		setAuditingHandlerDateTime(mon);
 		crewMissionRepository.save(mission1);
 
-		CrewMission mission2 = new CrewMission(null, member1, crew, MissionType.DURATION, true);
+		CrewMission mission2 = new CrewMission(null, member1, crew, "DURATION", true);
 		setAuditingHandlerDateTime(mon);
 		crewMissionRepository.save(mission2);
 
-		CrewMission mission3 = new CrewMission(null, member1, crew, MissionType.DISTANCE, true);
+		CrewMission mission3 = new CrewMission(null, member1, crew, "DISTANCE", true);
 		setAuditingHandlerDateTime(thu);
 		crewMissionRepository.save(mission3);
 
-		CrewMission mission4 = new CrewMission(null, member2, crew, MissionType.DISTANCE, true);
+		CrewMission mission4 = new CrewMission(null, member2, crew, "DISTANCE", true);
 		setAuditingHandlerDateTime(mon);
 		crewMissionRepository.save(mission4);
 
-		CrewMission mission5 = new CrewMission(null, member2, crew, MissionType.DURATION, true);
+		CrewMission mission5 = new CrewMission(null, member2, crew, "DURATION", true);
 		setAuditingHandlerDateTime(mon);
 		crewMissionRepository.save(mission5);
 
@@ -707,6 +842,7 @@ public class CrewServiceIntegrationTest {
 
 		CrewMember crewMember = CrewMember.createLeader(savedCrew, member);
 		crewMemberRepository.save(crewMember);
+		crewRepository.increaseMemberCnt(savedCrew.getId());
 
 		CrewImage crewImage = new CrewImage("파일명", "파일경로", savedCrew);
 		crewImageRepository.save(crewImage);
@@ -2,11 +2,24 @@ package clofi.runningplanet.member.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -18,14 +31,19 @@ import clofi.runningplanet.crew.domain.CrewMember;
 import clofi.runningplanet.crew.domain.Role;
 import clofi.runningplanet.crew.repository.CrewMemberRepository;
 import clofi.runningplanet.crew.repository.CrewRepository;
+import clofi.runningplanet.member.cache.SocialLoginCache;
 import clofi.runningplanet.member.domain.Gender;
 import clofi.runningplanet.member.domain.Member;
+import clofi.runningplanet.member.dto.CustomOAuth2User;
 import clofi.runningplanet.member.dto.request.CreateOnboardingRequest;
 import clofi.runningplanet.member.dto.request.UpdateProfileRequest;
+import clofi.runningplanet.member.dto.response.KakaoResponse;
+import clofi.runningplanet.member.dto.response.OAuth2Response;
 import clofi.runningplanet.member.dto.response.ProfileResponse;
 import clofi.runningplanet.member.dto.response.SelfProfileResponse;
 import clofi.runningplanet.member.repository.MemberRepository;
 import clofi.runningplanet.member.repository.SocialLoginRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @SpringBootTest
 class MemberServiceTest {
@@ -44,8 +62,18 @@ class MemberServiceTest {
 	@Autowired
 	private SocialLoginRepository socialLoginRepository;
 
+	@Autowired
+	private SocialLoginRegistrar socialLoginRegistrar;
+
+	@Autowired
+	private SocialLoginCache socialLoginCache;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
 	@AfterEach
 	void tearDown() {
+		socialLoginRepository.deleteAllInBatch();
 		crewMemberRepository.deleteAllInBatch();
 		crewRepository.deleteAllInBatch();
 		memberRepository.deleteAllInBatch();
@@ -186,6 +214,66 @@ class MemberServiceTest {
 		assertThat(updatedMember.getAge()).isEqualTo(request.age());
 	}
 
+	@DisplayName("최초 소셜 로그인 시 회원이 생성되고, 이후 로그인에서는 같은 회원을 사용한다.")
+	@Test
+	void loadSocialLoginMemberTest() {
+		//given
+		OAuth2Response oAuth2Response = createKakaoResponse("1001");
+
+		//when
+		CustomOAuth2User first = memberService.loadSocialLoginMember(oAuth2Response);
+		CustomOAuth2User second = memberService.loadSocialLoginMember(oAuth2Response);
+
+		//then
+		assertThat(second.getId()).isEqualTo(first.getId());
+		assertThat(second.getName()).isEqualTo(String.valueOf(first.getId()));
+		assertThat(memberRepository.findById(first.getId())).get()
+			.extracting(Member::getNickname).isEqualTo("러너");
+		assertThat(memberRepository.findAll()).hasSize(1);
+		assertThat(socialLoginRepository.findAll()).hasSize(1);
+	}
+
+	@DisplayName("같은 소셜 계정으로 동시에 최초 로그인해도 회원은 하나만 생성된다.")
+	@Test
+	void loadSocialLoginMemberConcurrentlyTest() throws Exception {
+		//given
+		int threadCount = 4;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(1);
+		List<Future<Long>> results = new ArrayList<>();
+
+		//when
+		for (int i = 0; i < threadCount; i++) {
+			// 서로 다른 노드에서의 로그인처럼 각자 캐시를 거치지 않도록 등록 로직을 직접 경쟁시킨다.
+			MemberService nodeService = new MemberService(memberRepository, crewMemberRepository,
+				socialLoginRepository, new FakeS3StorageManager(), socialLoginRegistrar,
+				new SocialLoginCache(new SimpleMeterRegistry(), Duration.ofMinutes(1)), eventPublisher);
+			results.add(executorService.submit(() -> {
+				ready.await();
+				return nodeService.loadSocialLoginMember(createKakaoResponse("2002")).getId();
+			}));
+		}
+		ready.countDown();
+		executorService.shutdown();
+
+		//then
+		Set<Long> memberIds = new HashSet<>();
+		for (Future<Long> result : results) {
+			memberIds.add(result.get(5, TimeUnit.SECONDS));
+		}
+		assertThat(memberIds).hasSize(1);
+		assertThat(socialLoginRepository.findAll()).hasSize(1);
+		assertThat(memberRepository.findAll()).hasSize(1);
+	}
+
+	private OAuth2Response createKakaoResponse(String providerId) {
+		return new KakaoResponse(Map.of(
+			"id", providerId,
+			"properties", Map.of("nickname", "러너", "profile_image", "https://test.com/profile.png"),
+			"kakao_account", Map.of("email", "runner@test.com")
+		));
+	}
+
 	private Member createMember() {
 		return Member.builder()
 			.nickname("고구마")
@@ -214,7 +302,10 @@ class MemberServiceTest {
 			memberRepository,
 			crewMemberRepository,
 			socialLoginRepository,
-			fakeS3StorageManager
+			fakeS3StorageManager,
+			socialLoginRegistrar,
+			socialLoginCache,
+			eventPublisher
 		);
 	}
 
@@ -0,0 +1,39 @@
+package clofi.runningplanet.mission.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CompletedMissionCacheTest {
+
+	private final CompletedMissionCache completedMissionCache = new CompletedMissionCache(new SimpleMeterRegistry());
+
+	@DisplayName("완료한 미션 종류가 누적되고 날짜와 크루별로 구분된다.")
+	@Test
+	void recordCompletedMissions() {
+		//given
+		LocalDate today = LocalDate.of(2024, 6, 10);
+		Set<String> allTypes = Set.of("DISTANCE", "DURATION");
+
+		//when
+		completedMissionCache.record(1L, 1L, today, List.of("DISTANCE"));
+		boolean distanceCompleted = completedMissionCache.isCompleted(1L, 1L, today, Set.of("DISTANCE"));
+		boolean allCompletedBefore = completedMissionCache.isCompleted(1L, 1L, today, allTypes);
+		completedMissionCache.record(1L, 1L, today, List.of("DURATION"));
+		boolean allCompletedAfter = completedMissionCache.isCompleted(1L, 1L, today, allTypes);
+
+		//then
+		assertThat(distanceCompleted).isTrue();
+		assertThat(allCompletedBefore).isFalse();
+		assertThat(allCompletedAfter).isTrue();
+		assertThat(completedMissionCache.isCompleted(1L, 1L, today.plusDays(1), allTypes)).isFalse();
+		assertThat(completedMissionCache.isCompleted(2L, 1L, today, allTypes)).isFalse();
+	}
+}
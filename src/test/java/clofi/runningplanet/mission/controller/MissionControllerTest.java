@@ -27,7 +27,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import clofi.runningplanet.common.WithMockCustomMember;
-import clofi.runningplanet.mission.domain.MissionType;
 import clofi.runningplanet.mission.dto.response.CrewMissionListDto;
 import clofi.runningplanet.mission.dto.response.GetCrewMissionResDto;
 import clofi.runningplanet.mission.service.MissionService;
@@ -64,8 +63,8 @@ class MissionControllerTest {
 		Long crewId = 1L;
 
 		List<GetCrewMissionResDto> getCrewMissionResDtos = List.of(
-			new GetCrewMissionResDto(1L, MissionType.DISTANCE, 1, true),
-			new GetCrewMissionResDto(2L, MissionType.DURATION, (double)(1800 / 3600), false)
+			new GetCrewMissionResDto(1L, "DISTANCE", 1, true, "1km 달리기"),
+			new GetCrewMissionResDto(2L, "DURATION", (double)(1800 / 3600), false, "1시간 달리기")
 		);
 
 		CrewMissionListDto expected = new CrewMissionListDto(getCrewMissionResDtos);
@@ -0,0 +1,134 @@
+package clofi.runningplanet.mission.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import clofi.runningplanet.mission.domain.rule.MissionEvaluator;
+import clofi.runningplanet.mission.domain.rule.MissionMetric;
+import clofi.runningplanet.mission.domain.rule.MissionRule;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+
+class MissionDefinitionTest {
+
+	@DisplayName("3600초 이상 운동했을 시 true 반환")
+	@ParameterizedTest
+	@ValueSource(ints = {3600, 3601, 4000, 10000})
+	void durationIsCompleteReturnTrue(int value) {
+		//given
+		MissionDefinition definition = findDefault("DURATION");
+		MissionRecords records = MissionRecords.ofToday(LocalDate.now(), new TodayRecords(500, value));
+
+		//when
+		boolean result = evaluator(definition).isComplete(records);
+
+		//then
+		assertThat(result).isTrue();
+	}
+
+	@DisplayName("3600초 미만으로 운동했을 시 false 반환")
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 2000, 3599})
+	void durationIsCompleteReturnFalse(int value) {
+		//given
+		MissionDefinition definition = findDefault("DURATION");
+		MissionRecords records = MissionRecords.ofToday(LocalDate.now(), new TodayRecords(500, value));
+
+		//when
+		boolean result = evaluator(definition).isComplete(records);
+
+		//then
+		assertThat(result).isFalse();
+	}
+
+	@DisplayName("1000미터 이상 운동했을 시 true 반환")
+	@ParameterizedTest
+	@ValueSource(ints = {1000, 1001, 2000, 10000})
+	void distanceIsCompleteReturnTrue(int value) {
+		//given
+		MissionDefinition definition = findDefault("DISTANCE");
+		MissionRecords records = MissionRecords.ofToday(LocalDate.now(), new TodayRecords(value, 500));
+
+		//when
+		boolean result = evaluator(definition).isComplete(records);
+
+		//then
+		assertThat(result).isTrue();
+	}
+
+	@DisplayName("1000미터 미만 운동했을 시 false 반환")
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 500, 999})
+	void distanceIsCompleteReturnFalse(int value) {
+		//given
+		MissionDefinition definition = findDefault("DISTANCE");
+		MissionRecords records = MissionRecords.ofToday(LocalDate.now(), new TodayRecords(value, 500));
+
+		//when
+		boolean result = evaluator(definition).isComplete(records);
+
+		//then
+		assertThat(result).isFalse();
+	}
+
+	@DisplayName("목표치까지 1이하의 미션 진행률 반환")
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 500, 999, 1000})
+	void distanceCalculateProgressLessThanEqual1(int value) {
+		//given
+		MissionDefinition definition = findDefault("DISTANCE");
+		MissionRecords records = MissionRecords.ofToday(LocalDate.now(), new TodayRecords(value, 500));
+
+		//when
+		double result = evaluator(definition).calculateProgress(records);
+
+		//then
+		assertThat(result).isEqualTo((double)value / definition.rule().threshold());
+		assertThat(result).isLessThanOrEqualTo(1);
+	}
+
+	@DisplayName("목표치 초과 달성 시 진행률 1 초과 반환")
+	@ParameterizedTest
+	@ValueSource(ints = {1001, 1002, 1100, 3000, 9000})
+	void distanceCalculateProgressOver1(int value) {
+		//given
+		MissionDefinition definition = findDefault("DISTANCE");
+		MissionRecords records = MissionRecords.ofToday(LocalDate.now(), new TodayRecords(value, 500));
+
+		//when
+		double result = evaluator(definition).calculateProgress(records);
+
+		//then
+		assertThat(result).isEqualTo((double)value / definition.rule().threshold());
+		assertThat(result).isGreaterThan(1);
+	}
+
+	@DisplayName("미션 식별자가 형식에 맞지 않으면 예외 발생")
+	@ParameterizedTest
+	@ValueSource(strings = {"", "distance", "1KM", "DISTANCE'"})
+	void invalidId(String id) {
+		//given
+		MissionRule rule = MissionRule.atLeast(MissionMetric.DISTANCE, 1000);
+
+		//when
+		//then
+		assertThatThrownBy(() -> new MissionDefinition(id, "1km 달리기", rule))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private MissionDefinition findDefault(String id) {
+		return MissionDefinition.DEFAULTS.stream()
+			.filter(definition -> definition.id().equals(id))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private MissionEvaluator evaluator(MissionDefinition definition) {
+		return definition.rule().compile();
+	}
+}
@@ -0,0 +1,166 @@
+package clofi.runningplanet.mission.domain.rule;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+
+class MissionRuleTest {
+	private static final LocalDate WEDNESDAY = LocalDate.of(2024, 5, 15);
+
+	@DisplayName("운동 횟수 목표는 하루 운동 횟수가 목표 이상이면 달성한다.")
+	@Test
+	void runCountRule() {
+		//given
+		MissionEvaluator evaluator = MissionRule.atLeast(MissionMetric.RUN_COUNT, 2).compile();
+
+		//when
+		//then
+		assertThat(evaluator.isComplete(today(new TodayRecords(500, 300, 1)))).isFalse();
+		assertThat(evaluator.calculateProgress(today(new TodayRecords(500, 300, 1)))).isEqualTo(0.5);
+		assertThat(evaluator.isComplete(today(new TodayRecords(1000, 600, 2)))).isTrue();
+	}
+
+	@DisplayName("페이스 목표는 1km 당 소요 시간이 목표 이하일 때 달성하고, 기록이 없으면 달성하지 못한다.")
+	@Test
+	void paceRule() {
+		//given
+		MissionEvaluator evaluator = MissionRule.atMost(MissionMetric.PACE, 360).compile();
+
+		//when
+		//then
+		assertThat(evaluator.isComplete(today(new TodayRecords(2000, 600)))).isTrue();
+		assertThat(evaluator.isComplete(today(new TodayRecords(1000, 720)))).isFalse();
+		assertThat(evaluator.calculateProgress(today(new TodayRecords(1000, 720)))).isEqualTo(0.5);
+		assertThat(evaluator.isComplete(today(new TodayRecords(0, 0)))).isFalse();
+		assertThat(evaluator.calculateProgress(today(new TodayRecords(0, 0)))).isZero();
+	}
+
+	@DisplayName("하루 단위 규칙은 오늘 이전의 기록을 합산하지 않는다.")
+	@Test
+	void dayWindowIgnoresPreviousDays() {
+		//given
+		MissionEvaluator evaluator = MissionRule.atLeast(MissionMetric.DISTANCE, 1000).compile();
+		MissionRecords records = new MissionRecords(WEDNESDAY, Map.of(
+			WEDNESDAY.minusDays(1), new TodayRecords(800, 600),
+			WEDNESDAY, new TodayRecords(500, 300)));
+
+		//when
+		//then
+		assertThat(evaluator.isComplete(records)).isFalse();
+		assertThat(evaluator.calculateProgress(records)).isEqualTo(0.5);
+	}
+
+	@DisplayName("주간 합계 규칙은 이번 주 월요일부터의 기록을 합산한다.")
+	@Test
+	void weekTotalRule() {
+		//given
+		MissionEvaluator evaluator = MissionRule.atLeast(MissionMetric.DISTANCE, 5000)
+			.over(MissionWindow.WEEK, MissionAggregation.TOTAL)
+			.compile();
+		LocalDate monday = WEDNESDAY.with(DayOfWeek.MONDAY);
+		MissionRecords records = new MissionRecords(WEDNESDAY, Map.of(
+			monday.minusDays(1), new TodayRecords(10000, 3600),
+			monday, new TodayRecords(2000, 600),
+			WEDNESDAY, new TodayRecords(3000, 900)));
+
+		//when
+		//then
+		assertThat(evaluator.isComplete(records)).isTrue();
+		assertThat(evaluator.calculateProgress(records)).isEqualTo(1.0);
+	}
+
+	@DisplayName("주간 최고 기록 규칙은 이번 주 중 가장 좋은 하루의 기록으로 평가한다.")
+	@Test
+	void weekBestDayRule() {
+		//given
+		MissionEvaluator distance = MissionRule.atLeast(MissionMetric.DISTANCE, 3000)
+			.over(MissionWindow.WEEK, MissionAggregation.BEST_DAY)
+			.compile();
+		MissionEvaluator pace = MissionRule.atMost(MissionMetric.PACE, 360)
+			.over(MissionWindow.WEEK, MissionAggregation.BEST_DAY)
+			.compile();
+		MissionRecords records = new MissionRecords(WEDNESDAY, Map.of(
+			WEDNESDAY.minusDays(1), new TodayRecords(2000, 600),
+			WEDNESDAY, new TodayRecords(2000, 900)));
+
+		//when
+		//then
+		assertThat(distance.isComplete(records)).isFalse();
+		assertThat(distance.calculateProgress(records)).isEqualTo(2000.0 / 3000);
+		assertThat(pace.isComplete(records)).isTrue();
+	}
+
+	@DisplayName("주간 연속 달성 규칙은 이번 주에 하루 목표를 연속으로 달성한 가장 긴 일수로 평가한다.")
+	@Test
+	void weekStreakRule() {
+		//given
+		MissionEvaluator evaluator = MissionRule.weeklyStreak(MissionMetric.DISTANCE, MissionGoal.AT_LEAST, 1000, 3)
+			.compile();
+		LocalDate monday = WEDNESDAY.with(DayOfWeek.MONDAY);
+		MissionRecords streak = new MissionRecords(WEDNESDAY, Map.of(
+			monday, new TodayRecords(1200, 600),
+			monday.plusDays(1), new TodayRecords(1500, 700),
+			WEDNESDAY, new TodayRecords(1000, 500)));
+		MissionRecords broken = new MissionRecords(WEDNESDAY, Map.of(
+			monday.minusDays(1), new TodayRecords(5000, 1800),
+			monday, new TodayRecords(1200, 600),
+			monday.plusDays(1), new TodayRecords(500, 300),
+			WEDNESDAY, new TodayRecords(1000, 500)));
+
+		//when
+		//then
+		assertThat(evaluator.isComplete(streak)).isTrue();
+		assertThat(evaluator.isComplete(broken)).isFalse();
+		assertThat(evaluator.calculateProgress(broken)).isEqualTo(1.0 / 3);
+	}
+
+	@DisplayName("하루 목표가 없는 연속 달성 규칙은 운동한 날을 달성한 날로 본다.")
+	@Test
+	void weekStreakWithoutDailyThreshold() {
+		//given
+		MissionEvaluator evaluator = MissionRule.atLeast(MissionMetric.RUN_COUNT, 2)
+			.over(MissionWindow.WEEK, MissionAggregation.STREAK)
+			.compile();
+		LocalDate monday = WEDNESDAY.with(DayOfWeek.MONDAY);
+		MissionRecords records = new MissionRecords(WEDNESDAY, Map.of(
+			monday.plusDays(1), new TodayRecords(500, 300, 1),
+			WEDNESDAY, new TodayRecords(500, 300, 1)));
+
+		//when
+		//then
+		assertThat(evaluator.isComplete(records)).isTrue();
+	}
+
+	@DisplayName("하루 단위 연속 달성 규칙이나 0 이하의 하루 목표값은 예외가 발생한다.")
+	@Test
+	void invalidStreakRule() {
+		//when
+		//then
+		assertThatThrownBy(() -> MissionRule.atLeast(MissionMetric.DISTANCE, 3)
+			.over(MissionWindow.DAY, MissionAggregation.STREAK))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> MissionRule.weeklyStreak(MissionMetric.DISTANCE, MissionGoal.AT_LEAST, 0, 3))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@DisplayName("미션 목표값이 0 이하이면 예외가 발생한다.")
+	@Test
+	void invalidThreshold() {
+		//when
+		//then
+		assertThatThrownBy(() -> MissionRule.atLeast(MissionMetric.DISTANCE, 0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private MissionRecords today(TodayRecords todayRecords) {
+		return MissionRecords.ofToday(WEDNESDAY, todayRecords);
+	}
+}
@@ -0,0 +1,64 @@
+package clofi.runningplanet.mission.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import clofi.runningplanet.mission.cache.CompletedMissionCache;
+import clofi.runningplanet.mission.config.MissionDefinitionProperties;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+import clofi.runningplanet.running.domain.RunningRecordUpdatedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class MissionCompletionListenerTest {
+
+	@Mock
+	private MissionService missionService;
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	@Mock
+	private CompletedMissionCache completedMissionCache;
+
+	@Mock
+	private MissionRecordReader missionRecordReader;
+
+	@Spy
+	private MissionRuleRegistry missionRuleRegistry = new MissionRuleRegistry(
+		new MissionDefinitionProperties(List.of()));
+
+	@InjectMocks
+	private MissionCompletionListener missionCompletionListener;
+
+	@DisplayName("미션 자동 완료에 실패해도 이미 커밋된 기록 저장 요청에는 예외를 전파하지 않는다.")
+	@Test
+	void notPropagateCompletionFailure() {
+		//given
+		RunningRecordUpdatedEvent event = new RunningRecordUpdatedEvent(1L, 1L, 1.5, 3600, 1);
+		MissionRecords missionRecords = MissionRecords.ofToday(LocalDate.now(), new TodayRecords(1.5, 3600, 1));
+
+		given(missionRecordReader.read(anyLong(), any(LocalDate.class), any(TodayRecords.class)))
+			.willReturn(missionRecords);
+		given(missionService.completeMissions(anyLong(), anyLong(), any(MissionRecords.class)))
+			.willThrow(new CannotAcquireLockException("deadlock"));
+
+		//when
+		//then
+		assertThatNoException().isThrownBy(() -> missionCompletionListener.completeMissions(event));
+		then(messagingTemplate).shouldHaveNoInteractions();
+	}
+}
@@ -0,0 +1,111 @@
+package clofi.runningplanet.mission.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import clofi.runningplanet.mission.config.MissionDefinitionProperties;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
+
+class MissionRuleRegistryTest {
+	private static final LocalDate WEDNESDAY = LocalDate.of(2024, 5, 15);
+
+	@DisplayName("설정한 미션이 없으면 기본 미션으로 평가한다.")
+	@Test
+	void defaultDefinitions() {
+		//given
+		MissionRuleRegistry registry = new MissionRuleRegistry(new MissionDefinitionProperties(List.of()));
+
+		//when
+		//then
+		assertThat(registry.getMissionIds()).containsExactly("DISTANCE", "DURATION");
+		assertThat(registry.getContent("DISTANCE")).isEqualTo("1km 달리기");
+		assertThat(registry.findAchievable(MissionRecords.ofToday(WEDNESDAY, new TodayRecords(1000, 1800))))
+			.containsExactly("DISTANCE");
+		assertThat(registry.findEarliestStartDate(WEDNESDAY)).isEqualTo(WEDNESDAY);
+	}
+
+	@DisplayName("설정한 미션 정의가 식별자, 내용, 규칙을 함께 대체한다.")
+	@Test
+	void overrideDefinitionsByProperties() {
+		//given
+		MissionDefinitionProperties properties = bind(Map.of(
+			"mission.definitions[0].id", "WEEKLY_DISTANCE",
+			"mission.definitions[0].content", "이번 주 5km 달리기",
+			"mission.definitions[0].rule.metric", "distance",
+			"mission.definitions[0].rule.goal", "at_least",
+			"mission.definitions[0].rule.threshold", "5000",
+			"mission.definitions[0].rule.window", "week"));
+		MissionRuleRegistry registry = new MissionRuleRegistry(properties);
+		MissionRecords records = new MissionRecords(WEDNESDAY, Map.of(
+			WEDNESDAY.minusDays(2), new TodayRecords(3000, 900),
+			WEDNESDAY, new TodayRecords(2000, 600)));
+
+		//when
+		//then
+		assertThat(registry.getMissionIds()).containsExactly("WEEKLY_DISTANCE");
+		assertThat(registry.getContent("WEEKLY_DISTANCE")).isEqualTo("이번 주 5km 달리기");
+		assertThat(registry.isComplete("WEEKLY_DISTANCE", records)).isTrue();
+		assertThat(registry.isComplete("DISTANCE", records)).isFalse();
+		assertThat(registry.findEarliestStartDate(WEDNESDAY)).isEqualTo(WEDNESDAY.minusDays(2));
+	}
+
+	@DisplayName("기간이 긴 규칙도 기록을 평가해 실제로 달성한 미션만 반환한다.")
+	@Test
+	void findAchievableEvaluatesWeeklyRule() {
+		//given
+		MissionDefinitionProperties properties = bind(Map.of(
+			"mission.definitions[0].id", "WEEKLY_DISTANCE",
+			"mission.definitions[0].content", "이번 주 5km 달리기",
+			"mission.definitions[0].rule.metric", "distance",
+			"mission.definitions[0].rule.goal", "at_least",
+			"mission.definitions[0].rule.threshold", "5000",
+			"mission.definitions[0].rule.window", "week"));
+		MissionRuleRegistry registry = new MissionRuleRegistry(properties);
+
+		//when
+		//then
+		assertThat(registry.findAchievable(MissionRecords.ofToday(WEDNESDAY, new TodayRecords(2000, 600))))
+			.isEmpty();
+		assertThat(registry.findAchievable(new MissionRecords(WEDNESDAY, Map.of(
+			WEDNESDAY.minusDays(1), new TodayRecords(3000, 900),
+			WEDNESDAY, new TodayRecords(2000, 600)))))
+			.containsExactly("WEEKLY_DISTANCE");
+	}
+
+	@DisplayName("미션 식별자가 중복되면 예외 발생")
+	@Test
+	void duplicateMissionId() {
+		//given
+		MissionDefinitionProperties properties = bind(Map.of(
+			"mission.definitions[0].id", "DISTANCE",
+			"mission.definitions[0].content", "1km 달리기",
+			"mission.definitions[0].rule.metric", "distance",
+			"mission.definitions[0].rule.goal", "at_least",
+			"mission.definitions[0].rule.threshold", "1000",
+			"mission.definitions[1].id", "DISTANCE",
+			"mission.definitions[1].content", "2km 달리기",
+			"mission.definitions[1].rule.metric", "distance",
+			"mission.definitions[1].rule.goal", "at_least",
+			"mission.definitions[1].rule.threshold", "2000"));
+
+		//when
+		//then
+		assertThatThrownBy(() -> new MissionRuleRegistry(properties))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private MissionDefinitionProperties bind(Map<String, String> source) {
+		return new Binder(new MapConfigurationPropertySource(source))
+			.bind("mission", MissionDefinitionProperties.class)
+			.get();
+	}
+}
@@ -5,8 +5,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.time.LocalDateTime;
-import java.util.Collections;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,22 +14,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import clofi.runningplanet.common.exception.ConflictException;
 import clofi.runningplanet.common.exception.ForbiddenException;
 import clofi.runningplanet.common.exception.NotFoundException;
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
 import clofi.runningplanet.crew.domain.Crew;
-import clofi.runningplanet.crew.repository.CrewMemberRepository;
 import clofi.runningplanet.crew.repository.CrewRepository;
 import clofi.runningplanet.member.repository.MemberRepository;
+import clofi.runningplanet.mission.cache.CompletedMissionCache;
+import clofi.runningplanet.mission.config.MissionDefinitionProperties;
 import clofi.runningplanet.mission.domain.CrewMission;
-import clofi.runningplanet.mission.domain.MissionType;
+import clofi.runningplanet.mission.domain.vo.MissionRecords;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
 import clofi.runningplanet.mission.dto.response.CrewMissionListDto;
 import clofi.runningplanet.mission.dto.response.GetCrewMissionResDto;
+import clofi.runningplanet.mission.repository.CrewMissionJdbcRepository;
 import clofi.runningplanet.mission.repository.CrewMissionRepository;
-import clofi.runningplanet.running.domain.Record;
-import clofi.runningplanet.running.repository.RecordRepository;
 
 @ExtendWith(MockitoExtension.class)
 class MissionServiceTest {
@@ -45,10 +49,29 @@ class MissionServiceTest {
 	private MemberRepository memberRepository;
 
 	@Mock
-	private CrewMemberRepository crewMemberRepository;
+	private CrewMembershipCache crewMembershipCache;
 
 	@Mock
-	private RecordRepository recordRepository;
+	private MissionRecordReader missionRecordReader;
+
+	@Mock
+	private CrewMissionJdbcRepository crewMissionJdbcRepository;
+
+	@Mock
+	private CrewMissionCountService crewMissionCountService;
+
+	@Mock
+	private DailyMissionGenerator dailyMissionGenerator;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private CompletedMissionCache completedMissionCache;
+
+	@Spy
+	private MissionRuleRegistry missionRuleRegistry = new MissionRuleRegistry(
+		new MissionDefinitionProperties(List.of()));
 
 	@InjectMocks
 	private MissionService missionService;
@@ -61,29 +84,27 @@ class MissionServiceTest {
 		Long memberId = 1L;
 
 		List<CrewMission> crewMissionList = crewMissionList();
-		List<Record> todayRecordList = createTodayRecordList();
+		MissionRecords missionRecords = createTodayMissionRecords();
 
 		given(crewRepository.existsById(anyLong()))
 			.willReturn(true);
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(true);
-		given(crewMissionRepository.findAllByCrewIdAndMemberIdAndToday(anyLong(), anyLong(), any(LocalDateTime.class),
-			any(
-				LocalDateTime.class)))
+		given(crewMissionRepository.findAllByCrewIdAndMemberIdAndMissionDate(anyLong(), anyLong(),
+			any(LocalDate.class)))
 			.willReturn(crewMissionList);
-		given(recordRepository.findAllByMemberIdAndCreatedAtBetween(anyLong(), any(LocalDateTime.class), any(
-			LocalDateTime.class)))
-			.willReturn(todayRecordList);
+		given(missionRecordReader.read(anyLong(), any(LocalDate.class)))
+			.willReturn(missionRecords);
 
 		//when
 		CrewMissionListDto result = missionService.getCrewMission(crewId, memberId);
 
 		//then
 		List<GetCrewMissionResDto> getCrewMissionResDtos = List.of(
-			new GetCrewMissionResDto(1L, MissionType.DISTANCE, 100, true),
-			new GetCrewMissionResDto(2L, MissionType.DURATION, (double)1800 / 3600 * 100, false)
+			new GetCrewMissionResDto(1L, "DISTANCE", 100, true, "1km 달리기"),
+			new GetCrewMissionResDto(2L, "DURATION", (double)1800 / 3600 * 100, false, "1시간 달리기")
 		);
 
 		CrewMissionListDto expected = new CrewMissionListDto(getCrewMissionResDtos);
@@ -104,23 +125,21 @@ class MissionServiceTest {
 			.willReturn(true);
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(true);
-		given(crewMissionRepository.findAllByCrewIdAndMemberIdAndToday(anyLong(), anyLong(), any(LocalDateTime.class),
-			any(
-				LocalDateTime.class)))
+		given(crewMissionRepository.findAllByCrewIdAndMemberIdAndMissionDate(anyLong(), anyLong(),
+			any(LocalDate.class)))
 			.willReturn(crewMissionList);
-		given(recordRepository.findAllByMemberIdAndCreatedAtBetween(anyLong(), any(LocalDateTime.class), any(
-			LocalDateTime.class)))
-			.willReturn(Collections.emptyList());
+		given(missionRecordReader.read(anyLong(), any(LocalDate.class)))
+			.willReturn(MissionRecords.ofToday(LocalDate.now(), TodayRecords.EMPTY));
 
 		//when
 		CrewMissionListDto result = missionService.getCrewMission(crewId, memberId);
 
 		//then
 		List<GetCrewMissionResDto> getCrewMissionResDtos = List.of(
-			new GetCrewMissionResDto(1L, MissionType.DISTANCE, 0, false),
-			new GetCrewMissionResDto(2L, MissionType.DURATION, 0, false)
+			new GetCrewMissionResDto(1L, "DISTANCE", 0, false, "1km 달리기"),
+			new GetCrewMissionResDto(2L, "DURATION", 0, false, "1시간 달리기")
 		);
 
 		CrewMissionListDto expected = new CrewMissionListDto(getCrewMissionResDtos);
@@ -173,7 +192,7 @@ class MissionServiceTest {
 			.willReturn(true);
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(false);
 
 		//when
@@ -192,17 +211,19 @@ class MissionServiceTest {
 
 		Crew crew = createCrew();
 		CrewMission mission = createDistanceCrewMission();
-		List<Record> todayRecordList = createTodayRecordList();
+		ReflectionTestUtils.setField(mission, "missionDate", LocalDate.now());
+		MissionRecords missionRecords = createTodayMissionRecords();
 
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(true);
 		given(crewMissionRepository.findById(anyLong()))
 			.willReturn(Optional.of(mission));
-		given(recordRepository.findAllByMemberIdAndCreatedAtBetween(anyLong(), any(LocalDateTime.class),
-			any(LocalDateTime.class)))
-			.willReturn(todayRecordList);
+		given(missionRecordReader.read(anyLong(), any(LocalDate.class)))
+			.willReturn(missionRecords);
+		given(crewMissionRepository.completeMission(anyLong()))
+			.willReturn(1);
 		given(crewRepository.findById(anyLong()))
 			.willReturn(Optional.of(crew));
 
@@ -211,6 +232,60 @@ class MissionServiceTest {
 		assertDoesNotThrow(() -> missionService.successMission(crewId, missionId, memberId));
 	}
 
+	@DisplayName("운동 기록이 갱신되면 달성한 미션만 완료 처리하고 경험치를 지급한다.")
+	@Test
+	void completeMissionsByTodayRecords() {
+		//given
+		Long crewId = 1L;
+		Long memberId = 1L;
+
+		Crew crew = createCrew();
+		List<CrewMission> crewMissionList = crewMissionListNotComplete();
+		MissionRecords missionRecords = createTodayMissionRecords();
+
+		given(crewMissionRepository.findAllByCrewIdAndMemberIdAndMissionDate(anyLong(), anyLong(),
+			any(LocalDate.class)))
+			.willReturn(crewMissionList);
+		given(crewMissionRepository.completeMission(1L))
+			.willReturn(1);
+		given(crewRepository.findById(anyLong()))
+			.willReturn(Optional.of(crew));
+
+		//when
+		Optional<CrewMissionListDto> result = missionService.completeMissions(crewId, memberId, missionRecords);
+
+		//then
+		assertThat(result).isPresent();
+		assertThat(result.get().missions())
+			.extracting("missionComplete")
+			.containsExactly(true, false);
+		assertThat(crew.getCrewExp()).isEqualTo(10);
+		then(crewMissionRepository).should(never()).completeMission(2L);
+		then(crewMissionCountService).should(times(1)).increaseCompletedCnt(eq(crewId), any());
+	}
+
+	@DisplayName("다른 요청에서 이미 완료된 미션은 경험치를 다시 지급하지 않는다.")
+	@Test
+	void completeMissionsAlreadyCompleted() {
+		//given
+		List<CrewMission> crewMissionList = crewMissionListNotComplete();
+		MissionRecords missionRecords = createTodayMissionRecords();
+
+		given(crewMissionRepository.findAllByCrewIdAndMemberIdAndMissionDate(anyLong(), anyLong(),
+			any(LocalDate.class)))
+			.willReturn(crewMissionList);
+		given(crewMissionRepository.completeMission(1L))
+			.willReturn(0);
+
+		//when
+		Optional<CrewMissionListDto> result = missionService.completeMissions(1L, 1L, missionRecords);
+
+		//then
+		assertThat(result).isEmpty();
+		then(crewRepository).should(never()).findById(anyLong());
+		then(eventPublisher).shouldHaveNoInteractions();
+	}
+
 	@DisplayName("사용자 정보가 없는 사용자가 미션 성공 시 예외 발생")
 	@Test
 	void failCrewMissionByNotFoundMember() {
@@ -238,7 +313,7 @@ class MissionServiceTest {
 
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(false);
 
 		//when
@@ -257,7 +332,7 @@ class MissionServiceTest {
 
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(true);
 		given(crewMissionRepository.findById(anyLong()))
 			.willReturn(Optional.empty());
@@ -277,17 +352,16 @@ class MissionServiceTest {
 		Long missionId = 1L;
 
 		CrewMission mission = createDistanceCrewMission();
-		List<Record> todayRecordList = createTodayRecordList();
+		MissionRecords missionRecords = createTodayMissionRecords();
 
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(true);
 		given(crewMissionRepository.findById(anyLong()))
 			.willReturn(Optional.of(mission));
-		given(recordRepository.findAllByMemberIdAndCreatedAtBetween(anyLong(), any(LocalDateTime.class),
-			any(LocalDateTime.class)))
-			.willReturn(todayRecordList);
+		given(missionRecordReader.read(anyLong(), any(LocalDate.class)))
+			.willReturn(missionRecords);
 		given(crewRepository.findById(anyLong()))
 			.willReturn(Optional.empty());
 
@@ -309,7 +383,7 @@ class MissionServiceTest {
 
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(true);
 		given(crewMissionRepository.findById(anyLong()))
 			.willReturn(Optional.of(mission));
@@ -329,17 +403,16 @@ class MissionServiceTest {
 		Long missionId = 1L;
 
 		CrewMission mission = createDurationCrewMission();
-		List<Record> todayRecordList = createTodayRecordList();
+		MissionRecords missionRecords = createTodayMissionRecords();
 
 		given(memberRepository.existsById(anyLong()))
 			.willReturn(true);
-		given(crewMemberRepository.existsByCrewIdAndMemberId(anyLong(), anyLong()))
+		given(crewMembershipCache.isMember(anyLong(), anyLong()))
 			.willReturn(true);
 		given(crewMissionRepository.findById(anyLong()))
 			.willReturn(Optional.of(mission));
-		given(recordRepository.findAllByMemberIdAndCreatedAtBetween(anyLong(), any(LocalDateTime.class),
-			any(LocalDateTime.class)))
-			.willReturn(todayRecordList);
+		given(missionRecordReader.read(anyLong(), any(LocalDate.class)))
+			.willReturn(missionRecords);
 
 		//when
 		//then
@@ -4,9 +4,18 @@ import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,16 +38,26 @@ import clofi.runningplanet.member.domain.Gender;
 import clofi.runningplanet.member.domain.Member;
 import clofi.runningplanet.member.repository.MemberRepository;
 import clofi.runningplanet.mission.domain.CrewMission;
-import clofi.runningplanet.mission.domain.MissionType;
 import clofi.runningplanet.mission.dto.response.CrewMissionListDto;
+import clofi.runningplanet.mission.repository.CrewMissionDailyCountRepository;
+import clofi.runningplanet.mission.repository.CrewMissionJdbcRepository;
 import clofi.runningplanet.mission.repository.CrewMissionRepository;
+import clofi.runningplanet.mission.service.CrewMissionCountService;
+import clofi.runningplanet.mission.service.DailyMissionGenerator;
 import clofi.runningplanet.mission.service.MissionService;
+import clofi.runningplanet.mission.domain.vo.TodayRecords;
 import clofi.runningplanet.running.domain.Record;
+import clofi.runningplanet.running.dto.RecordSaveRequest;
+import clofi.runningplanet.running.repository.DailyRecordRepository;
 import clofi.runningplanet.running.repository.RecordRepository;
+import clofi.runningplanet.running.service.RecordService;
 
 @SpringBootTest
 public class MissionServiceIntegrationTest {
 
+	@Autowired
+	private RecordService recordService;
+
 	@Autowired
 	MissionService missionService;
 
@@ -54,15 +73,29 @@ public class MissionServiceIntegrationTest {
 	@Autowired
 	CrewMissionRepository crewMissionRepository;
 
+	@Autowired
+	CrewMissionDailyCountRepository crewMissionDailyCountRepository;
+
+	@Autowired
+	CrewMissionCountService crewMissionCountService;
+
+	@Autowired
+	CrewMissionJdbcRepository crewMissionJdbcRepository;
+
 	@Autowired
 	RecordRepository recordRepository;
 
+	@Autowired
+	DailyRecordRepository dailyRecordRepository;
+
 	@Autowired
 	CrewService crewService;
 
 	@Autowired
 	DataCleaner cleaner;
 
+	// 다른 컨텍스트에서 테이블을 비우면 식별자가 재사용되므로 시작 전에도 데이터와 캐시를 비운다.
+	@BeforeEach
 	@AfterEach
 	void setUp() {
 		cleaner.truncateAllTables();
@@ -87,7 +120,7 @@ public class MissionServiceIntegrationTest {
 		assertSoftly(softly -> {
 			softly.assertThat(result.missions()).hasSize(2)
 				.extracting("missionContent")
-				.containsExactlyInAnyOrder(MissionType.DURATION, MissionType.DISTANCE);
+				.containsExactlyInAnyOrder("DURATION", "DISTANCE");
 
 			softly.assertThat(result.missions())
 				.extracting("missionProgress")
@@ -108,9 +141,9 @@ public class MissionServiceIntegrationTest {
 		Crew crew = createCrew(member);
 		createRecord(member, 1800, 750.0);
 
-		CrewMission mission1 = new CrewMission(member, crew, MissionType.DISTANCE);
+		CrewMission mission1 = new CrewMission(member, crew, "DISTANCE");
 		crewMissionRepository.save(mission1);
-		CrewMission mission2 = new CrewMission(member, crew, MissionType.DURATION);
+		CrewMission mission2 = new CrewMission(member, crew, "DURATION");
 		crewMissionRepository.save(mission2);
 
 		//when
@@ -130,9 +163,9 @@ public class MissionServiceIntegrationTest {
 		Crew crew = createCrew(member);
 		createRecord(member, 3601, 1000);
 
-		CrewMission mission1 = new CrewMission(member, crew, MissionType.DISTANCE);
+		CrewMission mission1 = new CrewMission(member, crew, "DISTANCE");
 		crewMissionRepository.save(mission1);
-		CrewMission mission2 = new CrewMission(member, crew, MissionType.DURATION);
+		CrewMission mission2 = new CrewMission(member, crew, "DURATION");
 		crewMissionRepository.save(mission2);
 
 		//when
@@ -152,15 +185,50 @@ public class MissionServiceIntegrationTest {
 		Crew crew = createCrew(member);
 		createRecord(member, 3600, 1000);
 
-		CrewMission mission1 = new CrewMission(member, crew, MissionType.DISTANCE);
+		CrewMission mission1 = new CrewMission(member, crew, "DISTANCE");
 		Long missionId1 = crewMissionRepository.save(mission1).getId();
-		CrewMission mission2 = new CrewMission(member, crew, MissionType.DURATION);
+		CrewMission mission2 = new CrewMission(member, crew, "DURATION");
 		Long missionId2 = crewMissionRepository.save(mission2).getId();
 
 		//when
 		//then
 		assertDoesNotThrow(() -> missionService.successMission(crew.getId(), missionId1, member.getId()));
 		assertDoesNotThrow(() -> missionService.successMission(crew.getId(), missionId2, member.getId()));
+		assertThat(crewMissionDailyCountRepository.findAllByCrewIdAndMissionDateBetween(crew.getId(),
+			LocalDate.now(), LocalDate.now()))
+			.extracting("completedCnt")
+			.containsExactly(2);
+	}
+
+	@DisplayName("같은 날짜의 미션 완료 수는 동시에 증가해도 누락되지 않는다.")
+	@Test
+	void increaseCompletedCntConcurrently() throws Exception {
+		//given
+		Long crewId = 1L;
+		LocalDate today = LocalDate.now();
+		int threadCnt = 10;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+		CountDownLatch ready = new CountDownLatch(1);
+
+		//when
+		List<Future<?>> results = new ArrayList<>();
+		for (int i = 0; i < threadCnt; i++) {
+			results.add(executorService.submit(() -> {
+				ready.await();
+				crewMissionCountService.increaseCompletedCnt(crewId, today);
+				return null;
+			}));
+		}
+		ready.countDown();
+		for (Future<?> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+		executorService.shutdown();
+
+		//then
+		assertThat(crewMissionDailyCountRepository.findAllByCrewIdAndMissionDateBetween(crewId, today, today))
+			.extracting("completedCnt")
+			.containsExactly(threadCnt);
 	}
 
 	@DisplayName("조건 만족하지 못한 경우 예외 처리")
@@ -171,7 +239,7 @@ public class MissionServiceIntegrationTest {
 		Crew crew = createCrew(member);
 		createRecord(member, 1000, 1000);
 
-		CrewMission mission = new CrewMission(member, crew, MissionType.DURATION);
+		CrewMission mission = new CrewMission(member, crew, "DURATION");
 		Long missionId = crewMissionRepository.save(mission).getId();
 
 		//when
@@ -227,6 +295,102 @@ public class MissionServiceIntegrationTest {
 		});
 	}
 
+	@DisplayName("미션 생성 작업은 청크 단위로 처리되며 다시 실행해도 중복 생성되지 않는다.")
+	@Test
+	void createDailyMissionsByChunk() {
+		//given
+		Member member1 = saveMember1();
+		Member member2 = saveMember1();
+		Member member3 = saveMember1();
+
+		Crew crew = createCrew(member1);
+		crewMemberRepository.save(CrewMember.createMember(crew, member2));
+		crewMemberRepository.save(CrewMember.createMember(crew, member3));
+
+		DailyMissionGenerator dailyMissionGenerator = new DailyMissionGenerator(crewMissionJdbcRepository, 2);
+
+		//when
+		int firstInsertedCnt = dailyMissionGenerator.generate(LocalDate.now());
+		int secondInsertedCnt = dailyMissionGenerator.generate(LocalDate.now());
+
+		//then
+		assertThat(firstInsertedCnt).isEqualTo(6);
+		assertThat(secondInsertedCnt).isZero();
+		assertThat(crewMissionRepository.findAll()).hasSize(6)
+			.extracting("member.id")
+			.containsOnly(member1.getId(), member2.getId(), member3.getId());
+	}
+
+	@DisplayName("오늘의 미션이 없으면 조회 시점에 생성되며 여러 번 조회해도 중복 생성되지 않는다.")
+	@Test
+	void createMissionsOnDemand() {
+		//given
+		Member member = saveMember1();
+		Crew crew = createCrew(member);
+
+		//when
+		CrewMissionListDto first = missionService.getCrewMission(crew.getId(), member.getId());
+		CrewMissionListDto second = missionService.getCrewMission(crew.getId(), member.getId());
+
+		//then
+		assertThat(first.missions()).hasSize(2)
+			.extracting("missionContent")
+			.containsExactlyInAnyOrder("DURATION", "DISTANCE");
+		assertThat(second).isEqualTo(first);
+		assertThat(crewMissionRepository.findAll()).hasSize(2);
+	}
+
+	@DisplayName("오늘의 미션을 동시에 처음 조회해도 모든 요청이 전체 미션을 받고 중복 생성되지 않는다.")
+	@Test
+	void createMissionsOnDemandConcurrently() throws Exception {
+		//given
+		Member member = saveMember1();
+		Crew crew = createCrew(member);
+		int threadCnt = 2;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+		CountDownLatch ready = new CountDownLatch(1);
+
+		//when
+		List<Future<CrewMissionListDto>> results = new ArrayList<>();
+		for (int i = 0; i < threadCnt; i++) {
+			results.add(executorService.submit(() -> {
+				ready.await();
+				return missionService.getCrewMission(crew.getId(), member.getId());
+			}));
+		}
+		ready.countDown();
+		List<CrewMissionListDto> missionLists = new ArrayList<>();
+		for (Future<CrewMissionListDto> result : results) {
+			missionLists.add(result.get(10, TimeUnit.SECONDS));
+		}
+		executorService.shutdown();
+
+		//then
+		assertThat(missionLists).allSatisfy(missionList -> assertThat(missionList.missions())
+			.extracting("missionContent")
+			.containsExactlyInAnyOrder("DURATION", "DISTANCE"));
+		assertThat(crewMissionRepository.findAll()).hasSize(2);
+	}
+
+	@DisplayName("운동 기록을 저장하면 달성한 미션이 자동으로 완료되고 크루 경험치가 오른다.")
+	@Test
+	void completeMissionsBySavingRecord() {
+		//given
+		Member member = saveMember1();
+		Crew crew = createCrew(member);
+		RecordSaveRequest request = new RecordSaveRequest(100.23, 200.23, 600, 1000.0, 300,
+			new RecordSaveRequest.AvgPace(8, 20), true);
+
+		//when
+		recordService.save(request, member.getId());
+
+		//then
+		assertThat(crewMissionRepository.findAll())
+			.extracting("type", "completed")
+			.containsExactlyInAnyOrder(tuple("DISTANCE", true), tuple("DURATION", false));
+		assertThat(crewRepository.findById(crew.getId()).orElseThrow().getCrewExp()).isEqualTo(10);
+	}
+
 	private Member saveMember1() {
 		Member member1 = Member.builder()
 			.nickname("크루장")
@@ -258,5 +422,14 @@ public class MissionServiceIntegrationTest {
 			.isEnd(true)
 			.build();
 		recordRepository.save(record);
+
+		// 기록 저장 API를 거치지 않으므로 일일 집계도 함께 갱신한다.
+		LocalDate today = LocalDate.now();
+		TodayRecords todayRecords = dailyRecordRepository.findByMemberIdAndRecordDate(member.getId(), today)
+			.map(TodayRecords::new)
+			.orElse(TodayRecords.EMPTY)
+			.plus(new TodayRecords(distance, duration, 1));
+		dailyRecordRepository.saveTotals(member.getId(), today, todayRecords.getTotalDistance(),
+			todayRecords.getTotalDuration(), todayRecords.getRunCount(), LocalDateTime.now());
 	}
 }
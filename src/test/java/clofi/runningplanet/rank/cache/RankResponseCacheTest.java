@@ -0,0 +1,134 @@
+package clofi.runningplanet.rank.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import clofi.runningplanet.rank.domain.RankCondition;
+import clofi.runningplanet.rank.domain.RankPeriod;
+import clofi.runningplanet.rank.dto.CrewRankResponse;
+
+class RankResponseCacheTest {
+
+	private final RankResponseCache rankResponseCache = new RankResponseCache(new ObjectMapper(),
+		Duration.ofMinutes(1));
+
+	@DisplayName("랭킹 응답은 JSON 바이트로 캐싱되어 재조회시 조회 로직을 실행하지 않는다.")
+	@Test
+	void cacheSerializedRanking() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		//when
+		byte[] first = rankResponseCache.getCrewRank(RankCondition.DISTANCE, RankPeriod.TOTAL, () -> {
+			loadCount.incrementAndGet();
+			return List.of(new CrewRankResponse(1L, "1등 크루", 10, 100));
+		});
+		byte[] second = rankResponseCache.getCrewRank(RankCondition.DISTANCE, RankPeriod.TOTAL, () -> {
+			loadCount.incrementAndGet();
+			return List.of();
+		});
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(second).isSameAs(first);
+		assertThat(new String(first)).contains("\"crewName\":\"1등 크루\"");
+	}
+
+	@DisplayName("조건, 기간, 날짜가 다르면 별도로 캐싱된다.")
+	@Test
+	void cacheByConditionAndPeriod() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+		LocalDate today = LocalDate.now();
+
+		//when
+		rankResponseCache.getPersonalRank(RankCondition.DISTANCE, RankPeriod.WEEK, today,
+			() -> loadCount.incrementAndGet());
+		rankResponseCache.getPersonalRank(RankCondition.PLANET, RankPeriod.WEEK, today,
+			() -> loadCount.incrementAndGet());
+		rankResponseCache.getPersonalRank(RankCondition.DISTANCE, RankPeriod.TOTAL, today,
+			() -> loadCount.incrementAndGet());
+		rankResponseCache.getPersonalRank(RankCondition.DISTANCE, RankPeriod.WEEK, today.minusDays(1),
+			() -> loadCount.incrementAndGet());
+		rankResponseCache.getCrewRank(RankCondition.DISTANCE, RankPeriod.WEEK, () -> loadCount.incrementAndGet());
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(5);
+	}
+
+	@DisplayName("동시에 캐시 미스가 발생해도 조회 로직은 한 번만 실행된다.")
+	@Test
+	void coalesceConcurrentMiss() throws Exception {
+		//given
+		int threadCount = 8;
+		AtomicInteger loadCount = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		//when
+		List<Future<byte[]>> results = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			results.add(executorService.submit(
+				() -> rankResponseCache.getCrewRank(RankCondition.LEVEL, RankPeriod.TOTAL, () -> {
+					loadCount.incrementAndGet();
+					started.countDown();
+					awaitQuietly(release);
+					return List.of(new CrewRankResponse(1L, "크루", 1, 1));
+				})));
+		}
+		started.await(1, TimeUnit.SECONDS);
+		Thread.sleep(100);
+		release.countDown();
+		executorService.shutdown();
+
+		//then
+		for (Future<byte[]> result : results) {
+			assertThat(result.get(1, TimeUnit.SECONDS)).isNotEmpty();
+		}
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@DisplayName("조회 중 예외가 발생하면 캐싱하지 않고 다음 요청에서 다시 조회한다.")
+	@Test
+	void doNotCacheFailure() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		//when
+		assertThatThrownBy(() -> rankResponseCache.getCrewRank(RankCondition.DISTANCE, RankPeriod.TOTAL, () -> {
+			loadCount.incrementAndGet();
+			throw new IllegalStateException();
+		})).isInstanceOf(IllegalStateException.class);
+		rankResponseCache.getCrewRank(RankCondition.DISTANCE, RankPeriod.TOTAL, () -> {
+			loadCount.incrementAndGet();
+			return List.of();
+		});
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -3,7 +3,6 @@ package clofi.runningplanet.rank.service;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
-import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import clofi.runningplanet.crew.domain.ApprovalType;
 import clofi.runningplanet.crew.domain.Category;
 import clofi.runningplanet.crew.domain.Crew;
@@ -22,8 +24,6 @@ import clofi.runningplanet.planet.domain.MemberPlanet;
 import clofi.runningplanet.planet.domain.Planet;
 import clofi.runningplanet.planet.repository.MemberPlanetRepository;
 import clofi.runningplanet.planet.repository.PlanetRepository;
-import clofi.runningplanet.rank.dto.CrewRankResponse;
-import clofi.runningplanet.rank.dto.PersonalRankResponse;
 import clofi.runningplanet.running.domain.Record;
 import clofi.runningplanet.running.repository.RecordRepository;
 
@@ -42,6 +42,8 @@ class RankServiceTest {
 	private RecordRepository recordRepository;
 	@Autowired
 	private PlanetRepository planetRepository;
+	@Autowired
+	private ObjectMapper objectMapper;
 
 	@AfterEach
 	void tearDown() {
@@ -54,7 +56,7 @@ class RankServiceTest {
 
 	@DisplayName("크루 랭킹을 거리로 조회할 수 있다")
 	@Test
-	void getCrewRankByDistance() {
+	void getCrewRankByDistance() throws Exception {
 		//given
 		Crew firstCrew = new Crew(null, 1L, "1등 크루", 10, Category.RUNNING, ApprovalType.AUTO, "1등 크루", 10, 10, 100, 100,
 			100,
@@ -68,16 +70,16 @@ class RankServiceTest {
 			10);
 		crewRepository.save(thirdCrew);
 		//when
-		List<CrewRankResponse> crewRankList = rankService.getCrewRankList("DISTANCE", "TOTAL");
+		JsonNode crewRankList = objectMapper.readTree(rankService.getCrewRankJson("DISTANCE", "TOTAL"));
 		//then
-		assertThat(crewRankList.get(0).getCrewName()).isEqualTo("1등 크루");
-		assertThat(crewRankList.get(1).getCrewName()).isEqualTo("2등 크루");
-		assertThat(crewRankList.getLast().getCrewName()).isEqualTo("3등 크루");
+		assertThat(crewRankList.get(0).get("crewName").asText()).isEqualTo("1등 크루");
+		assertThat(crewRankList.get(1).get("crewName").asText()).isEqualTo("2등 크루");
+		assertThat(crewRankList.get(crewRankList.size() - 1).get("crewName").asText()).isEqualTo("3등 크루");
 	}
 
 	@DisplayName("크루 랭킹을 레벨로 조회할 수 있다")
 	@Test
-	void getCrewRankByLevel() {
+	void getCrewRankByLevel() throws Exception {
 		//given
 		Crew firstCrew = new Crew(null, 1L, "1등 크루", 10, Category.RUNNING, ApprovalType.AUTO, "1등 크루", 10, 10, 100, 100,
 			100, 10);
@@ -89,17 +91,17 @@ class RankServiceTest {
 			100, 8);
 		crewRepository.save(thirdCrew);
 		//when
-		List<CrewRankResponse> crewRankList = rankService.getCrewRankList("LEVEL", "TOTAL");
+		JsonNode crewRankList = objectMapper.readTree(rankService.getCrewRankJson("LEVEL", "TOTAL"));
 
 		//then
-		assertThat(crewRankList.get(0).getCrewName()).isEqualTo("1등 크루");
-		assertThat(crewRankList.get(1).getCrewName()).isEqualTo("2등 크루");
-		assertThat(crewRankList.getLast().getCrewName()).isEqualTo("3등 크루");
+		assertThat(crewRankList.get(0).get("crewName").asText()).isEqualTo("1등 크루");
+		assertThat(crewRankList.get(1).get("crewName").asText()).isEqualTo("2등 크루");
+		assertThat(crewRankList.get(crewRankList.size() - 1).get("crewName").asText()).isEqualTo("3등 크루");
 	}
 
 	@DisplayName("크루 랭킹을 주간 거리로 조회할 수 있다")
 	@Test
-	void getCrewRankByWeeklyDistance() {
+	void getCrewRankByWeeklyDistance() throws Exception {
 		//given
 		Crew firstCrew = new Crew(null, 1L, "1등 크루", 10, Category.RUNNING, ApprovalType.AUTO, "1등 크루", 10, 10, 100, 100,
 			100, 10);
@@ -111,16 +113,16 @@ class RankServiceTest {
 			100, 8);
 		crewRepository.save(thirdCrew);
 		//when
-		List<CrewRankResponse> crewRankList = rankService.getCrewRankList("DISTANCE", "WEEK");
+		JsonNode crewRankList = objectMapper.readTree(rankService.getCrewRankJson("DISTANCE", "WEEK"));
 		//then
-		assertThat(crewRankList.get(0).getCrewName()).isEqualTo("1등 크루");
-		assertThat(crewRankList.get(1).getCrewName()).isEqualTo("2등 크루");
-		assertThat(crewRankList.getLast().getCrewName()).isEqualTo("3등 크루");
+		assertThat(crewRankList.get(0).get("crewName").asText()).isEqualTo("1등 크루");
+		assertThat(crewRankList.get(1).get("crewName").asText()).isEqualTo("2등 크루");
+		assertThat(crewRankList.get(crewRankList.size() - 1).get("crewName").asText()).isEqualTo("3등 크루");
 	}
 
 	@DisplayName("전체 기간에서 거리로 개인 랭킹 조회를 할 수 있다.")
 	@Test
-	void getPersonalRank() {
+	void getPersonalRank() throws Exception {
 		//given
 		Member member = memberRepository.save(new Member(null, "1등", Gender.FEMALE, 10, 40, "테스트", 10, 10, 10, 40));
 		Member secondMember = memberRepository.save(
@@ -134,17 +136,17 @@ class RankServiceTest {
 		recordRepository.save(createRecord(member, 10, 20.0, 10, 10, true));
 		recordRepository.save(createRecord(secondMember, 10, 10.0, 10, 10, true));
 		//when
-		List<PersonalRankResponse> personalRankList = rankService.getPersonalRankList("DISTANCE", "TOTAL",
-			LocalDate.now());
+		JsonNode personalRankList = objectMapper.readTree(
+			rankService.getPersonalRankJson("DISTANCE", "TOTAL", LocalDate.now()));
 		//then
-		assertThat(personalRankList.getFirst().getNickname()).isEqualTo("1등");
-		assertThat(personalRankList.getFirst().getPlanetCnt()).isEqualTo(2);
-		assertThat(personalRankList.getFirst().getDistance()).isEqualTo(40);
+		assertThat(personalRankList.get(0).get("nickname").asText()).isEqualTo("1등");
+		assertThat(personalRankList.get(0).get("planetCnt").asInt()).isEqualTo(2);
+		assertThat(personalRankList.get(0).get("distance").asInt()).isEqualTo(40);
 	}
 
 	@DisplayName("전체 기간의 행성의 수를 개인 랭킹 조회를 할 수 있다.")
 	@Test
-	void getPersonalRankWeek() {
+	void getPersonalRankWeek() throws Exception {
 		//given
 		Member member = memberRepository.save(new Member(null, "1등", Gender.FEMALE, 10, 40, "테스트", 10, 10, 10, 40));
 		Member secondMember = memberRepository.save(
@@ -158,17 +160,17 @@ class RankServiceTest {
 		recordRepository.save(createRecord(member, 10, 20.0, 10, 10, true));
 		recordRepository.save(createRecord(secondMember, 10, 10.0, 10, 10, true));
 		//when
-		List<PersonalRankResponse> personalRankList = rankService.getPersonalRankList("PLANET", "TOTAL",
-			LocalDate.now());
+		JsonNode personalRankList = objectMapper.readTree(
+			rankService.getPersonalRankJson("PLANET", "TOTAL", LocalDate.now()));
 		//then
-		assertThat(personalRankList.getFirst().getNickname()).isEqualTo("1등");
-		assertThat(personalRankList.getFirst().getPlanetCnt()).isEqualTo(2);
-		assertThat(personalRankList.getFirst().getDistance()).isEqualTo(40);
+		assertThat(personalRankList.get(0).get("nickname").asText()).isEqualTo("1등");
+		assertThat(personalRankList.get(0).get("planetCnt").asInt()).isEqualTo(2);
+		assertThat(personalRankList.get(0).get("distance").asInt()).isEqualTo(40);
 	}
 
 	@DisplayName("한 주의 행성읠 수로 개인 랭킹을 조회 할 수 있다.")
 	@Test
-	void getPersonalRankByWeekPlanet() {
+	void getPersonalRankByWeekPlanet() throws Exception {
 		//given
 		Member member = memberRepository.save(new Member(null, "1등", Gender.FEMALE, 10, 40, "테스트", 10, 10, 10, 40));
 		Member secondMember = memberRepository.save(
@@ -182,17 +184,17 @@ class RankServiceTest {
 		recordRepository.save(createRecord(member, 10, 20.0, 10, 10, true));
 		recordRepository.save(createRecord(secondMember, 10, 10.0, 10, 10, true));
 		//when
-		List<PersonalRankResponse> personalRankList = rankService.getPersonalRankList("PLANET", "WEEK",
-			LocalDate.now());
+		JsonNode personalRankList = objectMapper.readTree(
+			rankService.getPersonalRankJson("PLANET", "WEEK", LocalDate.now()));
 		//then
-		assertThat(personalRankList.getFirst().getNickname()).isEqualTo("1등");
-		assertThat(personalRankList.getFirst().getPlanetCnt()).isEqualTo(2);
+		assertThat(personalRankList.get(0).get("nickname").asText()).isEqualTo("1등");
+		assertThat(personalRankList.get(0).get("planetCnt").asInt()).isEqualTo(2);
 
 	}
 
 	@DisplayName("한 주의 운동 거리 주간 조회를 할 수 있다.")
 	@Test
-	void getPersonalRankByWeekDistance() {
+	void getPersonalRankByWeekDistance() throws Exception {
 		//given
 		Member member = memberRepository.save(new Member(null, "1등", Gender.FEMALE, 10, 40, "테스트", 10, 10, 10, 40));
 		Member secondMember = memberRepository.save(
@@ -206,12 +208,27 @@ class RankServiceTest {
 		recordRepository.save(createRecord(member, 10, 20.0, 10, 10, true));
 		recordRepository.save(createRecord(secondMember, 10, 10.0, 10, 10, true));
 		//when
-		List<PersonalRankResponse> personalRankList = rankService.getPersonalRankList("DISTANCE", "WEEK",
-			LocalDate.now());
+		JsonNode personalRankList = objectMapper.readTree(
+			rankService.getPersonalRankJson("DISTANCE", "WEEK", LocalDate.now()));
+		//then
+		assertThat(personalRankList.get(0).get("nickname").asText()).isEqualTo("1등");
+		assertThat(personalRankList.get(0).get("planetCnt").asInt()).isEqualTo(2);
+		assertThat(personalRankList.get(0).get("distance").asInt()).isEqualTo(30);
+	}
+
+	@DisplayName("대소문자나 공백만 다른 조건과 기간은 같은 캐시 응답을 사용한다.")
+	@Test
+	void normalizeRankCacheKey() {
+		//given
+		crewRepository.save(new Crew(null, 1L, "크루", 10, Category.RUNNING, ApprovalType.AUTO, "크루", 10, 10, 100, 100,
+			100, 10));
+
+		//when
+		byte[] first = rankService.getCrewRankJson("LEVEL", "WEEK");
+		byte[] second = rankService.getCrewRankJson(" level", "Week ");
+
 		//then
-		assertThat(personalRankList.getFirst().getNickname()).isEqualTo("1등");
-		assertThat(personalRankList.getFirst().getPlanetCnt()).isEqualTo(2);
-		assertThat(personalRankList.getFirst().getDistance()).isEqualTo(30);
+		assertThat(second).isSameAs(first);
 	}
 
 	private Record createRecord(Member member, int avgPace, double runDistance, int runTime, int calories,
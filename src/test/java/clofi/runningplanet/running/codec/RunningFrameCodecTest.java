@@ -0,0 +1,55 @@
+package clofi.runningplanet.running.codec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import clofi.runningplanet.running.dto.CheerResponse;
+import clofi.runningplanet.running.dto.RunningStatusResponse;
+
+class RunningFrameCodecTest {
+
+	@DisplayName("러닝 현황은 고정 길이 필드와 UTF-8 닉네임으로 인코딩된다.")
+	@Test
+	void encodeRunningStatus() {
+		//given
+		RunningStatusResponse response = new RunningStatusResponse(7L, "거북이🐢", 1800, 5.25, true);
+
+		//when
+		ByteBuffer frame = ByteBuffer.wrap(RunningFrameCodec.encode(response));
+
+		//then
+		assertThat(frame.get()).isEqualTo(RunningFrameCodec.RUNNING_STATUS);
+		assertThat(frame.get()).isEqualTo(RunningFrameCodec.VERSION);
+		assertThat(frame.getLong()).isEqualTo(7L);
+		assertThat(frame.getInt()).isEqualTo(1800);
+		assertThat(frame.getDouble()).isEqualTo(5.25);
+		assertThat(frame.get()).isEqualTo((byte)1);
+		assertThat(readNickname(frame)).isEqualTo("거북이🐢");
+		assertThat(frame.hasRemaining()).isFalse();
+	}
+
+	@DisplayName("응원은 보낸 회원 id와 닉네임으로 인코딩된다.")
+	@Test
+	void encodeCheer() {
+		//when
+		ByteBuffer frame = ByteBuffer.wrap(RunningFrameCodec.encode(new CheerResponse(3L, "rabbit")));
+
+		//then
+		assertThat(frame.get()).isEqualTo(RunningFrameCodec.CHEER);
+		assertThat(frame.get()).isEqualTo(RunningFrameCodec.VERSION);
+		assertThat(frame.getLong()).isEqualTo(3L);
+		assertThat(readNickname(frame)).isEqualTo("rabbit");
+		assertThat(frame.hasRemaining()).isFalse();
+	}
+
+	private String readNickname(ByteBuffer frame) {
+		byte[] nickname = new byte[frame.getShort()];
+		frame.get(nickname);
+		return new String(nickname, StandardCharsets.UTF_8);
+	}
+}
@@ -34,7 +34,9 @@ import clofi.runningplanet.running.dto.RecordFindCurrentResponse;
 import clofi.runningplanet.running.dto.RecordFindResponse;
 import clofi.runningplanet.running.dto.RecordSaveRequest;
 import clofi.runningplanet.running.dto.RunningStatusFindAllResponse;
+import clofi.runningplanet.running.domain.DailyRecord;
 import clofi.runningplanet.running.repository.CoordinateRepository;
+import clofi.runningplanet.running.repository.DailyRecordRepository;
 import clofi.runningplanet.running.repository.RecordRepository;
 
 @SpringBootTest
@@ -48,6 +50,9 @@ class RecordServiceTest {
 	@Autowired
 	CoordinateRepository coordinateRepository;
 
+	@Autowired
+	DailyRecordRepository dailyRecordRepository;
+
 	@Autowired
 	MemberRepository memberRepository;
 
@@ -69,6 +74,7 @@ class RecordServiceTest {
 		crewRepository.deleteAllInBatch();
 		coordinateRepository.deleteAllInBatch();
 		recordRepository.deleteAllInBatch();
+		dailyRecordRepository.deleteAllInBatch();
 		memberRepository.deleteAllInBatch();
 		auditingHandler.setDateTimeProvider(null);
 	}
@@ -107,6 +113,28 @@ class RecordServiceTest {
 			.contains(100.23, 200.23);
 	}
 
+	@DisplayName("운동 기록을 저장하면 오늘의 일일 집계를 다시 계산한 합계로 갱신한다.")
+	@Test
+	void saveDailyRecordTotals() {
+		// given
+		Member member = memberRepository.save(createMember("감자"));
+		RecordSaveRequest running = new RecordSaveRequest(100.23, 200.23, 600, 1000.0, 300,
+			new RecordSaveRequest.AvgPace(8, 20), false);
+		RecordSaveRequest end = new RecordSaveRequest(100.24, 200.24, 900, 1500.0, 400,
+			new RecordSaveRequest.AvgPace(8, 20), true);
+
+		// when
+		recordService.save(running, member.getId());
+		recordService.save(end, member.getId());
+
+		// then
+		DailyRecord dailyRecord = dailyRecordRepository.findByMemberIdAndRecordDate(member.getId(), LocalDate.now())
+			.orElseThrow();
+		assertThat(dailyRecord)
+			.extracting("totalDistance", "totalDuration", "runCount")
+			.containsExactly(1500.0, 900, 1);
+	}
+
 	@DisplayName("종료되지 않은 기록을 업데이트하고, 좌표를 추가할 수 있다.")
 	@Test
 	void updateRecordAndAddCoordinate() {
@@ -0,0 +1,79 @@
+package clofi.runningplanet.running.service;
+
+import static org.mockito.AdditionalMatchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import clofi.runningplanet.running.codec.RunningFrameCodec;
+import clofi.runningplanet.running.dto.CheerResponse;
+import clofi.runningplanet.running.dto.RunningStatusResponse;
+import clofi.runningplanet.socket.presence.CrewPresenceRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RunningFramePublisherTest {
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	@Mock
+	private CrewPresenceRegistry crewPresenceRegistry;
+
+	@InjectMocks
+	private RunningFramePublisher runningFramePublisher;
+
+	@DisplayName("러닝 현황은 JSON 목적지와 바이너리 목적지로 각각 한 번씩 전송된다.")
+	@Test
+	void sendRunningStatus() {
+		//given
+		RunningStatusResponse response = new RunningStatusResponse(7L, "turtle", 1800, 5.25, false);
+		given(crewPresenceRegistry.hasSubscribers(anyString())).willReturn(true);
+
+		//when
+		runningFramePublisher.sendRunningStatus(1L, response);
+
+		//then
+		then(messagingTemplate).should().convertAndSend("/sub/crew/1/running", response);
+		then(messagingTemplate).should()
+			.convertAndSend(eq("/sub/crew/1/running/binary"), aryEq(RunningFrameCodec.encode(response)));
+	}
+
+	@DisplayName("응원은 받는 회원 id를 사용자 이름으로 전송된다.")
+	@Test
+	void sendCheer() {
+		//given
+		CheerResponse response = new CheerResponse(3L, "rabbit");
+		given(crewPresenceRegistry.hasUserSubscribers(eq(7L), anyString())).willReturn(true);
+
+		//when
+		runningFramePublisher.sendCheer(7L, 1L, response);
+
+		//then
+		then(messagingTemplate).should().convertAndSendToUser("7", "/sub/crew/1/cheer", response);
+		then(messagingTemplate).should()
+			.convertAndSendToUser(eq("7"), eq("/sub/crew/1/cheer/binary"), aryEq(RunningFrameCodec.encode(response)));
+	}
+
+	@DisplayName("구독자가 없는 형식은 인코딩하거나 전송하지 않는다.")
+	@Test
+	void skipWithoutSubscribers() {
+		//given
+		RunningStatusResponse response = new RunningStatusResponse(7L, "turtle", 1800, 5.25, false);
+		given(crewPresenceRegistry.hasSubscribers("/sub/crew/1/running")).willReturn(true);
+		given(crewPresenceRegistry.hasSubscribers("/sub/crew/1/running/binary")).willReturn(false);
+
+		//when
+		runningFramePublisher.sendRunningStatus(1L, response);
+
+		//then
+		then(messagingTemplate).should().convertAndSend("/sub/crew/1/running", response);
+		then(messagingTemplate).shouldHaveNoMoreInteractions();
+	}
+}
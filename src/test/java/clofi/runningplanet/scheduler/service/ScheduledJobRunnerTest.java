@@ -0,0 +1,121 @@
+package clofi.runningplanet.scheduler.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import clofi.runningplanet.common.DataCleaner;
+import clofi.runningplanet.scheduler.domain.JobRun;
+import clofi.runningplanet.scheduler.domain.JobStatus;
+import clofi.runningplanet.scheduler.repository.JobRunRepository;
+import clofi.runningplanet.scheduler.repository.SchedulerLockRepository;
+
+@SpringBootTest
+class ScheduledJobRunnerTest {
+	private static final String JOB_NAME = "test-job";
+	private static final Duration LEASE_TIME = Duration.ofMinutes(10);
+
+	@Autowired
+	private ScheduledJobRunner scheduledJobRunner;
+
+	@Autowired
+	private LeaseLockManager leaseLockManager;
+
+	@Autowired
+	private SchedulerLockRepository schedulerLockRepository;
+
+	@Autowired
+	private JobRunRepository jobRunRepository;
+
+	@Autowired
+	private DataCleaner cleaner;
+
+	@AfterEach
+	void tearDown() {
+		cleaner.truncateAllTables();
+	}
+
+	@DisplayName("다른 인스턴스가 잠금을 가지고 있으면 잠금을 얻을 수 없고, 해제되거나 DB 시각 기준으로 만료되면 얻을 수 있다.")
+	@Test
+	void acquireLeaseLock() {
+		//given
+		LeaseLockManager node1 = createNode("node-1");
+		LeaseLockManager node2 = createNode("node-2");
+
+		//when
+		//then
+		assertThat(node1.tryAcquire(JOB_NAME, LEASE_TIME)).isTrue();
+		assertThat(node2.tryAcquire(JOB_NAME, LEASE_TIME)).isFalse();
+
+		node1.release(JOB_NAME);
+		assertThat(node2.tryAcquire(JOB_NAME, Duration.ZERO)).isTrue();
+		assertThat(node1.extend(JOB_NAME, LEASE_TIME)).isFalse();
+		assertThat(node1.tryAcquire(JOB_NAME, LEASE_TIME)).isTrue();
+		assertThat(node2.extend(JOB_NAME, LEASE_TIME)).isFalse();
+	}
+
+	@DisplayName("다른 인스턴스가 잠금을 가지고 있으면 작업을 실행하지 않는다.")
+	@Test
+	void skipWhenLocked() {
+		//given
+		AtomicInteger runCnt = new AtomicInteger();
+		createNode("other-node").tryAcquire(JOB_NAME, LEASE_TIME);
+
+		//when
+		scheduledJobRunner.run(JOB_NAME, LocalDate.now(), LEASE_TIME, checkpoint -> runCnt.incrementAndGet());
+
+		//then
+		assertThat(runCnt.get()).isZero();
+		assertThat(jobRunRepository.findAll()).isEmpty();
+	}
+
+	@DisplayName("실패한 작업은 마지막 체크포인트부터 다시 실행되고, 완료된 작업은 다시 실행되지 않는다.")
+	@Test
+	void resumeFromCheckpoint() {
+		//given
+		LocalDate runDate = LocalDate.now();
+		List<Long> processedIds = new ArrayList<>();
+		scheduledJobRunner.run(JOB_NAME, runDate, LEASE_TIME, checkpoint -> {
+			processChunk(checkpoint, processedIds, 1L);
+			processChunk(checkpoint, processedIds, 2L);
+			throw new IllegalStateException("chunk 3 failed");
+		});
+
+		//when
+		List<Long> resumedFrom = new ArrayList<>();
+		scheduledJobRunner.run(JOB_NAME, runDate, LEASE_TIME, checkpoint -> {
+			resumedFrom.add(checkpoint.lastProcessedId());
+			processChunk(checkpoint, processedIds, 3L);
+		});
+		scheduledJobRunner.run(JOB_NAME, runDate, LEASE_TIME, checkpoint -> processedIds.add(-1L));
+
+		//then
+		JobRun jobRun = jobRunRepository.findByJobNameAndRunDate(JOB_NAME, runDate).orElseThrow();
+		assertThat(resumedFrom).containsExactly(2L);
+		assertThat(processedIds).containsExactly(1L, 2L, 3L);
+		assertThat(jobRun.getStatus()).isEqualTo(JobStatus.COMPLETED);
+		assertThat(jobRun.getAttemptCnt()).isEqualTo(2);
+		assertThat(jobRun.getCheckpoint()).isEqualTo(3L);
+		assertThat(jobRun.getProcessedCnt()).isEqualTo(3);
+		assertThat(leaseLockManager.tryAcquire(JOB_NAME, LEASE_TIME)).isTrue();
+	}
+
+	private void processChunk(JobCheckpoint checkpoint, List<Long> processedIds, long id) {
+		processedIds.add(id);
+		checkpoint.save(id, processedIds.size());
+	}
+
+	private LeaseLockManager createNode(String instanceId) {
+		return new LeaseLockManager(schedulerLockRepository, instanceId);
+	}
+}
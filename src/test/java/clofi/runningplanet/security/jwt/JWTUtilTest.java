@@ -0,0 +1,55 @@
+package clofi.runningplanet.security.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JWTUtilTest {
+	private static final String SECRET = "Y2xvZmktcnVubmluZy1wbGFuZXQtdGVzdC1zZWNyZXQta2V5LTI1Ni1iaXRz";
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final JWTUtil jwtUtil = new JWTUtil(SECRET, 100, meterRegistry);
+
+	@DisplayName("검증된 토큰은 캐싱되어 재검증 없이 클레임을 반환한다.")
+	@Test
+	void cacheVerifiedToken() {
+		//given
+		String token = jwtUtil.createAccessToken(1L, "family", Duration.ofMinutes(1));
+
+		//when
+		Claims first = jwtUtil.verify(token);
+		Long userId = jwtUtil.getUserId(token);
+		boolean expired = jwtUtil.isExpired(token);
+
+		//then
+		assertThat(first.get("userId", Long.class)).isEqualTo(1L);
+		assertThat(userId).isEqualTo(1L);
+		assertThat(expired).isFalse();
+		assertThat(jwtUtil.getFamilyId(first)).isEqualTo("family");
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(2);
+	}
+
+	@DisplayName("만료되었거나 서명이 다른 토큰은 검증에 실패한다.")
+	@Test
+	void rejectInvalidToken() {
+		//given
+		String expiredToken = jwtUtil.createAccessToken(1L, "family", Duration.ofSeconds(-1));
+		String otherToken = new JWTUtil("b3RoZXItcnVubmluZy1wbGFuZXQtdGVzdC1zZWNyZXQta2V5LTI1Ni1iaXRz", 100,
+			new SimpleMeterRegistry()).createAccessToken(1L, "family", Duration.ofMinutes(1));
+
+		//when
+		//then
+		assertThatThrownBy(() -> jwtUtil.verify(expiredToken)).isInstanceOf(ExpiredJwtException.class);
+		assertThatThrownBy(() -> jwtUtil.verify(otherToken)).isInstanceOf(JwtException.class);
+	}
+}
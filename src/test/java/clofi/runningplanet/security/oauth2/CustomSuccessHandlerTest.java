@@ -0,0 +1,47 @@
+package clofi.runningplanet.security.oauth2;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import clofi.runningplanet.auth.cookie.RefreshTokenCookieManager;
+import clofi.runningplanet.auth.service.RefreshTokenService;
+import clofi.runningplanet.member.domain.Gender;
+import clofi.runningplanet.member.domain.Member;
+import clofi.runningplanet.member.dto.CustomOAuth2User;
+import clofi.runningplanet.security.jwt.JwtToken;
+
+class CustomSuccessHandlerTest {
+
+	private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+	private final CustomSuccessHandler customSuccessHandler = new CustomSuccessHandler(refreshTokenService,
+		new RefreshTokenCookieManager(Duration.ofDays(14), "None"));
+
+	@DisplayName("로그인에 성공하면 리프레시 토큰은 HttpOnly 쿠키로 전달하고 리다이렉트 URL에는 포함하지 않는다.")
+	@Test
+	void deliverRefreshTokenByCookie() throws Exception {
+		//given
+		customSuccessHandler.REDIRECT_URL = "https://runple.site/login";
+		Member member = new Member(1L, "turtle", Gender.MALE, 20, 100, "profileImg1", 10, 300, 250, 1000);
+		given(refreshTokenService.issue(1L)).willReturn(new JwtToken("access", "refresh"));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		customSuccessHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response,
+			new TestingAuthenticationToken(new CustomOAuth2User(member), null));
+
+		//then
+		assertThat(response.getRedirectedUrl()).isEqualTo("https://runple.site/login?Authorization=access");
+		assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+			.startsWith("refreshToken=refresh;")
+			.contains("Path=/api/auth", "Max-Age=1209600", "Secure", "HttpOnly", "SameSite=None");
+	}
+}
@@ -0,0 +1,109 @@
+package clofi.runningplanet.socket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SocketMetricsTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ThreadPoolTaskExecutor inboundExecutor = createExecutor();
+	private final ThreadPoolTaskExecutor outboundExecutor = createExecutor();
+
+	@AfterEach
+	void tearDown() {
+		inboundExecutor.shutdown();
+		outboundExecutor.shutdown();
+	}
+
+	@DisplayName("채널별 대기 작업 수와 활성 세션 수를 게이지로 기록한다.")
+	@Test
+	void bindGauges() throws Exception {
+		//given
+		SubProtocolWebSocketHandler webSocketHandler = mock(SubProtocolWebSocketHandler.class);
+		SubProtocolWebSocketHandler.Stats stats = mock(SubProtocolWebSocketHandler.Stats.class);
+		given(webSocketHandler.getStats()).willReturn(stats);
+		given(stats.getWebSocketSessions()).willReturn(3);
+		new SocketMetrics(inboundExecutor, outboundExecutor, webSocketHandler).bindTo(meterRegistry);
+
+		CountDownLatch release = new CountDownLatch(1);
+		inboundExecutor.execute(() -> awaitQuietly(release));
+		inboundExecutor.execute(() -> awaitQuietly(release));
+
+		//when
+		double queued = meterRegistry.get("websocket.channel.queued").tag("channel", "inbound").gauge().value();
+		double outboundQueued = meterRegistry.get("websocket.channel.queued").tag("channel", "outbound").gauge()
+			.value();
+		double sessions = meterRegistry.get("websocket.sessions.active").gauge().value();
+		release.countDown();
+
+		//then
+		assertThat(queued).isEqualTo(1);
+		assertThat(outboundQueued).isZero();
+		assertThat(sessions).isEqualTo(3);
+	}
+
+	@DisplayName("가상 스레드 채널은 실행 중인 작업 수와 동시 처리 제한으로 기다리는 제출 수를 기록한다.")
+	@Test
+	void bindVirtualThreadGauges() throws Exception {
+		//given
+		VirtualThreadChannelExecutor virtualExecutor = new VirtualThreadChannelExecutor("test-", 1);
+		new SocketMetrics(virtualExecutor, outboundExecutor, mock(SubProtocolWebSocketHandler.class))
+			.bindTo(meterRegistry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		virtualExecutor.execute(() -> {
+			started.countDown();
+			awaitQuietly(release);
+		});
+		started.await(1, TimeUnit.SECONDS);
+		Thread waiting = Thread.ofVirtual().start(() -> virtualExecutor.execute(() -> {
+		}));
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+		while (virtualExecutor.getWaitingCount() == 0 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+
+		//when
+		double active = meterRegistry.get("websocket.channel.active").tag("channel", "inbound").gauge().value();
+		double queued = meterRegistry.get("websocket.channel.queued").tag("channel", "inbound").gauge().value();
+		double limit = meterRegistry.get("websocket.channel.concurrency-limit").tag("channel", "inbound").gauge()
+			.value();
+		release.countDown();
+		waiting.join(1000);
+
+		//then
+		assertThat(active).isEqualTo(1);
+		assertThat(queued).isEqualTo(1);
+		assertThat(limit).isEqualTo(1);
+		assertThat(meterRegistry.get("websocket.channel.throttle-wait").tag("channel", "inbound").functionTimer()
+			.count()).isEqualTo(2);
+	}
+
+	private ThreadPoolTaskExecutor createExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.initialize();
+		return executor;
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package clofi.runningplanet.socket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SocketTelemetryTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SocketTelemetry socketTelemetry = new SocketTelemetry(meterRegistry, 1.0, 1);
+	private final MessageChannel channel = mock(MessageChannel.class);
+	private final MessageHandler handler = mock(MessageHandler.class);
+
+	@DisplayName("수신 프레임은 숫자 경로를 묶은 목적지와 명령별로 집계되고 처리 시간이 기록된다.")
+	@Test
+	void recordFrames() {
+		//given
+		Message<byte[]> crew1 = createMessage(StompCommand.SEND, "/pub/crew/1/chat");
+		Message<byte[]> crew2 = createMessage(StompCommand.SEND, "/pub/crew/2/chat");
+
+		//when
+		Message<?> sent1 = socketTelemetry.preSend(crew1, channel);
+		Message<?> sent2 = socketTelemetry.preSend(crew2, channel);
+		socketTelemetry.afterMessageHandled(sent1, channel, handler, null);
+		socketTelemetry.afterMessageHandled(sent2, channel, handler, null);
+
+		//then
+		assertThat(meterRegistry.get("websocket.inbound.frames")
+			.tag("command", "SEND").tag("destination", "/pub/crew/{id}/chat")
+			.counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("websocket.inbound.latency")
+			.tag("command", "SEND").tag("destination", "/pub/crew/{id}/chat")
+			.timer().count()).isEqualTo(2);
+	}
+
+	@DisplayName("알려지지 않은 목적지는 other로 묶어서 집계한다.")
+	@Test
+	void groupUnknownDestinations() {
+		//given
+		Message<byte[]> unknown1 = createMessage(StompCommand.SUBSCRIBE, "/sub/crew/1/abc");
+		Message<byte[]> unknown2 = createMessage(StompCommand.SUBSCRIBE, "/sub/random-" + System.nanoTime());
+
+		//when
+		socketTelemetry.preSend(unknown1, channel);
+		socketTelemetry.preSend(unknown2, channel);
+
+		//then
+		assertThat(meterRegistry.find("websocket.inbound.frames").counters()).hasSize(1);
+		assertThat(meterRegistry.get("websocket.inbound.frames")
+			.tag("command", "SUBSCRIBE").tag("destination", "other")
+			.counter().count()).isEqualTo(2);
+	}
+
+	@DisplayName("회원 목적지와 바이너리 목적지 구독도 템플릿별로 집계한다.")
+	@Test
+	void recordPublishedSubscriptions() {
+		//given
+		List<String> destinations = List.of("/user/sub/crew/1/cheer", "/user/sub/crew/1/cheer/binary",
+			"/sub/crew/1/running/binary", "/user/sub/crew/1/mission");
+
+		//when
+		destinations.forEach(destination ->
+			socketTelemetry.preSend(createMessage(StompCommand.SUBSCRIBE, destination), channel));
+
+		//then
+		assertThat(meterRegistry.find("websocket.inbound.frames").counters())
+			.extracting(counter -> counter.getId().getTag("destination"))
+			.containsExactlyInAnyOrder("/user/sub/crew/{id}/cheer", "/user/sub/crew/{id}/cheer/binary",
+				"/sub/crew/{id}/running/binary", "/user/sub/crew/{id}/mission");
+	}
+
+	@DisplayName("변경할 수 없는 메시지에 수신 시각을 붙여도 STOMP 헤더 접근자를 유지한다.")
+	@Test
+	void keepAccessorOfImmutableMessage() {
+		//given
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+		accessor.setSessionId("session");
+		Message<byte[]> disconnect = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+		//when
+		Message<?> result = socketTelemetry.preSend(disconnect, channel);
+
+		//then
+		StompHeaderAccessor resultAccessor = MessageHeaderAccessor.getAccessor(result, StompHeaderAccessor.class);
+		assertThat(resultAccessor).isNotNull();
+		assertThat(resultAccessor.getSessionId()).isEqualTo("session");
+		assertThat(result.getHeaders()).containsKey("socketReceivedAt");
+	}
+
+	@DisplayName("하트비트 프레임은 집계하지 않는다.")
+	@Test
+	void ignoreHeartbeat() {
+		//given
+		StompHeaderAccessor accessor = StompHeaderAccessor.createForHeartbeat();
+		Message<byte[]> heartbeat = MessageBuilder.createMessage(new byte[] {'\n'}, accessor.getMessageHeaders());
+
+		//when
+		socketTelemetry.preSend(heartbeat, channel);
+
+		//then
+		assertThat(meterRegistry.find("websocket.inbound.frames").counters()).isEmpty();
+	}
+
+	private Message<byte[]> createMessage(StompCommand command, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		accessor.setDestination(destination);
+		accessor.setSessionId("session");
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage("hi".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+	}
+}
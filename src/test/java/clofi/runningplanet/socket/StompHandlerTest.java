@@ -0,0 +1,113 @@
+package clofi.runningplanet.socket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import clofi.runningplanet.auth.cache.TokenRevocationFilter;
+import clofi.runningplanet.common.exception.ForbiddenException;
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
+import clofi.runningplanet.member.domain.CustomUser;
+import clofi.runningplanet.security.jwt.JWTUtil;
+import io.jsonwebtoken.Claims;
+
+@ExtendWith(MockitoExtension.class)
+class StompHandlerTest {
+
+	@Mock
+	private JWTUtil jwtUtil;
+
+	@Mock
+	private TokenRevocationFilter tokenRevocationFilter;
+
+	@Mock
+	private CrewMembershipCache crewMembershipCache;
+
+	@Mock
+	private MessageChannel channel;
+
+	@InjectMocks
+	private StompHandler stompHandler;
+
+	@DisplayName("연결하면 메시지의 헤더 접근자에 인증된 사용자를 설정한다.")
+	@Test
+	void connectSetsUser() {
+		//given
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+		accessor.setNativeHeader("Authorization", "Bearer token");
+		accessor.setLeaveMutable(true);
+		Message<byte[]> connect = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+		Claims claims = mock(Claims.class);
+		given(jwtUtil.extractToken("Bearer token")).willReturn("token");
+		given(jwtUtil.verify("token")).willReturn(claims);
+		given(jwtUtil.getFamilyId(claims)).willReturn("family");
+		given(claims.get("userId", Long.class)).willReturn(1L);
+
+		//when
+		stompHandler.preSend(connect, channel);
+
+		//then
+		assertThat(accessor.getUser()).isNotNull();
+		assertThat(accessor.getUser().getName()).isEqualTo("1");
+	}
+
+	@DisplayName("크루원은 크루 목적지를 구독할 수 있다.")
+	@Test
+	void subscribeCrewDestination() {
+		//given
+		Message<byte[]> subscribe = createSubscribe(1L, "/sub/crew/10/chat");
+		given(crewMembershipCache.isMember(10L, 1L)).willReturn(true);
+
+		//when
+		Message<?> result = stompHandler.preSend(subscribe, channel);
+
+		//then
+		assertThat(result).isSameAs(subscribe);
+	}
+
+	@DisplayName("크루원이 아니면 크루 목적지와 크루 사용자 목적지를 구독할 수 없다.")
+	@Test
+	void rejectSubscribeByNonMember() {
+		//given
+		given(crewMembershipCache.isMember(10L, 2L)).willReturn(false);
+
+		//when
+		//then
+		assertThatThrownBy(() -> stompHandler.preSend(createSubscribe(2L, "/sub/crew/10/running"), channel))
+			.isInstanceOf(ForbiddenException.class);
+		assertThatThrownBy(() -> stompHandler.preSend(createSubscribe(2L, "/user/sub/crew/10/mission"), channel))
+			.isInstanceOf(ForbiddenException.class);
+	}
+
+	@DisplayName("크루 목적지가 아니면 크루원 여부를 확인하지 않는다.")
+	@Test
+	void subscribeOtherDestination() {
+		//when
+		stompHandler.preSend(createSubscribe(2L, "/sub/notice"), channel);
+
+		//then
+		then(crewMembershipCache).shouldHaveNoInteractions();
+	}
+
+	private Message<byte[]> createSubscribe(Long memberId, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setDestination(destination);
+		accessor.setSubscriptionId("sub-0");
+		accessor.setSessionId("session");
+		CustomUser user = new CustomUser(memberId);
+		accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
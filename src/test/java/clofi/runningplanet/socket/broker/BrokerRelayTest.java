@@ -0,0 +1,152 @@
+package clofi.runningplanet.socket.broker;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import clofi.runningplanet.crew.cache.CrewMembershipCache;
+import clofi.runningplanet.security.jwt.JWTUtil;
+import clofi.runningplanet.socket.CrewDestination;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext
+class BrokerRelayTest {
+	private static final EmbeddedStompBroker broker = EmbeddedStompBroker.start();
+	private static final long MEMBER_ID = 7L;
+	private static final long CREW_ID = 1L;
+
+	@LocalServerPort
+	int port;
+
+	@Autowired
+	JWTUtil jwtUtil;
+
+	@Autowired
+	SimpMessagingTemplate messagingTemplate;
+
+	@Autowired
+	StompBrokerRelayMessageHandler brokerRelay;
+
+	@MockBean
+	CrewMembershipCache crewMembershipCache;
+
+	WebSocketStompClient stompClient;
+
+	StompSession session;
+
+	@DynamicPropertySource
+	static void relayProperties(DynamicPropertyRegistry registry) {
+		registry.add("socket.broker.mode", () -> "relay");
+		registry.add("socket.broker.relay.host", () -> "127.0.0.1");
+		registry.add("socket.broker.relay.port", broker::getPort);
+	}
+
+	@AfterAll
+	static void stopBroker() {
+		broker.close();
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		given(crewMembershipCache.isMember(CREW_ID, MEMBER_ID)).willReturn(true);
+		await(brokerRelay::isBrokerAvailable);
+
+		stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+		stompClient.setMessageConverter(new StringMessageConverter());
+		StompHeaders connectHeaders = new StompHeaders();
+		connectHeaders.add("Authorization",
+			"Bearer " + jwtUtil.createAccessToken(MEMBER_ID, UUID.randomUUID().toString(), Duration.ofMinutes(5)));
+		session = stompClient.connectAsync("ws://localhost:{port}/ws", new WebSocketHttpHeaders(), connectHeaders,
+			new StompSessionHandlerAdapter() {
+			}, port).get(5, TimeUnit.SECONDS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		session.disconnect();
+		stompClient.stop();
+	}
+
+	@DisplayName("RELAY 모드에서 크루 목적지로 보낸 메시지가 외부 브로커를 거쳐 구독자에게 전달된다.")
+	@Test
+	void relayCrewDestination() throws Exception {
+		//given
+		String destination = CrewDestination.RUNNING.of(CREW_ID);
+		CompletableFuture<String> received = subscribe(destination);
+		await(() -> broker.hasSubscription(destination));
+
+		//when
+		messagingTemplate.convertAndSend(destination, "running");
+
+		//then
+		assertThat(received.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+	}
+
+	@DisplayName("RELAY 모드에서 사용자 목적지로 보낸 메시지가 외부 브로커를 거쳐 해당 사용자에게 전달된다.")
+	@Test
+	void relayUserDestination() throws Exception {
+		//given
+		String destination = CrewDestination.MISSION.of(CREW_ID);
+		CompletableFuture<String> received = subscribe("/user" + destination);
+		await(() -> broker.hasSubscription(destination + "-user"));
+
+		//when
+		messagingTemplate.convertAndSendToUser(String.valueOf(MEMBER_ID), destination, "mission");
+
+		//then
+		assertThat(received.get(5, TimeUnit.SECONDS)).isEqualTo("mission");
+	}
+
+	private CompletableFuture<String> subscribe(String destination) {
+		CompletableFuture<String> received = new CompletableFuture<>();
+		session.subscribe(destination, new StompFrameHandler() {
+			@Override
+			public Type getPayloadType(StompHeaders headers) {
+				return String.class;
+			}
+
+			@Override
+			public void handleFrame(StompHeaders headers, Object payload) {
+				received.complete((String)payload);
+			}
+		});
+		return received;
+	}
+
+	private void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (!condition.getAsBoolean()) {
+			assertThat(System.currentTimeMillis()).isLessThan(deadline);
+			Thread.sleep(20);
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package clofi.runningplanet.socket.broker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+// RELAY 모드 테스트용 STOMP 1.2 브로커. 목적지 이름을 그대로 받아 구독자 모두에게 전달한다.
+class EmbeddedStompBroker implements AutoCloseable {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final ServerSocket serverSocket;
+	private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+	private final AtomicLong messageIds = new AtomicLong();
+	private final StompEncoder encoder = new StompEncoder();
+
+	private EmbeddedStompBroker(ServerSocket serverSocket) {
+		this.serverSocket = serverSocket;
+	}
+
+	static EmbeddedStompBroker start() {
+		try {
+			EmbeddedStompBroker broker = new EmbeddedStompBroker(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+			Thread.ofPlatform().daemon().name("embedded-stomp-acceptor").start(broker::accept);
+			return broker;
+		} catch (IOException e) {
+			throw new IllegalStateException("임베디드 STOMP 브로커를 시작할 수 없습니다.", e);
+		}
+	}
+
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	boolean hasSubscription(String destinationPrefix) {
+		return connections.stream()
+			.flatMap(connection -> connection.subscriptions.values().stream())
+			.anyMatch(destination -> destination.startsWith(destinationPrefix));
+	}
+
+	@Override
+	public void close() {
+		try {
+			serverSocket.close();
+		} catch (IOException ignored) {
+		}
+		connections.forEach(Connection::close);
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Connection connection = new Connection(serverSocket.accept());
+				connections.add(connection);
+				Thread.ofPlatform().daemon().name("embedded-stomp-connection").start(connection::read);
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void publish(StompHeaderAccessor send, byte[] payload) {
+		for (Connection connection : connections) {
+			connection.subscriptions.forEach((subscriptionId, destination) -> {
+				if (destination.equals(send.getDestination())) {
+					StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+					accessor.setDestination(destination);
+					accessor.setSubscriptionId(subscriptionId);
+					accessor.setMessageId(String.valueOf(messageIds.incrementAndGet()));
+					if (send.getContentType() != null) {
+						accessor.setContentType(send.getContentType());
+					}
+					connection.write(accessor, payload);
+				}
+			});
+		}
+	}
+
+	private class Connection {
+		private final Socket socket;
+		private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+		private final StompDecoder decoder = new StompDecoder();
+
+		private Connection(Socket socket) {
+			this.socket = socket;
+		}
+
+		private void read() {
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			byte[] chunk = new byte[BUFFER_SIZE];
+			try (InputStream in = socket.getInputStream()) {
+				int read;
+				while ((read = in.read(chunk)) != -1) {
+					buffer.put(chunk, 0, read);
+					buffer.flip();
+					// 완성되지 않은 프레임은 버퍼에 남겨 두고 다음 읽기와 이어 붙인다.
+					List<Message<byte[]>> frames = decoder.decode(buffer);
+					buffer.compact();
+					frames.forEach(this::handle);
+				}
+			} catch (IOException ignored) {
+			} finally {
+				close();
+			}
+		}
+
+		private void handle(Message<byte[]> frame) {
+			StompHeaderAccessor accessor = StompHeaderAccessor.wrap(frame);
+			StompCommand command = accessor.getCommand();
+			if (command == null) {
+				return;
+			}
+			if (accessor.getReceipt() != null) {
+				StompHeaderAccessor receipt = StompHeaderAccessor.create(StompCommand.RECEIPT);
+				receipt.setReceiptId(accessor.getReceipt());
+				write(receipt, new byte[0]);
+			}
+			switch (command) {
+				case CONNECT, STOMP -> connected();
+				case SUBSCRIBE -> subscriptions.put(accessor.getSubscriptionId(), accessor.getDestination());
+				case UNSUBSCRIBE -> subscriptions.remove(accessor.getSubscriptionId());
+				case SEND -> publish(accessor, frame.getPayload());
+				case DISCONNECT -> close();
+				default -> {
+				}
+			}
+		}
+
+		private void connected() {
+			StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECTED);
+			accessor.setVersion("1.2");
+			accessor.setHeartbeat(0, 0);
+			write(accessor, new byte[0]);
+		}
+
+		private synchronized void write(StompHeaderAccessor accessor, byte[] payload) {
+			try {
+				OutputStream out = socket.getOutputStream();
+				out.write(encoder.encode(MessageBuilder.createMessage(payload, accessor.getMessageHeaders())));
+				out.flush();
+			} catch (IOException e) {
+				close();
+			}
+		}
+
+		private void close() {
+			connections.remove(this);
+			try {
+				socket.close();
+			} catch (IOException ignored) {
+			}
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package clofi.runningplanet.socket.presence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.security.Principal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import clofi.runningplanet.socket.broker.BrokerMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CrewPresenceRegistryTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CrewPresenceRegistry crewPresenceRegistry = new CrewPresenceRegistry(BrokerMode.SIMPLE,
+		meterRegistry);
+
+	@DisplayName("크루 목적지를 구독하면 접속 회원과 구독자 수가 기록된다.")
+	@Test
+	void subscribe() {
+		//when
+		crewPresenceRegistry.subscribe(subscribeEvent("s1", "sub-0", 1L, "/sub/crew/10/running"));
+		crewPresenceRegistry.subscribe(subscribeEvent("s1", "sub-1", 1L, "/sub/crew/10/chat"));
+		crewPresenceRegistry.subscribe(subscribeEvent("s2", "sub-0", 2L, "/sub/crew/10/running"));
+		crewPresenceRegistry.subscribe(subscribeEvent("s3", "sub-0", 3L, "/user/sub/crew/20/cheer"));
+
+		//then
+		assertThat(crewPresenceRegistry.findOnlineMembers(10L)).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(crewPresenceRegistry.findOnlineMembers(20L)).containsExactly(3L);
+		assertThat(crewPresenceRegistry.hasSubscribers("/sub/crew/10/running")).isTrue();
+		assertThat(crewPresenceRegistry.hasSubscribers("/sub/crew/30/running")).isFalse();
+		assertThat(crewPresenceRegistry.hasUserSubscribers(3L, "/sub/crew/20/cheer")).isTrue();
+		assertThat(crewPresenceRegistry.hasUserSubscribers(4L, "/sub/crew/20/cheer")).isFalse();
+		assertThat(meterRegistry.get("websocket.presence.sessions").gauge().value()).isEqualTo(3);
+	}
+
+	@DisplayName("구독을 취소하거나 연결이 끊기면 남은 구독이 없는 회원은 접속 목록에서 제외된다.")
+	@Test
+	void unsubscribeAndDisconnect() {
+		//given
+		crewPresenceRegistry.subscribe(subscribeEvent("s1", "sub-0", 1L, "/sub/crew/10/running"));
+		crewPresenceRegistry.subscribe(subscribeEvent("s1", "sub-1", 1L, "/sub/crew/10/chat"));
+		crewPresenceRegistry.subscribe(subscribeEvent("s2", "sub-0", 2L, "/sub/crew/10/running"));
+
+		//when
+		crewPresenceRegistry.unsubscribe(unsubscribeEvent("s1", "sub-0", 1L));
+		boolean stillOnline = crewPresenceRegistry.findOnlineMembers(10L).contains(1L);
+		crewPresenceRegistry.disconnect(disconnectEvent("s1", 1L));
+		crewPresenceRegistry.disconnect(disconnectEvent("s2", 2L));
+
+		//then
+		assertThat(stillOnline).isTrue();
+		assertThat(crewPresenceRegistry.findOnlineMembers(10L)).isEmpty();
+		assertThat(crewPresenceRegistry.hasSubscribers("/sub/crew/10/running")).isFalse();
+		assertThat(meterRegistry.get("websocket.presence.crews").gauge().value()).isZero();
+	}
+
+	@DisplayName("외부 브로커를 쓰면 다른 노드의 구독을 알 수 없으므로 항상 구독자가 있다고 판단한다.")
+	@Test
+	void alwaysHasSubscribersWithExternalBroker() {
+		//given
+		CrewPresenceRegistry relayRegistry = new CrewPresenceRegistry(BrokerMode.RELAY, new SimpleMeterRegistry());
+
+		//when
+		//then
+		assertThat(relayRegistry.hasSubscribers("/sub/crew/10/running")).isTrue();
+		assertThat(relayRegistry.hasUserSubscribers(1L, "/sub/crew/10/cheer")).isTrue();
+	}
+
+	private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, Long memberId,
+		String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination(destination);
+		return new SessionSubscribeEvent(this, message(accessor), principal(memberId));
+	}
+
+	private SessionUnsubscribeEvent unsubscribeEvent(String sessionId, String subscriptionId, Long memberId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		return new SessionUnsubscribeEvent(this, message(accessor), principal(memberId));
+	}
+
+	private SessionDisconnectEvent disconnectEvent(String sessionId, Long memberId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+		accessor.setSessionId(sessionId);
+		return new SessionDisconnectEvent(this, message(accessor), sessionId, CloseStatus.NORMAL,
+			principal(memberId));
+	}
+
+	private Message<byte[]> message(StompHeaderAccessor accessor) {
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private Principal principal(Long memberId) {
+		return () -> String.valueOf(memberId);
+	}
+}